@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import org.springframework.util.CollectionUtils;
+
+import com.avispl.symphony.api.dal.control.Controller;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerConstant;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.PollingRound;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.ThreadSupport;
+import com.avispl.symphony.dal.communicator.SshCommunicator;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * EasyIPMixerAggregatorCommunicator manages a fleet of Vaddio EasyIP mixers as aggregated devices.
+ * Every mixer is handled by its own {@link EasyIPMixerCommunicator}, polled in the background on a pool of the aggregator
+ * with at most {@link #maxConcurrentPolls} mixers polled at the same time. The polls don't run on the shared scheduler,
+ * so the controls and asynchronous operations of a mixer aren't queued behind its poll.
+ * The login, password and port of the aggregator are used for every mixer.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class EasyIPMixerAggregatorCommunicator extends SshCommunicator implements Aggregator, Monitorable, Controller {
+
+	/**
+	 * Adapter of every mixer, by device id
+	 */
+	private final Map<String, EasyIPMixerCommunicator> devices = new ConcurrentHashMap<>();
+
+	/**
+	 * Last statistics of every mixer, by device id
+	 */
+	private final Map<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
+
+	/**
+	 * Polling round of the mixers
+	 */
+	private final PollingRound pollingRound = new PollingRound(this::pollDevice);
+
+	/**
+	 * Pool running the polls of the mixers, sized by {@link #concurrentPollBudget}
+	 */
+	private ExecutorService pollExecutor;
+
+	/**
+	 * Number of threads of {@link #pollExecutor}
+	 */
+	private int pollExecutorSize;
+
+	/**
+	 * deviceHosts imported from the user interface, comma-separated hosts of the mixers with an optional port
+	 */
+	private String deviceHosts;
+
+	/**
+	 * maxConcurrentPolls imported from the user interface, maximum number of mixers polled at the same time
+	 */
+	private String maxConcurrentPolls;
+
+	/**
+	 * Maximum number of mixers polled at the same time
+	 */
+	private int concurrentPollBudget = EasyIPMixerConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+
+	/**
+	 * configManagement imported from the user interface, applied to every mixer
+	 */
+	private String configManagement;
+
+	/**
+	 * enableCrosspointGain imported from the user interface, applied to every mixer
+	 */
+	private String enableCrosspointGain;
+
+	/**
+	 * Retrieves {@link #deviceHosts}
+	 *
+	 * @return value of {@link #deviceHosts}
+	 */
+	public String getDeviceHosts() {
+		return deviceHosts;
+	}
+
+	/**
+	 * Sets {@link #deviceHosts} value
+	 *
+	 * @param deviceHosts new value of {@link #deviceHosts}
+	 */
+	public void setDeviceHosts(String deviceHosts) {
+		this.deviceHosts = deviceHosts;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentPolls}
+	 *
+	 * @return value of {@link #maxConcurrentPolls}
+	 */
+	public String getMaxConcurrentPolls() {
+		return maxConcurrentPolls;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentPolls} value
+	 *
+	 * @param maxConcurrentPolls new value of {@link #maxConcurrentPolls}
+	 */
+	public void setMaxConcurrentPolls(String maxConcurrentPolls) {
+		this.maxConcurrentPolls = maxConcurrentPolls;
+	}
+
+	/**
+	 * Retrieves {@link #configManagement}
+	 *
+	 * @return value of {@link #configManagement}
+	 */
+	public String getConfigManagement() {
+		return configManagement;
+	}
+
+	/**
+	 * Sets {@link #configManagement} value
+	 *
+	 * @param configManagement new value of {@link #configManagement}
+	 */
+	public void setConfigManagement(String configManagement) {
+		this.configManagement = configManagement;
+	}
+
+	/**
+	 * Retrieves {@link #enableCrosspointGain}
+	 *
+	 * @return value of {@link #enableCrosspointGain}
+	 */
+	public String getEnableCrosspointGain() {
+		return enableCrosspointGain;
+	}
+
+	/**
+	 * Sets {@link #enableCrosspointGain} value
+	 *
+	 * @param enableCrosspointGain new value of {@link #enableCrosspointGain}
+	 */
+	public void setEnableCrosspointGain(String enableCrosspointGain) {
+		this.enableCrosspointGain = enableCrosspointGain;
+	}
+
+	/**
+	 * EasyIPMixerAggregatorCommunicator constructor
+	 */
+	public EasyIPMixerAggregatorCommunicator() {
+		this.setCommandErrorList(Collections.singletonList("Syntax error: Unknown or incomplete command"));
+		this.setCommandSuccessList(Collections.singletonList("> "));
+		this.setLoginSuccessList(Collections.singletonList("> "));
+		this.setLoginErrorList(Collections.singletonList("Permission denied, please try again."));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		convertMaxConcurrentPolls();
+		long onlineDevices = aggregatedDevices.values().stream().filter(item -> Boolean.TRUE.equals(item.getDeviceOnline())).count();
+		stats.put(EasyIPMixerConstant.AGGREGATOR_GROUP + EasyIPMixerConstant.DEVICE_COUNT, String.valueOf(devices.size()));
+		stats.put(EasyIPMixerConstant.AGGREGATOR_GROUP + EasyIPMixerConstant.ONLINE_DEVICE_COUNT, String.valueOf(onlineDevices));
+		stats.put(EasyIPMixerConstant.AGGREGATOR_GROUP + EasyIPMixerConstant.POLLING_DEVICES, String.valueOf(pollingRound.getPollingCount()));
+		stats.put(EasyIPMixerConstant.AGGREGATOR_GROUP + EasyIPMixerConstant.MAX_CONCURRENT_POLLS, String.valueOf(concurrentPollBudget));
+		stats.put(EasyIPMixerConstant.AGGREGATOR_GROUP + EasyIPMixerConstant.LAST_POLLING_ROUND_DURATION, String.valueOf(pollingRound.getLastDuration()));
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the last statistics of every mixer and starts a new polling round if the previous one completed.
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		convertMaxConcurrentPolls();
+		synchronizeDevices();
+		if (!pollingRound.isRunning()) {
+			pollingRound.start(new ArrayList<>(devices.keySet()), concurrentPollBudget, getPollExecutor());
+		}
+		return devices.keySet().stream().map(aggregatedDevices::get).filter(item -> item != null).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		return retrieveMultipleStatistics().stream().filter(item -> deviceIds.contains(item.getDeviceId())).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String deviceId = controllableProperty.getDeviceId();
+		EasyIPMixerCommunicator device = deviceId == null ? null : devices.get(deviceId);
+		if (device == null) {
+			throw new IllegalArgumentException(String.format("Can't control %s, unknown device %s", controllableProperty.getProperty(), deviceId));
+		}
+		device.controlProperty(controllableProperty);
+		updateAggregatedDevice(deviceId, device);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (ControllableProperty p : list) {
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		pollingRound.clear();
+		if (pollExecutor != null) {
+			pollExecutor.shutdownNow();
+			pollExecutor = null;
+		}
+		for (String deviceId : new ArrayList<>(devices.keySet())) {
+			removeDevice(deviceId);
+		}
+		aggregatedDevices.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * Creates the adapters of the mixers added to {@link #deviceHosts} and destroys the adapters of the removed ones.
+	 */
+	private void synchronizeDevices() {
+		Set<String> deviceIds = new LinkedHashSet<>();
+		if (StringUtils.isNotNullOrEmpty(deviceHosts)) {
+			for (String item : deviceHosts.split(EasyIPMixerConstant.COMMA)) {
+				if (StringUtils.isNotNullOrEmpty(item.trim())) {
+					deviceIds.add(item.trim());
+				}
+			}
+		}
+		for (String deviceId : new ArrayList<>(devices.keySet())) {
+			if (!deviceIds.contains(deviceId)) {
+				removeDevice(deviceId);
+			}
+		}
+		for (String deviceId : deviceIds) {
+			if (!devices.containsKey(deviceId)) {
+				addDevice(deviceId);
+			}
+		}
+	}
+
+	/**
+	 * Creates and initializes the adapter of a mixer
+	 *
+	 * @param deviceId the host of the mixer with an optional port
+	 */
+	private void addDevice(String deviceId) {
+		EasyIPMixerCommunicator device = new EasyIPMixerCommunicator();
+		String[] hostAndPort = deviceId.split(EasyIPMixerConstant.COLON);
+		try {
+			device.setHost(hostAndPort[0].trim());
+			device.setPort(hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1].trim()) : getPort());
+			device.setLogin(getLogin());
+			device.setPassword(getPassword());
+			device.setTimeout(getTimeout());
+			device.init();
+			devices.put(deviceId, device);
+		} catch (Exception e) {
+			logger.error(String.format("Can't initialize the adapter of device %s", deviceId), e);
+		}
+	}
+
+	/**
+	 * Destroys the adapter of a mixer
+	 *
+	 * @param deviceId the host of the mixer with an optional port
+	 */
+	private void removeDevice(String deviceId) {
+		EasyIPMixerCommunicator device = devices.remove(deviceId);
+		if (device != null) {
+			device.destroy();
+		}
+		aggregatedDevices.remove(deviceId);
+	}
+
+	/**
+	 * Retrieves {@link #pollExecutor}, the pool is replaced when the concurrency budget changed since the last polling round
+	 *
+	 * @return the pool running the polls of the mixers
+	 */
+	private ExecutorService getPollExecutor() {
+		if (pollExecutor == null || pollExecutorSize != concurrentPollBudget) {
+			if (pollExecutor != null) {
+				pollExecutor.shutdown();
+			}
+			pollExecutor = ThreadSupport.newExecutor(concurrentPollBudget, "EasyIPMixerPoll");
+			pollExecutorSize = concurrentPollBudget;
+		}
+		return pollExecutor;
+	}
+
+	/**
+	 * Polls a mixer and updates its aggregated device, the mixer is reported offline if the poll failed
+	 *
+	 * @param deviceId the host of the mixer with an optional port
+	 */
+	private void pollDevice(String deviceId) {
+		EasyIPMixerCommunicator device = devices.get(deviceId);
+		if (device == null) {
+			return;
+		}
+		try {
+			device.setConfigManagement(configManagement);
+			device.setEnableCrosspointGain(enableCrosspointGain);
+			device.getMultipleStatistics();
+			updateAggregatedDevice(deviceId, device);
+		} catch (Exception e) {
+			logger.error(String.format("Error when polling device %s", deviceId), e);
+			AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				aggregatedDevice.setDeviceOnline(false);
+			}
+		}
+	}
+
+	/**
+	 * Updates the aggregated device from the last statistics of its adapter
+	 *
+	 * @param deviceId the host of the mixer with an optional port
+	 * @param device the adapter of the mixer
+	 */
+	private void updateAggregatedDevice(String deviceId, EasyIPMixerCommunicator device) {
+		ExtendedStatistics extendedStatistics = device.getLastStatistics();
+		if (extendedStatistics == null) {
+			return;
+		}
+		Map<String, String> stats = extendedStatistics.getStatistics() == null ? new HashMap<>() : extendedStatistics.getStatistics();
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(deviceId);
+		aggregatedDevice.setDeviceName(EasyIPMixerConstant.DEVICE_MAKE + EasyIPMixerConstant.SPACE + EasyIPMixerConstant.DEVICE_MODEL + EasyIPMixerConstant.SPACE + deviceId);
+		aggregatedDevice.setDeviceMake(EasyIPMixerConstant.DEVICE_MAKE);
+		aggregatedDevice.setDeviceModel(EasyIPMixerConstant.DEVICE_MODEL);
+		aggregatedDevice.setCategory(EasyIPMixerConstant.DEVICE_TYPE);
+		aggregatedDevice.setDeviceOnline(EasyIPMixerConstant.ONLINE.equals(stats.get(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.CONNECTION_STATE)));
+		aggregatedDevice.setProperties(stats);
+		if (extendedStatistics.getControllableProperties() != null) {
+			aggregatedDevice.setControllableProperties(extendedStatistics.getControllableProperties());
+		}
+		aggregatedDevice.setTimestamp(System.currentTimeMillis());
+		aggregatedDevices.put(deviceId, aggregatedDevice);
+	}
+
+	/**
+	 * This method is used to validate input max concurrent polls from user
+	 */
+	private void convertMaxConcurrentPolls() {
+		int budget = EasyIPMixerConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.maxConcurrentPolls)) {
+				budget = Math.max(1, Integer.parseInt(this.maxConcurrentPolls.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid max concurrent polls %s, use the default value", this.maxConcurrentPolls));
+		}
+		concurrentPollBudget = budget;
+	}
+}
@@ -6,31 +6,49 @@ package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+import java.lang.management.ManagementFactory;
 import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.DecimalFormat;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.icmp4j.IcmpPingRequest;
+import org.icmp4j.IcmpPingResponse;
+import org.icmp4j.IcmpPingUtil;
 import org.springframework.util.CollectionUtils;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.security.auth.login.FailedLoginException;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -38,6 +56,8 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerConstant;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerMapping;
@@ -45,13 +65,44 @@ import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerP
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIpMixerCommand;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.MonitoringCommand;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.NetworkInformation;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PingMode;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingGroup;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.VersionInformation;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.audio.AudioInput;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.audio.AudioOutput;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache.CacheSource;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache.DeviceCapabilityProfile;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache.DeviceStateCache;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache.ReadBackQueue;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache.DeviceStateSnapshot;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera.CameraColorSettings;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera.CameraMotionTracker;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera.GainValueEnum;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera.IrisValueEnum;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera.PresetValueEnum;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection.CircuitState;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection.CommandCircuitBreaker;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection.ConnectionHealthMonitor;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection.RebootMonitor;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.filter.PropertyFilter;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.jmx.EasyIPMixerAdapterMXBean;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics.AdapterMetrics;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics.PollingPhase;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.output.StatisticsCompactor;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneCompiler;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneDefinition;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneResult;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneStep;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneStepOrder;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene.SceneStepStatus;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.CommandPriority;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.PollingAutoTuner;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.PollingWorkQueue;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.PriorityCommandGate;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.ProgressiveStartup;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler.SharedCommandScheduler;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.trace.PollCycleTracer;
 import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.video.SourceValueEnum;
 import com.avispl.symphony.dal.communicator.SshCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
@@ -79,28 +130,53 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 
 	/**
 	 * To avoid timeout errors, caused by the unavailability of the control protocol, all polling-dependent communication operations (monitoring)
-	 * should be performed asynchronously. This executor service executes such operations.
+	 * should be performed asynchronously. This serial lane of the scheduler shared by all adapter instances executes such operations.
 	 */
-	private ExecutorService executorService;
+	private SharedCommandScheduler.DeviceLane commandLane;
 	/**
 	 * Data collector
 	 */
 	private CompletableFuture dataCollector;
 
 	/**
-	 * cache to store key and value
+	 * Validates the capability profile restored at start up
 	 */
-	private final Map<String, String> cacheKeyAndValue = new HashMap<>();
+	private CompletableFuture<Void> profileValidator;
 
 	/**
-	 * count the failed command
+	 * cache to store key and value, with the write time and the source of every value
 	 */
-	private final Map<String, String> failedMonitor = new HashMap<>();
+	private final DeviceStateCache cacheKeyAndValue = new DeviceStateCache(EasyIPMixerConstant.DEFAULT_CACHE_TTL);
 
 	/**
-	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
+	 * count the commands rejected by the device, commands that keep being rejected are skipped and re-probed periodically
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private final CommandCircuitBreaker failedMonitor = new CommandCircuitBreaker(EasyIPMixerConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+			EasyIPMixerConstant.DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL);
+
+	/**
+	 * Command gate to prevent telnet session is closed when adapter is retrieving statistics from the device.
+	 * The monitoring cycle holds the gate at low priority and hands it over to the controls at each command boundary.
+	 */
+	private final PriorityCommandGate commandGate = new PriorityCommandGate();
+
+	/**
+	 * Latency histograms of the commands, polling phases and lock usage
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+
+	/**
+	 * Spans of the recent monitoring cycles, recorded only while the poll tracing is enabled
+	 */
+	private final PollCycleTracer pollCycleTracer = new PollCycleTracer(EasyIPMixerConstant.TRACE_CAPACITY);
+
+	/**
+	 * Span of the last command whose response is being parsed, ended by {@link #endParseSpan()} once the values are extracted
+	 */
+	private String parsedCommand;
+	private long parsedCommandStartTime;
+	private long parsedCommandWait;
+	private int parsedResponseSize;
 
 	/**
 	 * Store previous/current ExtendedStatistics
@@ -122,6 +198,11 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	 */
 	private int currentPollingInterval = 1;
 
+	/**
+	 * Read work of each polling interval
+	 */
+	private List<Set<PollingWork>> pollingPlan = new ArrayList<>();
+
 	/**
 	 * configManagement imported from the user interface
 	 */
@@ -142,11 +223,380 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	 */
 	private boolean isEnableCrosspointGain;
 
+	/**
+	 * includedGroups imported from the user interface, comma-separated prefixes of the groups and channels to keep, empty to keep every group
+	 */
+	private String includedGroups;
+
+	/**
+	 * excludedGroups imported from the user interface, comma-separated prefixes of the groups, channels and camera features to drop
+	 */
+	private String excludedGroups;
+
+	/**
+	 * Groups and channels that are exposed and polled, parsed from {@link #includedGroups} and {@link #excludedGroups}
+	 */
+	private PropertyFilter propertyFilter = new PropertyFilter(null, null);
+
 	/**
 	 * Emergency Delivery in boolean value
 	 */
 	private boolean isEmergencyDelivery;
 
+	/**
+	 * standbyPollingCommands imported from the user interface, comma-separated names of the monitoring commands
+	 * that keep being polled while the system is in standby
+	 */
+	private String standbyPollingCommands;
+
+	/**
+	 * Monitoring commands polled while the system is in standby, in addition to the system standby state
+	 */
+	private final Set<MonitoringCommand> standbyMonitoringCommands = new HashSet<>();
+
+	/**
+	 * isStandbyPolling in boolean value, if true only the standby profile was polled in the current cycle
+	 */
+	private boolean isStandbyPolling;
+
+	/**
+	 * connectionFailureThreshold imported from the user interface, number of consecutive failed commands before the device is considered offline
+	 */
+	private String connectionFailureThreshold;
+
+	/**
+	 * Capability profile of the device: connected cameras, unsupported commands and command latency
+	 */
+	private DeviceCapabilityProfile capabilityProfile;
+
+	/**
+	 * isProfileRevalidationPending in boolean value, if true the camera slots restored from the capability profile must be validated
+	 */
+	private boolean isProfileRevalidationPending;
+
+	/**
+	 * Last time the capability profile was saved
+	 */
+	private long lastProfileSaveTime;
+
+	/**
+	 * enableAdapterMetrics imported from the user interface
+	 */
+	private String enableAdapterMetrics;
+
+	/**
+	 * isEnableAdapterMetrics in boolean value, if true the AdapterMetrics and AdapterDiagnostics groups are displayed
+	 */
+	private boolean isEnableAdapterMetrics;
+
+	/**
+	 * enableStateSnapshot imported from the user interface
+	 */
+	private String enableStateSnapshot;
+
+	/**
+	 * isEnableStateSnapshot in boolean value, if true the last known state is written to disk and served at start up
+	 */
+	private boolean isEnableStateSnapshot;
+
+	/**
+	 * isSnapshotServePending in boolean value, if true the next cycle serves the restored snapshot without polling the device
+	 */
+	private boolean isSnapshotServePending;
+
+	/**
+	 * isRestoredFromSnapshot in boolean value, if true part of the statistics still comes from the restored snapshot
+	 */
+	private boolean isRestoredFromSnapshot;
+
+	/**
+	 * Time of the restored snapshot
+	 */
+	private long snapshotTime;
+
+	/**
+	 * Last time the snapshot was saved
+	 */
+	private long lastSnapshotSaveTime;
+
+	/**
+	 * pingMode imported from the user interface: TCP, ICMP or Passive
+	 */
+	private String pingMode;
+
+	/**
+	 * enablePollTracing imported from the user interface
+	 */
+	private String enablePollTracing;
+
+	/**
+	 * enableProgressiveStartup imported from the user interface, if true the essential state is published first after the adapter starts
+	 */
+	private String enableProgressiveStartup;
+
+	/**
+	 * enableProgressiveStartup in boolean value
+	 */
+	private boolean isProgressiveStartup;
+
+	/**
+	 * isStartupPending in boolean value, if true the next polling cycle is the first one since the adapter started
+	 */
+	private boolean isStartupPending;
+
+	/**
+	 * isStartupPolling in boolean value, if true a stage of the progressive startup was polled in the current cycle
+	 */
+	private boolean isStartupPolling;
+
+	/**
+	 * Polling plan of the first cycles after the adapter starts
+	 */
+	private final ProgressiveStartup progressiveStartup = new ProgressiveStartup();
+
+	/**
+	 * compactOutput imported from the user interface, if true the statistics are published in the compact form
+	 */
+	private String compactOutput;
+
+	/**
+	 * compactOutput in boolean value
+	 */
+	private boolean isCompactOutput;
+
+	/**
+	 * compactRepublishInterval imported from the user interface, delay in seconds before an unchanged statistic is published again
+	 */
+	private String compactRepublishInterval;
+
+	/**
+	 * Compact form of the published statistics
+	 */
+	private final StatisticsCompactor statisticsCompactor = new StatisticsCompactor(TimeUnit.SECONDS.toMillis(EasyIPMixerConstant.DEFAULT_COMPACT_REPUBLISH_INTERVAL));
+
+	/**
+	 * pollingAutoTune imported from the user interface, if true the number of polling intervals follows the measured cost of the read work
+	 */
+	private String pollingAutoTune;
+
+	/**
+	 * pollingAutoTune in boolean value
+	 */
+	private boolean isPollingAutoTune;
+
+	/**
+	 * pollingTargetPercent imported from the user interface, share of the monitoring interval a cycle may spend on the read work
+	 */
+	private String pollingTargetPercent;
+
+	/**
+	 * pollingTargetPercent in int value
+	 */
+	private int pollingTargetPercentValue = EasyIPMixerConstant.DEFAULT_POLLING_TARGET_PERCENT;
+
+	/**
+	 * Measured cost of the read work and interval between two monitoring cycles
+	 */
+	private final PollingAutoTuner pollingAutoTuner = new PollingAutoTuner(EasyIPMixerConstant.DEFAULT_MONITORING_INTERVAL);
+
+	/**
+	 * pollingTimeBudget imported from the user interface, maximum time in milliseconds spent on the read work of a cycle, 0 for no limit
+	 */
+	private String pollingTimeBudget;
+
+	/**
+	 * pollingTimeBudget in long value
+	 */
+	private long pollingTimeBudgetValue;
+
+	/**
+	 * cameraIdlePollingInterval imported from the user interface, delay in seconds between two position polls of an idle camera
+	 */
+	private String cameraIdlePollingInterval;
+
+	/**
+	 * circuitBreakerThreshold imported from the user interface, number of consecutive failures before a command is skipped
+	 */
+	private String circuitBreakerThreshold;
+
+	/**
+	 * circuitBreakerRetryInterval imported from the user interface, delay in milliseconds before a skipped command is re-probed
+	 */
+	private String circuitBreakerRetryInterval;
+
+	/**
+	 * sceneDefinitions imported from the user interface, scenes in the format Name:property=value;property=value|Name:property=value
+	 */
+	private String sceneDefinitions;
+
+	/**
+	 * sceneRollback imported from the user interface, if true the applied steps of a scene are reverted when a step fails
+	 */
+	private String sceneRollback;
+
+	/**
+	 * sceneRollback in boolean value
+	 */
+	private boolean isSceneRollback;
+
+	/**
+	 * Scenes parsed from {@link #sceneDefinitions}, by name in the configured order
+	 */
+	private final Map<String, SceneDefinition> sceneDefinitionMap = new LinkedHashMap<>();
+
+	/**
+	 * Report of the last applied scene
+	 */
+	private SceneResult lastSceneResult;
+
+	/**
+	 * desiredState imported from the user interface, settings the device is held to in the format property=value;property=value
+	 */
+	private String desiredState;
+
+	/**
+	 * reconciliationInterval imported from the user interface, delay in seconds between two reconciliations of the desired state, 0 to disable
+	 */
+	private String reconciliationInterval;
+
+	/**
+	 * reconciliationInterval in long value, in milliseconds
+	 */
+	private long reconciliationIntervalValue;
+
+	/**
+	 * Settings parsed from {@link #desiredState}, in the configured order
+	 */
+	private volatile Map<String, String> desiredStateMap = Collections.emptyMap();
+
+	/**
+	 * Time of the last reconciliation of the desired state
+	 */
+	private long lastReconciliationTime;
+
+	/**
+	 * isReconciliationScheduled in boolean value, if true the reconciliation is already queued on the command lane
+	 */
+	private final AtomicBoolean isReconciliationScheduled = new AtomicBoolean();
+
+	/**
+	 * Number of settings written by the reconciliations and acknowledged by the device, the settings that drifted from the desired state
+	 */
+	private final AtomicLong reconciledWriteCount = new AtomicLong();
+
+	/**
+	 * isSceneRunning in boolean value, if true the steps of a scene are applied and every control is sent synchronously
+	 */
+	private boolean isSceneRunning;
+
+	/**
+	 * Report of the last reconciliation of the desired state
+	 */
+	private SceneResult lastReconciliationResult;
+
+	/**
+	 * Reads verifying the values written by the controls, run in batches on the command lane
+	 */
+	private final ReadBackQueue readBackQueue = new ReadBackQueue();
+
+	/**
+	 * isReadBackScheduled in boolean value, if true the verifier is already queued on the command lane
+	 */
+	private final AtomicBoolean isReadBackScheduled = new AtomicBoolean();
+
+	/**
+	 * Number of read-backs that didn't match the value written by the control
+	 */
+	private final AtomicLong readBackMismatchCount = new AtomicLong();
+
+	/**
+	 * Number of controls acknowledged without sending the command, the device already had the requested value
+	 */
+	private final AtomicLong suppressedControlCount = new AtomicLong();
+
+	/**
+	 * Number of control commands acknowledged by the device
+	 */
+	private final AtomicLong acknowledgedControlCount = new AtomicLong();
+
+	/**
+	 * Detects the device outage and schedules the recovery probes
+	 */
+	private final ConnectionHealthMonitor connectionHealthMonitor = new ConnectionHealthMonitor(EasyIPMixerConstant.DEFAULT_CONNECTION_FAILURE_THRESHOLD,
+			EasyIPMixerConstant.PROBE_INITIAL_BACKOFF, EasyIPMixerConstant.PROBE_MAX_BACKOFF);
+
+	/**
+	 * Decides when the position of each camera is polled: every cycle while the camera moves, at the idle rate otherwise
+	 */
+	private final CameraMotionTracker cameraMotionTracker = new CameraMotionTracker(EasyIPMixerConstant.CAMERA_STABLE_READINGS, EasyIPMixerConstant.CAMERA_MIN_MOTION_WINDOW, EasyIPMixerConstant.CAMERA_MOTION_TIMEOUT,
+			EasyIPMixerConstant.DEFAULT_CAMERA_IDLE_POLLING_INTERVAL * 1000L);
+
+	/**
+	 * Read work that is due but not done yet, carried over between cycles when the polling time budget is used up
+	 */
+	private final PollingWorkQueue pollingWorkQueue = new PollingWorkQueue();
+
+	/**
+	 * Read work that is running, null outside of the polling work
+	 */
+	private PollingWork currentPollingWork;
+
+	/**
+	 * End of the polling time budget of the cycle, in nanoseconds
+	 */
+	private long pollingDeadline;
+
+	/**
+	 * Number of polling steps completed in the cycle
+	 */
+	private int pollingStepCount;
+
+	/**
+	 * isPollingWorkInterrupted in boolean value, if true the running work skipped its remaining steps because the time budget is used up
+	 */
+	private boolean isPollingWorkInterrupted;
+
+	/**
+	 * Time spent on the read work that was interrupted by the time budget, in milliseconds
+	 */
+	private final Map<PollingWork, Long> interruptedWorkCosts = new EnumMap<>(PollingWork.class);
+
+	/**
+	 * isPositionRefreshRequested in boolean value, if true the next camera position work retrieves every active camera
+	 */
+	private boolean isPositionRefreshRequested;
+
+	/**
+	 * Tracks the reboot requested by the adapter, polling is suspended until the device accepts a session again
+	 */
+	private final RebootMonitor rebootMonitor = new RebootMonitor(EasyIPMixerConstant.REBOOT_INITIAL_DELAY, EasyIPMixerConstant.REBOOT_PROBE_INITIAL_BACKOFF,
+			EasyIPMixerConstant.REBOOT_PROBE_MAX_BACKOFF, EasyIPMixerConstant.REBOOT_TIMEOUT);
+
+	/**
+	 * Refresh period of the polling groups in polling sweeps, a group without a period is refreshed on every sweep
+	 */
+	private final Map<PollingGroup, Integer> groupRefreshPeriods = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of completed polling sweeps
+	 */
+	private long pollingSweepCount;
+
+	/**
+	 * isFullRefreshRequested in boolean value, if true the next cycle retrieves every polling interval
+	 */
+	private volatile boolean isFullRefreshRequested;
+
+	/**
+	 * Number of SSH sessions opened by the adapter
+	 */
+	private final AtomicLong sshSessionCount = new AtomicLong();
+
+	/**
+	 * Name of the MXBean registered for this adapter instance
+	 */
+	private ObjectName mxBeanName;
+
 	/**
 	 * Retrieves {@link #configManagement}
 	 *
@@ -184,551 +634,1985 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	}
 
 	/**
-	 * MiddleAtlanticPowerUnitCommunicator constructor
+	 * Retrieves {@link #includedGroups}
+	 *
+	 * @return value of {@link #includedGroups}
 	 */
-	public EasyIPMixerCommunicator() {
-		this.setCommandErrorList(Collections.singletonList("Syntax error: Unknown or incomplete command"));
-		this.setCommandSuccessList(Collections.singletonList("> "));
-		this.setLoginSuccessList(Collections.singletonList("> "));
-		this.setLoginErrorList(Collections.singletonList("Permission denied, please try again."));
+	public String getIncludedGroups() {
+		return includedGroups;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #includedGroups} value
+	 *
+	 * @param includedGroups new value of {@link #includedGroups}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-		Map<String, String> stats = new HashMap<>();
-		Map<String, String> controlStats = new HashMap<>();
-		reentrantLock.lock();
-		try {
-			if (!isEmergencyDelivery) {
-				convertConfigManagement();
-				convertEnableCrosspointGain();
-				retrieveAllData();
-				populateAllData(stats, controlStats, advancedControllableProperties);
-				if (isConfigManagement) {
-					stats.putAll(controlStats);
-					extendedStatistics.setControllableProperties(advancedControllableProperties);
-				}
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
-			}
-			isEmergencyDelivery = false;
+	public void setIncludedGroups(String includedGroups) {
+		this.includedGroups = includedGroups;
+	}
+
+	/**
+	 * Retrieves {@link #excludedGroups}
+	 *
+	 * @return value of {@link #excludedGroups}
+	 */
+	public String getExcludedGroups() {
+		return excludedGroups;
+	}
+
+	/**
+	 * Sets {@link #excludedGroups} value
+	 *
+	 * @param excludedGroups new value of {@link #excludedGroups}
+	 */
+	public void setExcludedGroups(String excludedGroups) {
+		this.excludedGroups = excludedGroups;
+	}
+
+	/**
+	 * Retrieves {@link #standbyPollingCommands}
+	 *
+	 * @return value of {@link #standbyPollingCommands}
+	 */
+	public String getStandbyPollingCommands() {
+		return standbyPollingCommands;
+	}
+
+	/**
+	 * Sets {@link #standbyPollingCommands} value
+	 *
+	 * @param standbyPollingCommands new value of {@link #standbyPollingCommands}
+	 */
+	public void setStandbyPollingCommands(String standbyPollingCommands) {
+		this.standbyPollingCommands = standbyPollingCommands;
+	}
+
+	/**
+	 * Retrieves {@link #connectionFailureThreshold}
+	 *
+	 * @return value of {@link #connectionFailureThreshold}
+	 */
+	public String getConnectionFailureThreshold() {
+		return connectionFailureThreshold;
+	}
+
+	/**
+	 * Sets {@link #connectionFailureThreshold} value
+	 *
+	 * @param connectionFailureThreshold new value of {@link #connectionFailureThreshold}
+	 */
+	public void setConnectionFailureThreshold(String connectionFailureThreshold) {
+		this.connectionFailureThreshold = connectionFailureThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public String getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(String circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerRetryInterval}
+	 *
+	 * @return value of {@link #circuitBreakerRetryInterval}
+	 */
+	public String getCircuitBreakerRetryInterval() {
+		return circuitBreakerRetryInterval;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerRetryInterval} value
+	 *
+	 * @param circuitBreakerRetryInterval new value of {@link #circuitBreakerRetryInterval}
+	 */
+	public void setCircuitBreakerRetryInterval(String circuitBreakerRetryInterval) {
+		this.circuitBreakerRetryInterval = circuitBreakerRetryInterval;
+	}
+
+	/**
+	 * Retrieves {@link #enableStateSnapshot}
+	 *
+	 * @return value of {@link #enableStateSnapshot}
+	 */
+	public String getEnableStateSnapshot() {
+		return enableStateSnapshot;
+	}
+
+	/**
+	 * Sets {@link #enableStateSnapshot} value
+	 *
+	 * @param enableStateSnapshot new value of {@link #enableStateSnapshot}
+	 */
+	public void setEnableStateSnapshot(String enableStateSnapshot) {
+		this.enableStateSnapshot = enableStateSnapshot;
+	}
+
+	/**
+	 * Retrieves {@link #enableAdapterMetrics}
+	 *
+	 * @return value of {@link #enableAdapterMetrics}
+	 */
+	public String getEnableAdapterMetrics() {
+		return enableAdapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #enableAdapterMetrics} value
+	 *
+	 * @param enableAdapterMetrics new value of {@link #enableAdapterMetrics}
+	 */
+	public void setEnableAdapterMetrics(String enableAdapterMetrics) {
+		this.enableAdapterMetrics = enableAdapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #enablePollTracing}
+	 *
+	 * @return value of {@link #enablePollTracing}
+	 */
+	public String getEnablePollTracing() {
+		return enablePollTracing;
+	}
+
+	/**
+	 * Sets {@link #enablePollTracing} value
+	 *
+	 * @param enablePollTracing new value of {@link #enablePollTracing}
+	 */
+	public void setEnablePollTracing(String enablePollTracing) {
+		this.enablePollTracing = enablePollTracing;
+	}
+
+	/**
+	 * Retrieves {@link #enableProgressiveStartup}
+	 *
+	 * @return value of {@link #enableProgressiveStartup}
+	 */
+	public String getEnableProgressiveStartup() {
+		return enableProgressiveStartup;
+	}
+
+	/**
+	 * Sets {@link #enableProgressiveStartup} value
+	 *
+	 * @param enableProgressiveStartup new value of {@link #enableProgressiveStartup}
+	 */
+	public void setEnableProgressiveStartup(String enableProgressiveStartup) {
+		this.enableProgressiveStartup = enableProgressiveStartup;
+	}
+
+	/**
+	 * Retrieves {@link #compactOutput}
+	 *
+	 * @return value of {@link #compactOutput}
+	 */
+	public String getCompactOutput() {
+		return compactOutput;
+	}
+
+	/**
+	 * Sets {@link #compactOutput} value
+	 *
+	 * @param compactOutput new value of {@link #compactOutput}
+	 */
+	public void setCompactOutput(String compactOutput) {
+		this.compactOutput = compactOutput;
+	}
+
+	/**
+	 * Retrieves {@link #compactRepublishInterval}
+	 *
+	 * @return value of {@link #compactRepublishInterval}
+	 */
+	public String getCompactRepublishInterval() {
+		return compactRepublishInterval;
+	}
+
+	/**
+	 * Sets {@link #compactRepublishInterval} value
+	 *
+	 * @param compactRepublishInterval new value of {@link #compactRepublishInterval}
+	 */
+	public void setCompactRepublishInterval(String compactRepublishInterval) {
+		this.compactRepublishInterval = compactRepublishInterval;
+	}
+
+	/**
+	 * Retrieves {@link #pollingAutoTune}
+	 *
+	 * @return value of {@link #pollingAutoTune}
+	 */
+	public String getPollingAutoTune() {
+		return pollingAutoTune;
+	}
+
+	/**
+	 * Sets {@link #pollingAutoTune} value
+	 *
+	 * @param pollingAutoTune new value of {@link #pollingAutoTune}
+	 */
+	public void setPollingAutoTune(String pollingAutoTune) {
+		this.pollingAutoTune = pollingAutoTune;
+	}
+
+	/**
+	 * Retrieves {@link #pollingTargetPercent}
+	 *
+	 * @return value of {@link #pollingTargetPercent}
+	 */
+	public String getPollingTargetPercent() {
+		return pollingTargetPercent;
+	}
+
+	/**
+	 * Sets {@link #pollingTargetPercent} value
+	 *
+	 * @param pollingTargetPercent new value of {@link #pollingTargetPercent}
+	 */
+	public void setPollingTargetPercent(String pollingTargetPercent) {
+		this.pollingTargetPercent = pollingTargetPercent;
+	}
+
+	/**
+	 * Retrieves {@link #pollingTimeBudget}
+	 *
+	 * @return value of {@link #pollingTimeBudget}
+	 */
+	public String getPollingTimeBudget() {
+		return pollingTimeBudget;
+	}
+
+	/**
+	 * Sets {@link #pollingTimeBudget} value
+	 *
+	 * @param pollingTimeBudget new value of {@link #pollingTimeBudget}
+	 */
+	public void setPollingTimeBudget(String pollingTimeBudget) {
+		this.pollingTimeBudget = pollingTimeBudget;
+	}
+
+	/**
+	 * Retrieves {@link #cameraIdlePollingInterval}
+	 *
+	 * @return value of {@link #cameraIdlePollingInterval}
+	 */
+	public String getCameraIdlePollingInterval() {
+		return cameraIdlePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #cameraIdlePollingInterval} value
+	 *
+	 * @param cameraIdlePollingInterval new value of {@link #cameraIdlePollingInterval}
+	 */
+	public void setCameraIdlePollingInterval(String cameraIdlePollingInterval) {
+		this.cameraIdlePollingInterval = cameraIdlePollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #sceneDefinitions}
+	 *
+	 * @return value of {@link #sceneDefinitions}
+	 */
+	public String getSceneDefinitions() {
+		return sceneDefinitions;
+	}
+
+	/**
+	 * Sets {@link #sceneDefinitions} value
+	 *
+	 * @param sceneDefinitions new value of {@link #sceneDefinitions}
+	 */
+	public void setSceneDefinitions(String sceneDefinitions) {
+		this.sceneDefinitions = sceneDefinitions;
+	}
+
+	/**
+	 * Retrieves {@link #sceneRollback}
+	 *
+	 * @return value of {@link #sceneRollback}
+	 */
+	public String getSceneRollback() {
+		return sceneRollback;
+	}
+
+	/**
+	 * Sets {@link #sceneRollback} value
+	 *
+	 * @param sceneRollback new value of {@link #sceneRollback}
+	 */
+	public void setSceneRollback(String sceneRollback) {
+		this.sceneRollback = sceneRollback;
+	}
+
+	/**
+	 * Retrieves {@link #desiredState}
+	 *
+	 * @return value of {@link #desiredState}
+	 */
+	public String getDesiredState() {
+		return desiredState;
+	}
+
+	/**
+	 * Sets {@link #desiredState} value
+	 *
+	 * @param desiredState new value of {@link #desiredState}
+	 */
+	public void setDesiredState(String desiredState) {
+		this.desiredState = desiredState;
+	}
+
+	/**
+	 * Retrieves {@link #reconciliationInterval}
+	 *
+	 * @return value of {@link #reconciliationInterval}
+	 */
+	public String getReconciliationInterval() {
+		return reconciliationInterval;
+	}
+
+	/**
+	 * Sets {@link #reconciliationInterval} value
+	 *
+	 * @param reconciliationInterval new value of {@link #reconciliationInterval}
+	 */
+	public void setReconciliationInterval(String reconciliationInterval) {
+		this.reconciliationInterval = reconciliationInterval;
+	}
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode;
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = pingMode;
+	}
+
+	/**
+	 * MiddleAtlanticPowerUnitCommunicator constructor
+	 */
+	public EasyIPMixerCommunicator() {
+		this.setCommandErrorList(Collections.singletonList("Syntax error: Unknown or incomplete command"));
+		this.setCommandSuccessList(Collections.singletonList("> "));
+		this.setLoginSuccessList(Collections.singletonList("> "));
+		this.setLoginErrorList(Collections.singletonList("Permission denied, please try again."));
+		cacheKeyAndValue.setGroupTtl(EasyIPMixerConstant.NETWORK_GROUP, EasyIPMixerConstant.STATIC_CACHE_TTL);
+		cacheKeyAndValue.setGroupTtl(EasyIPMixerConstant.SYSTEM_INFORMATION_GROUP, EasyIPMixerConstant.STATIC_CACHE_TTL);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		long lockTime = lockWithMetrics(CommandPriority.LOW);
+		try {
+			boolean isMonitoringCycle = !isEmergencyDelivery;
+			if (!isEmergencyDelivery) {
+				convertConfigManagement();
+				convertEnableCrosspointGain();
+				convertPropertyFilter();
+				convertStandbyPollingCommands();
+				convertConnectionFailureThreshold();
+				convertCircuitBreaker();
+				convertEnableStateSnapshot();
+				convertEnableAdapterMetrics();
+				convertEnablePollTracing();
+				convertEnableProgressiveStartup();
+				convertCameraIdlePollingInterval();
+				convertPollingTimeBudget();
+				convertPollingAutoTune();
+				convertCompactOutput();
+				convertSceneDefinitions();
+				convertSceneRollback();
+				convertDesiredState();
+				convertReconciliationInterval();
+				pollCycleTracer.beginCycle();
+				pollingAutoTuner.recordCycleStart(System.currentTimeMillis());
+				long cycleStartTime = System.nanoTime();
+				boolean isServingSnapshot = isSnapshotServePending;
+				isSnapshotServePending = false;
+				if (!isRebootCompleted()) {
+					populateLastKnownStatistics();
+				} else if (isServingSnapshot || isDeviceReachable()) {
+					try {
+						if (isServingSnapshot) {
+							getNumOfPollingInterval();
+						} else {
+							retrieveAllData();
+						}
+						long populateStartTime = System.nanoTime();
+						populateAllData(stats, controlStats, advancedControllableProperties);
+						recordPhase(PollingPhase.POPULATE_DATA, populateStartTime);
+						if (isServingSnapshot) {
+							currentPollingInterval = 1;
+						} else if (currentPollingInterval == 1) {
+							isRestoredFromSnapshot = false;
+							saveStateSnapshot(false);
+						}
+						if (isConfigManagement) {
+							stats.putAll(controlStats);
+							populateSceneData(stats, advancedControllableProperties);
+							extendedStatistics.setControllableProperties(advancedControllableProperties);
+						}
+						populateConnectionState(stats);
+						recordPhase(PollingPhase.CYCLE, cycleStartTime);
+						if (isEnableAdapterMetrics) {
+							populateAdapterDiagnostics(stats);
+							adapterMetrics.populate(stats);
+						}
+						extendedStatistics.setStatistics(stats);
+						localExtendedStatistics = extendedStatistics;
+						saveCapabilityProfile(false);
+						scheduleReconciliation();
+					} catch (ResourceNotReachableException e) {
+						adapterMetrics.recordPhaseError(PollingPhase.CYCLE);
+						logger.error(String.format("Abort the monitoring cycle, device %s is unreachable", host), e);
+					}
+				}
+				pollingAutoTuner.recordCycleEnd(System.currentTimeMillis());
+				if (connectionHealthMonitor.isOffline()) {
+					populateLastKnownStatistics();
+				}
+			}
+			isEmergencyDelivery = false;
+			return Collections.singletonList(getPublishedStatistics(isMonitoringCycle));
+		} finally {
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * Retrieves the statistics published to Symphony and records the size of the payload.
+	 * In the compact output mode the CurrentValue statistics are dropped, the group prefixes are shortened,
+	 * and on a monitoring cycle the unchanged statistics are only published once the republish interval has elapsed.
+	 * Out of the compact output mode the statistics are published as they are, the payload size is only added when the adapter metrics are enabled.
+	 *
+	 * @param isMonitoringCycle true if the statistics are published by a monitoring cycle, false for an emergency delivery
+	 * @return the statistics to publish
+	 */
+	private ExtendedStatistics getPublishedStatistics(boolean isMonitoringCycle) {
+		if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
+			return localExtendedStatistics;
+		}
+		if (!isCompactOutput) {
+			if (!isEnableAdapterMetrics) {
+				return localExtendedStatistics;
+			}
+			localExtendedStatistics.getStatistics().put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.PAYLOAD_SIZE,
+					String.valueOf(StatisticsCompactor.getPayloadSize(localExtendedStatistics)));
+			return localExtendedStatistics;
+		}
+		ExtendedStatistics compactStatistics = statisticsCompactor.compact(localExtendedStatistics, isMonitoringCycle);
+		compactStatistics.getStatistics().put(StatisticsCompactor.compactName(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.PAYLOAD_SIZE),
+				String.valueOf(statisticsCompactor.getLastPayloadSize()));
+		compactStatistics.getStatistics().put(StatisticsCompactor.compactName(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.FULL_PAYLOAD_SIZE),
+				String.valueOf(statisticsCompactor.getLastFullPayloadSize()));
+		return compactStatistics;
+	}
+
+	/**
+	 * Retrieves a copy of the statistics of the last monitoring cycle without polling the device.
+	 *
+	 * @return the last statistics, or null if no cycle completed yet
+	 */
+	public ExtendedStatistics getLastStatistics() {
+		long lockTime = lockWithMetrics(CommandPriority.LOW);
+		try {
+			if (localExtendedStatistics == null) {
+				return null;
+			}
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			if (localExtendedStatistics.getStatistics() != null) {
+				extendedStatistics.setStatistics(new HashMap<>(localExtendedStatistics.getStatistics()));
+			}
+			if (localExtendedStatistics.getControllableProperties() != null) {
+				extendedStatistics.setControllableProperties(new ArrayList<>(localExtendedStatistics.getControllableProperties()));
+			}
+			return extendedStatistics;
+		} finally {
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		long lockTime = lockWithMetrics(CommandPriority.HIGH);
+		try {
+			if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
+				return;
+			}
+			controllableProperty.setProperty(StatisticsCompactor.expandName(controllableProperty.getProperty()));
+			if ((EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.APPLY_SCENE).equals(controllableProperty.getProperty())) {
+				applyScene(String.valueOf(controllableProperty.getValue()));
+				return;
+			}
+			if (connectionHealthMonitor.isOffline()) {
+				throw new ResourceNotReachableException(String.format("Can't control %s, device %s is offline", controllableProperty.getProperty(), host));
+			}
+			if (rebootMonitor.isRebooting()) {
+				throw new ResourceNotReachableException(String.format("Can't control %s, device %s is rebooting", controllableProperty.getProperty(), host));
+			}
+			isEmergencyDelivery = true;
+			String property = controllableProperty.getProperty();
+			String value = String.valueOf(controllableProperty.getValue());
+			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
+			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
+
+			long suppressedCount = suppressedControlCount.get();
+			String group = EasyIPMixerConstant.EMPTY;
+			String[] propertyList = property.split(EasyIPMixerConstant.HASH);
+			String propertyKey = property;
+			if (property.contains(EasyIPMixerConstant.HASH)) {
+				propertyKey = propertyList[1];
+				group = propertyList[0];
+			}
+
+			if (group.contains(EasyIPMixerConstant.CROSSPOINT)) {
+				//Crosspoint
+				String command;
+				String inputPropertyName;
+				String outputPropertyName = group.replace(EasyIPMixerConstant.CROSSPOINT, EasyIPMixerConstant.EMPTY);
+				if (propertyKey.contains(EasyIPMixerConstant.GAIN) && !isRedundantControl(property, value)) {
+					inputPropertyName = propertyKey.replace(EasyIPMixerConstant.GAIN_DB, EasyIPMixerConstant.EMPTY);
+					command = EasyIpMixerCommand.GAIN_CONTROL.replace("$1", AudioOutput.getValueByName(outputPropertyName)).replace("$2", AudioInput.getValueByName(inputPropertyName)).replace("$3", value);
+					sendCommandToControlDevice(command, value, propertyKey);
+					stats.put(group + EasyIPMixerConstant.HASH + inputPropertyName + EasyIPMixerConstant.GAIN_CURRENT_VALUE, convertFloatToIntString(value));
+					updateCachedDeviceData(cacheKeyAndValue, property, value);
+				}
+
+				if (propertyKey.contains(EasyIPMixerConstant.ROUTE) && !isRedundantRoute(group + EasyIPMixerConstant.HASH + outputPropertyName,
+						AudioInput.getValueByName(propertyKey.replace(EasyIPMixerConstant.ROUTE, EasyIPMixerConstant.EMPTY)), EasyIPMixerConstant.NUMBER_ONE.equals(value))) {
+					inputPropertyName = propertyKey.replace(EasyIPMixerConstant.ROUTE, EasyIPMixerConstant.EMPTY);
+					String localName = group + EasyIPMixerConstant.HASH + outputPropertyName;
+
+					command = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", AudioOutput.getValueByName(outputPropertyName));
+					String response = sendCommandDetails(command);
+					String localValue = replaceDraftInResponse(response, command);
+
+					if (EasyIPMixerConstant.NUMBER_ONE.equals(value) && !localValue.contains(AudioInput.getValueByName(inputPropertyName))) {
+						localValue = localValue + EasyIPMixerConstant.SPACE + AudioInput.getValueByName(inputPropertyName);
+					}
+					if (EasyIPMixerConstant.ZERO.equals(value)) {
+						localValue = localValue.replace(AudioInput.getValueByName(inputPropertyName), EasyIPMixerConstant.EMPTY).replace("  ", EasyIPMixerConstant.SPACE).trim();
+					}
+					command = EasyIpMixerCommand.ROUTE_CONTROL.replace("$1", AudioOutput.getValueByName(outputPropertyName)).replace("$2", localValue);
+					sendCommandToControlDevice(command, EasyIPMixerConstant.NUMBER_ONE.equals(value) ? EasyIPMixerConstant.ON : EasyIPMixerConstant.OFF, propertyKey);
+					updateCachedDeviceData(cacheKeyAndValue, localName, localValue);
+				}
+				updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+			} else if (checkAudioVolumeControl(group)) {
+				//Audio Volume
+				String command;
+				String audioValue = AudioInput.getValueByName(group);
+				if (EasyIPMixerConstant.NONE.equals(audioValue)) {
+					audioValue = AudioOutput.getValueByName(group);
+				}
+				switch (propertyKey) {
+					case EasyIPMixerConstant.VOLUME_DB:
+						if (!EasyIPMixerConstant.NONE.equals(audioValue) && !isRedundantControl(property, value)) {
+							command = EasyIpMixerCommand.VOLUME_CONTROL.replace("$1", audioValue).replace("$2", value);
+							sendCommandToControlDevice(command, value, EasyIPMixerConstant.VOLUME_DB);
+							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.VOLUME_CURRENT_VALUE, convertFloatToIntString(value));
+							updateCachedDeviceData(cacheKeyAndValue, property, value);
+						}
+						break;
+					case EasyIPMixerConstant.MUTE:
+						String status = getStatusSwitch(value);
+						if (!EasyIPMixerConstant.NONE.equals(audioValue) && !isRedundantControl(property, status)) {
+							command = EasyIpMixerCommand.MUTE_CONTROL.replace("$1", audioValue).replace("$2", status);
+							sendCommandToControlDevice(command, status, EasyIPMixerConstant.MUTE);
+							updateCachedDeviceData(cacheKeyAndValue, property, status);
+						}
+						break;
+					default:
+						logger.debug(String.format("Property name %s doesn't support", propertyKey));
+				}
+			} else {
+				EasyIPMixerProperty propertyItem = EasyIPMixerProperty.getByName(propertyKey);
+				switch (propertyItem) {
+					case SYSTEM_REBOOT:
+						sendCommandToControlDevice(propertyItem.getControlCommand(), EasyIPMixerConstant.REBOOT, propertyKey);
+						startReboot();
+						populateConnectionState(stats);
+						break;
+					case AUDIO_MUTE:
+						String status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						String command = propertyItem.getControlCommand().replace("$", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						retrieveMuteOfAudioVolumeWhenControlMasterMute();
+						populateAudioVolume(stats, advancedControllableProperties);
+						break;
+					case VIDEO_SOURCE:
+						String newValue = SourceValueEnum.getValueByName(value);
+						if (newValue != null && !isRedundantControl(property, newValue)) {
+							command = propertyItem.getControlCommand().replace("$", newValue);
+							sendCommandToControlDevice(command, value, propertyKey);
+							updateCachedDeviceData(cacheKeyAndValue, property, newValue);
+						}
+						break;
+					case VIDEO_MUTE:
+					case VIDEO_PIP:
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						break;
+					case SYSTEM_STANDBY:
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+
+						String response = sendCommandDetails(MonitoringCommand.AUDIO_MUTE.getCommand());
+						String referenceValue = extractResponseValue(response, MonitoringCommand.AUDIO_MUTE.getRegex());
+						updateCachedDeviceData(cacheKeyAndValue, MonitoringCommand.AUDIO_MUTE.getName(), referenceValue);
+						response = sendCommandDetails(MonitoringCommand.VIDEO_MUTE.getCommand());
+						referenceValue = extractResponseValue(response, MonitoringCommand.VIDEO_MUTE.getRegex());
+						updateCachedDeviceData(cacheKeyAndValue, MonitoringCommand.VIDEO_MUTE.getName(), referenceValue);
+						retrieveMuteOfAudioVolumeWhenControlMasterMute();
+						populateCachedData(stats, stats, advancedControllableProperties);
+						break;
+					case CAMERA_STANDBY:
+						String indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						String colorResponse = sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera));
+						retrieveCameraColor(colorResponse, indexCamera);
+						if (EasyIPMixerConstant.ZERO.equals(value)) {
+							cameraMotionTracker.startMotion(indexCamera);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName(), EasyIPMixerConstant.ON_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_WHITE_BALANCE.getName(), EasyIPMixerConstant.ON_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_HOME_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_HOME_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_HOME_VALUE, CacheSource.OPTIMISTIC);
+						} else {
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_STANDBY_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_STANDBY_VALUE, CacheSource.OPTIMISTIC);
+							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_STANDBY_VALUE, CacheSource.OPTIMISTIC);
+						}
+						populateMonitoringAndControllingData(stats, stats, advancedControllableProperties);
+						break;
+					case BACKLIGHT_COMPENSATION:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
+							String name = group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName();
+							addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(name, 0, EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON), EasyIPMixerConstant.ZERO);
+							updateCachedDeviceData(cacheKeyAndValue, name, EasyIPMixerConstant.ZERO);
+						}
+						break;
+					case WIDE_DYNAMIC_RANGE:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
+							String name = group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName();
+							addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(name, 0, EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON), EasyIPMixerConstant.ZERO);
+							updateCachedDeviceData(cacheKeyAndValue, name, EasyIPMixerConstant.ZERO);
+						}
+						break;
+					case AUTO_IRIS:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName(), stats, advancedControllableProperties);
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName(), stats, advancedControllableProperties);
+							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.IRIS_CURRENT_VALUE);
+							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.GAIN_CURRENT_VALUE);
+
+							String backlightCompensation = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName());
+							String backlightValue = EasyIPMixerConstant.ON_VALUE.equals(backlightCompensation) ? "1" : "0";
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createSwitch(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName(), Integer.parseInt(backlightValue), EasyIPMixerConstant.OFF,
+											EasyIPMixerConstant.ON), backlightValue);
+
+							String wideDynamicRange = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName());
+							String wideValue = EasyIPMixerConstant.ON_VALUE.equals(wideDynamicRange) ? "1" : "0";
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createSwitch(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName(), Integer.parseInt(wideValue), EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON),
+									wideValue);
+
+						} else {
+							retrieveCameraColor(sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera)), indexCamera);
+							String irisValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName());
+							List<String> arrayValues = Arrays.stream(IrisValueEnum.values()).map(IrisValueEnum::getName).collect(Collectors.toList());
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createDropdown(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName(), arrayValues.toArray(new String[0]), IrisValueEnum.getNameByValue(irisValue)), irisValue);
+
+							String gainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName());
+							arrayValues = Arrays.stream(GainValueEnum.values()).map(GainValueEnum::getName).collect(Collectors.toList());
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createDropdown(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName(), arrayValues.toArray(new String[0]), GainValueEnum.getNameByValue(gainValue)), gainValue);
+
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName(), stats, advancedControllableProperties);
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName(), stats, advancedControllableProperties);
+						}
+						break;
+					case AUTO_WHITE_BALANCE:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = getStatusSwitch(value);
+						if (isRedundantControl(property, status)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, status);
+						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName(), stats, advancedControllableProperties);
+							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName(), stats, advancedControllableProperties);
+							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.RED_GAIN_CURRENT_VALUE);
+							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.BLUE_GAIN_CURRENT_VALUE);
+						} else {
+							retrieveCameraColor(sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera)), indexCamera);
+							String redGainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName());
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createSlider(stats, group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName(), "0", "255", 0f, 255f, Float.parseFloat(redGainValue)), redGainValue);
+							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.RED_GAIN_CURRENT_VALUE, redGainValue);
+
+							String blueGainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName());
+							addAdvancedControlProperties(advancedControllableProperties, stats,
+									createSlider(stats, group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName(), "0", "255", 0f, 255f, Float.parseFloat(blueGainValue)), blueGainValue);
+							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.BLUE_GAIN_CURRENT_VALUE, blueGainValue);
+						}
+						break;
+					case BLUE_GAIN:
+					case DETAIL:
+					case RED_GAIN:
+					case CHROMA:
+					case GAMMA:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						value = convertFloatToIntString(value);
+						if (isRedundantControl(property, value)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
+						sendCommandToControlDevice(command, value, propertyKey);
+						stats.put(property.replace(EasyIPMixerConstant.SHARPNESS, EasyIPMixerConstant.EMPTY).replace(EasyIPMixerConstant.SATURATION, EasyIPMixerConstant.EMPTY) + EasyIPMixerConstant.CURRENT_VALUE,
+								value);
+						updateCachedDeviceData(cacheKeyAndValue, property, value);
+						break;
+					case IRIS:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						newValue = IrisValueEnum.getValueByName(value);
+						if (isRedundantControl(property, newValue)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
+						sendCommandToControlDevice(command, value, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, newValue);
+						break;
+					case GAIN:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						newValue = GainValueEnum.getValueByName(value);
+						if (isRedundantControl(property, newValue)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
+						sendCommandToControlDevice(command, value, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, newValue);
+						break;
+					case CAMERA_ZOOM:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						value = checkValidInput(1, 20, value);
+						if (isRedundantControl(property, value)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
+						sendCameraMotionCommand(command, value, propertyKey);
+						cameraMotionTracker.startMotion(indexCamera);
+						cacheKeyAndValue.put(property, value, isSceneRunning ? CacheSource.CONTROL : CacheSource.OPTIMISTIC);
+						break;
+					case CAMERA_PAN:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						value = checkValidInput(-156.3, 151.7, value);
+						if (isRedundantControl(property, value)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
+						sendCameraMotionCommand(command, value, propertyKey);
+						cameraMotionTracker.startMotion(indexCamera);
+						cacheKeyAndValue.put(property, value, isSceneRunning ? CacheSource.CONTROL : CacheSource.OPTIMISTIC);
+						break;
+					case CAMERA_TILT:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						value = checkValidInput(-30, 92.5, value);
+						if (isRedundantControl(property, value)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
+						sendCameraMotionCommand(command, value, propertyKey);
+						cameraMotionTracker.startMotion(indexCamera);
+						cacheKeyAndValue.put(property, value, isSceneRunning ? CacheSource.CONTROL : CacheSource.OPTIMISTIC);
+						break;
+					case CAMERA_FOCUS_MODE:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						status = EasyIPMixerConstant.NUMBER_ONE.equals(value) ? "auto" : "manual";
+						if (isRedundantControl(property, EasyIPMixerConstant.NUMBER_ONE.equals(value) ? EasyIPMixerConstant.ON_VALUE : EasyIPMixerConstant.OFF_VALUE)) {
+							break;
+						}
+						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
+						sendCommandToControlDevice(command, status, propertyKey);
+						updateCachedDeviceData(cacheKeyAndValue, property, EasyIPMixerConstant.NUMBER_ONE.equals(value) ? EasyIPMixerConstant.ON_VALUE : EasyIPMixerConstant.OFF_VALUE);
+						break;
+					case CAMERA_HOME:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						sendCommandToControlDevice(propertyItem.getControlCommand().replace("$1", indexCamera), EasyIPMixerConstant.HOME, propertyKey);
+						cameraMotionTracker.startMotion(indexCamera);
+						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_HOME_VALUE, CacheSource.OPTIMISTIC);
+						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_HOME_VALUE, CacheSource.OPTIMISTIC);
+						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_HOME_VALUE, CacheSource.OPTIMISTIC);
+						populateCameraPosition(stats, advancedControllableProperties, group);
+						break;
+					case CAMERA_PRESET:
+						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
+						newValue = PresetValueEnum.getValueByName(value);
+						if (newValue != null) {
+							command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
+							sendCommandToControlDevice(command, value, propertyKey);
+							cameraMotionTracker.startMotion(indexCamera);
+						} else {
+							throw new IllegalArgumentException("Please select valid value.");
+						}
+						break;
+					default:
+						logger.debug(String.format("Property name %s doesn't support", propertyKey));
+				}
+			}
+			if (suppressedControlCount.get() == suppressedCount) {
+				queueReadBack(property, group, propertyKey);
+			}
+			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
 		} finally {
-			reentrantLock.unlock();
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (ControllableProperty p : list) {
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony, measured according to {@link #pingMode}
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (!isInitialized()) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		PingMode mode = PingMode.getByName(pingMode);
+		if (PingMode.PASSIVE.equals(mode)) {
+			long lastCommandTime = adapterMetrics.getLastCommandTime();
+			if (!connectionHealthMonitor.isOffline() && System.currentTimeMillis() - lastCommandTime <= EasyIPMixerConstant.PASSIVE_PING_MAX_AGE) {
+				return (int) Math.max(1, adapterMetrics.getRecentLatency());
+			}
+		}
+		if (PingMode.ICMP.equals(mode)) {
+			Integer icmpResult = icmpPing();
+			if (icmpResult != null) {
+				return icmpResult;
+			}
+		}
+		return tcpPing();
+	}
+
+	/**
+	 * Sends the ping attempts concurrently over ICMP on the shared scheduler.
+	 *
+	 * @return the average round trip time of the successful attempts, or null if no attempt succeeded
+	 */
+	private Integer icmpPing() {
+		List<CompletableFuture<IcmpPingResponse>> attempts = new ArrayList<>();
+		for (int i = 0; i < this.getPingAttempts(); i++) {
+			attempts.add(CompletableFuture.supplyAsync(() -> {
+				IcmpPingRequest request = IcmpPingUtil.createIcmpPingRequest();
+				request.setHost(host);
+				request.setTimeout(this.getPingTimeout());
+				return IcmpPingUtil.executePingRequest(request);
+			}, SharedCommandScheduler.getInstance()));
+		}
+		long pingResultTotal = 0L;
+		int successCount = 0;
+		for (CompletableFuture<IcmpPingResponse> attempt : attempts) {
+			try {
+				IcmpPingResponse response = attempt.get(this.getPingTimeout() * 2L, TimeUnit.MILLISECONDS);
+				if (response.getSuccessFlag()) {
+					pingResultTotal += response.getRtt();
+					successCount++;
+				}
+			} catch (Exception e) {
+				logger.debug(String.format("ICMP ping to %s failed", host), e);
+			}
+		}
+		if (successCount == 0) {
+			logger.debug(String.format("ICMP ping to %s didn't succeed, fall back to TCP", host));
+			return null;
+		}
+		return (int) Math.max(1, pingResultTotal / successCount);
+	}
+
+	/**
+	 * Opens a TCP connection to the SSH port of the device for every ping attempt.
+	 *
+	 * @return the average time to connect
+	 * @throws Exception if the connection times out
+	 */
+	private int tcpPing() throws Exception {
+		long pingResultTotal = 0L;
+
+		for (int i = 0; i < this.getPingAttempts(); i++) {
+			long startTime = System.currentTimeMillis();
+
+			try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+				puSocketConnection.setSoTimeout(this.getPingTimeout());
+				if (puSocketConnection.isConnected()) {
+					long pingResult = System.currentTimeMillis() - startTime;
+					pingResultTotal += pingResult;
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
+					}
+				} else {
+					if (this.logger.isDebugEnabled()) {
+						logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+					}
+					return this.getPingTimeout();
+				}
+			} catch (SocketTimeoutException | ConnectException tex) {
+				throw new SocketTimeoutException("Socket connection timed out");
+			} catch (UnknownHostException tex) {
+				throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
+			} catch (Exception e) {
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+				}
+				return this.getPingTimeout();
+			}
+		}
+		return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		commandLane = SharedCommandScheduler.getInstance().newLane(String.valueOf(host));
+		super.internalInit();
+		loadCapabilityProfile();
+		convertEnableStateSnapshot();
+		loadStateSnapshot();
+		registerMXBean();
+		isStartupPending = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Counts the SSH sessions, so the reconnects are exposed over JMX
+	 */
+	@Override
+	protected void createChannel() throws Exception {
+		super.createChannel();
+		sshSessionCount.incrementAndGet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		if (dataCollector != null) {
+			dataCollector.cancel(true);
+		}
+		if (profileValidator != null) {
+			profileValidator.cancel(true);
+		}
+		if (commandLane != null) {
+			commandLane.close();
+		}
+		unregisterMXBean();
+		saveCapabilityProfile(true);
+		saveStateSnapshot(true);
+		currentPollingInterval = 1;
+		cacheKeyAndValue.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * Registers the MXBean exposing the internals of this adapter instance to the platform MBean server.
+	 */
+	private void registerMXBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(String.format(EasyIPMixerConstant.MXBEAN_NAME, ObjectName.quote(String.valueOf(host)), System.identityHashCode(this)));
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new AdapterMXBean(), name);
+			}
+			mxBeanName = name;
+		} catch (Exception e) {
+			logger.warn(String.format("Can't register the MXBean of device %s", host), e);
+		}
+	}
+
+	/**
+	 * Unregisters the MXBean of this adapter instance.
+	 */
+	private void unregisterMXBean() {
+		if (mxBeanName == null) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(mxBeanName)) {
+				server.unregisterMBean(mxBeanName);
+			}
+		} catch (Exception e) {
+			logger.warn(String.format("Can't unregister the MXBean of device %s", host), e);
+		}
+		mxBeanName = null;
+	}
+
+	/**
+	 * Starts tracking the reboot of the device: polling is suspended and the session to the device going down is closed,
+	 * so the next probe opens a new one.
+	 */
+	private void startReboot() {
+		rebootMonitor.start();
+		try {
+			disconnect();
+		} catch (Exception e) {
+			logger.debug(String.format("Error when closing the session of device %s before the reboot", host), e);
+		}
+		logger.info(String.format("Device %s is rebooting, suspend the monitoring cycle until it is back", host));
+	}
+
+	/**
+	 * Checks if the device is back from the reboot requested by the adapter.
+	 * While the device is rebooting, its SSH port is probed once the backoff delay has elapsed,
+	 * and the session is re-established as soon as the port accepts connections. A full refresh follows the reboot.
+	 *
+	 * @return true if no reboot is in progress or the device is back
+	 */
+	private boolean isRebootCompleted() {
+		if (!rebootMonitor.isRebooting()) {
+			return true;
+		}
+		if (rebootMonitor.isTimedOut()) {
+			logger.warn(String.format("Device %s didn't come back within %s ms after the reboot, resume the monitoring cycle", host, EasyIPMixerConstant.REBOOT_TIMEOUT));
+			rebootMonitor.complete();
+			isFullRefreshRequested = true;
+			return true;
+		}
+		if (!rebootMonitor.isProbeDue()) {
+			return false;
+		}
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, getPort()), getPingTimeout());
+		} catch (Exception e) {
+			rebootMonitor.recordProbeFailure();
+			logger.debug(String.format("Device %s is still rebooting, next probe at %s", host, Instant.ofEpochMilli(rebootMonitor.getNextProbeTime())));
+			return false;
+		}
+		try {
+			send(MonitoringCommand.SYSTEM_STANDBY.getCommand().concat("\r"));
+		} catch (Exception e) {
+			rebootMonitor.recordProbeFailure();
+			logger.debug(String.format("Device %s accepts connections but the session can't be established yet", host), e);
+			return false;
+		}
+		rebootMonitor.complete();
+		connectionHealthMonitor.recordSuccess();
+		isFullRefreshRequested = true;
+		logger.info(String.format("Device %s is back after %s ms, run a full refresh", host, System.currentTimeMillis() - rebootMonitor.getRebootTime()));
+		return true;
+	}
+
+	/**
+	 * Checks if the device can be polled in the current cycle.
+	 * While the device is offline only one cheap probe command is sent, once its backoff delay has elapsed.
+	 *
+	 * @return true if the device is online or the recovery probe succeeded
+	 */
+	private boolean isDeviceReachable() {
+		if (!connectionHealthMonitor.isOffline()) {
+			return true;
+		}
+		if (!connectionHealthMonitor.isProbeDue()) {
+			return false;
+		}
+		try {
+			send(MonitoringCommand.SYSTEM_STANDBY.getCommand().concat("\r"));
+			connectionHealthMonitor.recordSuccess();
+			logger.info(String.format("Device %s is reachable again, resume the monitoring cycle", host));
+			return true;
+		} catch (Exception e) {
+			connectionHealthMonitor.recordProbeFailure();
+			logger.debug(String.format("Probe to device %s failed, next probe at %s", host, Instant.ofEpochMilli(connectionHealthMonitor.getNextProbeTime())), e);
+			return false;
+		}
+	}
+
+	/**
+	 * Marks the last known statistics as stale while the device is offline.
+	 * If no statistics were retrieved yet, only the connection state is reported.
+	 */
+	private void populateLastKnownStatistics() {
+		if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
+			localExtendedStatistics = new ExtendedStatistics();
+			localExtendedStatistics.setStatistics(new HashMap<>());
+			localExtendedStatistics.setControllableProperties(new ArrayList<>());
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		populateConnectionState(localExtendedStatistics.getStatistics());
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the connection state of the device, the data is marked as stale while the device is offline.
+	 * The detail of the connection health is only published while the adapter metrics are enabled.
+	 *
+	 * @param stats the statistics to be populated with the connection state
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
-				return;
+	private void populateConnectionState(Map<String, String> stats) {
+		boolean rebooting = rebootMonitor.isRebooting();
+		boolean offline = connectionHealthMonitor.isOffline();
+		stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.CONNECTION_STATE, getConnectionState());
+		stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.DATA_STALE, offline || rebooting ? EasyIPMixerConstant.TRUE : EasyIPMixerConstant.FALSE);
+		if (rebooting && isEnableAdapterMetrics) {
+			stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.REBOOT_STARTED, Instant.ofEpochMilli(rebootMonitor.getRebootTime()).toString());
+		} else {
+			stats.remove(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.REBOOT_STARTED);
+		}
+		if (isEnableAdapterMetrics) {
+			stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.CONSECUTIVE_FAILURES, String.valueOf(connectionHealthMonitor.getConsecutiveFailures()));
+			long lastSuccessTime = connectionHealthMonitor.getLastSuccessTime();
+			if (lastSuccessTime == 0 && isRestoredFromSnapshot) {
+				lastSuccessTime = snapshotTime;
 			}
-			isEmergencyDelivery = true;
-			String property = controllableProperty.getProperty();
-			String value = String.valueOf(controllableProperty.getValue());
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
+			stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.LAST_UPDATED, lastSuccessTime > 0 ? Instant.ofEpochMilli(lastSuccessTime).toString() : EasyIPMixerConstant.NONE);
+		} else {
+			stats.remove(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.CONSECUTIVE_FAILURES);
+			stats.remove(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.LAST_UPDATED);
+		}
+		if (isEnableStateSnapshot) {
+			stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.RESTORED_FROM_SNAPSHOT, isRestoredFromSnapshot ? EasyIPMixerConstant.TRUE : EasyIPMixerConstant.FALSE);
+			if (isRestoredFromSnapshot) {
+				stats.put(EasyIPMixerConstant.CONNECTION_GROUP + EasyIPMixerConstant.SNAPSHOT_TIME, Instant.ofEpochMilli(snapshotTime).toString());
+			}
+		}
+	}
 
-			String group = EasyIPMixerConstant.EMPTY;
-			String[] propertyList = property.split(EasyIPMixerConstant.HASH);
-			String propertyKey = property;
-			if (property.contains(EasyIPMixerConstant.HASH)) {
-				propertyKey = propertyList[1];
-				group = propertyList[0];
+	/**
+	 * Retrieves the connection state of the device
+	 *
+	 * @return Rebooting, Offline or Online
+	 */
+	private String getConnectionState() {
+		if (rebootMonitor.isRebooting()) {
+			return EasyIPMixerConstant.REBOOTING;
+		}
+		return connectionHealthMonitor.isOffline() ? EasyIPMixerConstant.OFFLINE : EasyIPMixerConstant.ONLINE;
+	}
+
+	/**
+	 * Populates the adapter diagnostics: the state of the command circuit breakers, the wait of the command priorities,
+	 * the controls suppressed or mismatched, the age of the cache and the staleness of the polling work.
+	 * The diagnostics are only published while the adapter metrics are enabled.
+	 *
+	 * @param stats the statistics to be populated with the diagnostics
+	 */
+	private void populateAdapterDiagnostics(Map<String, String> stats) {
+		Set<String> openCommands = failedMonitor.getCommands(CircuitState.OPEN);
+		Set<String> halfOpenCommands = failedMonitor.getCommands(CircuitState.HALF_OPEN);
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.OPEN_CIRCUIT_COUNT, String.valueOf(openCommands.size()));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.OPEN_CIRCUITS,
+				openCommands.isEmpty() ? EasyIPMixerConstant.NONE : String.join(EasyIPMixerConstant.COMMA + EasyIPMixerConstant.SPACE, openCommands));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.HALF_OPEN_CIRCUITS,
+				halfOpenCommands.isEmpty() ? EasyIPMixerConstant.NONE : String.join(EasyIPMixerConstant.COMMA + EasyIPMixerConstant.SPACE, halfOpenCommands));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.SKIPPED_COMMANDS, String.valueOf(failedMonitor.getSkippedRequests()));
+		for (CommandPriority priority : CommandPriority.values()) {
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + priority.getName() + EasyIPMixerConstant.PRIORITY_AVERAGE_WAIT,
+					String.valueOf(commandGate.getAverageWaitMillis(priority)));
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + priority.getName() + EasyIPMixerConstant.PRIORITY_MAX_WAIT,
+					String.valueOf(commandGate.getMaxWaitMillis(priority)));
+		}
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.MONITORING_YIELD_COUNT, String.valueOf(commandGate.getYieldCount()));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.SUPPRESSED_CONTROLS, String.valueOf(suppressedControlCount.get()));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.READ_BACK_MISMATCHES, String.valueOf(readBackMismatchCount.get()));
+		if (!desiredStateMap.isEmpty()) {
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.RECONCILED_WRITES, String.valueOf(reconciledWriteCount.get()));
+			SceneResult reconciliationResult = lastReconciliationResult;
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.LAST_RECONCILIATION,
+					reconciliationResult == null ? EasyIPMixerConstant.NONE : reconciliationResult.getSummary());
+		}
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.STALE_CACHE_ENTRIES, String.valueOf(cacheKeyAndValue.getStaleCount()));
+		Map.Entry<String, Long> oldestEntry = cacheKeyAndValue.getAges().entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.OLDEST_CACHE_ENTRY_AGE, String.valueOf(oldestEntry == null ? 0 : oldestEntry.getValue() / 1000));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.OLDEST_CACHE_ENTRY, oldestEntry == null ? EasyIPMixerConstant.NONE : oldestEntry.getKey());
+		Set<PollingWork> pendingWork = pollingWorkQueue.getPendingWork();
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.PENDING_POLLING_WORK, pendingWork.isEmpty() ? EasyIPMixerConstant.NONE
+				: pendingWork.stream().map(PollingWork::getName).collect(Collectors.joining(EasyIPMixerConstant.COMMA + EasyIPMixerConstant.SPACE)));
+		stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.OLDEST_PENDING_WORK_AGE, String.valueOf(pollingWorkQueue.getOldestPendingAge() / 1000));
+		if (isPollingAutoTune) {
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.POLLING_SUB_CYCLES, String.valueOf(numOfPollingInterval));
+			stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + EasyIPMixerConstant.ESTIMATED_MONITORING_INTERVAL,
+					String.valueOf(pollingAutoTuner.getMonitoringInterval() / 1000));
+			pollingAutoTuner.getWorkCosts().forEach((work, cost) ->
+					stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + work.getName() + EasyIPMixerConstant.COST, String.valueOf(cost)));
+		}
+		for (PollingWork work : PollingWork.values()) {
+			long staleness = pollingWorkQueue.getStaleness(work);
+			if (staleness >= 0) {
+				stats.put(EasyIPMixerConstant.DIAGNOSTICS_GROUP + work.getName() + EasyIPMixerConstant.STALENESS, String.valueOf(staleness / 1000));
 			}
+		}
+	}
 
-			if (group.contains(EasyIPMixerConstant.CROSSPOINT)) {
-				//Crosspoint
-				String command;
-				String inputPropertyName;
-				String outputPropertyName = group.replace(EasyIPMixerConstant.CROSSPOINT, EasyIPMixerConstant.EMPTY);
-				if (propertyKey.contains(EasyIPMixerConstant.GAIN)) {
-					inputPropertyName = propertyKey.replace(EasyIPMixerConstant.GAIN_DB, EasyIPMixerConstant.EMPTY);
-					command = EasyIpMixerCommand.GAIN_CONTROL.replace("$1", AudioOutput.getValueByName(outputPropertyName)).replace("$2", AudioInput.getValueByName(inputPropertyName)).replace("$3", value);
-					sendCommandToControlDevice(command, value, propertyKey);
-					stats.put(group + EasyIPMixerConstant.HASH + inputPropertyName + EasyIPMixerConstant.GAIN_CURRENT_VALUE, convertFloatToIntString(value));
-					updateCachedDeviceData(cacheKeyAndValue, property, value);
+	/**
+	 * Retrieve data based on the current polling interval.
+	 * This method retrieves different sets of data based on the current polling interval.
+	 * It calls specific retrieval methods for each interval and updates the current polling interval.
+	 * While the system is in standby only the standby profile is polled, and a full refresh starts as soon as the standby is turned off.
+	 * A progressive startup in progress ends as well, the standby profile is published in full and the rest is polled by a full refresh
+	 * once the standby is turned off.
+	 *
+	 * @throws Exception if there's an error during data retrieval.
+	 */
+	private void retrieveAllData() throws Exception {
+		getNumOfPollingInterval();
+		if (isStartupPending) {
+			isStartupPending = false;
+			if (isProgressiveStartup) {
+				progressiveStartup.start(getStartupStages());
+			}
+		}
+		isStandbyPolling = false;
+		isStartupPolling = false;
+		if (isSystemStandbyOn()) {
+			retrieveStandbyProfile();
+			if (isSystemStandbyOn()) {
+				isStandbyPolling = true;
+				if (progressiveStartup.isActive()) {
+					progressiveStartup.finish();
+					isFullRefreshRequested = true;
 				}
+				return;
+			}
+			currentPollingInterval = 1;
+		}
+		if (isFullRefreshRequested) {
+			isFullRefreshRequested = false;
+			progressiveStartup.finish();
+			for (int interval = 1; interval <= numOfPollingInterval; interval++) {
+				enqueuePollingInterval(interval, true);
+			}
+			isPositionRefreshRequested = true;
+			pollingWorkQueue.offer(PollingWork.CAMERA_POSITION);
+			currentPollingInterval = numOfPollingInterval;
+		} else if (progressiveStartup.isActive()) {
+			isStartupPolling = true;
+			enqueueStartupStage();
+		} else {
+			enqueuePollingInterval(currentPollingInterval, false);
+			if (numberOfCamera.stream().anyMatch(cameraMotionTracker::isPositionDue)) {
+				pollingWorkQueue.offer(PollingWork.CAMERA_POSITION);
+			}
+		}
+		runPollingWork();
+	}
 
-				if (propertyKey.contains(EasyIPMixerConstant.ROUTE)) {
-					inputPropertyName = propertyKey.replace(EasyIPMixerConstant.ROUTE, EasyIPMixerConstant.EMPTY);
-					String localName = group + EasyIPMixerConstant.HASH + outputPropertyName;
+	/**
+	 * Retrieves the stages of the progressive startup: the essential state and the camera presence first, then the camera detail,
+	 * the audio and the crosspoint gain, each in its own cycle.
+	 *
+	 * @return the work of each stage, in the order the stages run
+	 */
+	private List<Set<PollingWork>> getStartupStages() {
+		List<Set<PollingWork>> stages = new ArrayList<>();
+		stages.add(EnumSet.of(PollingWork.CAMERA_DISCOVERY, PollingWork.ESSENTIAL));
+		stages.add(EnumSet.of(PollingWork.MONITORING, PollingWork.CAMERA_POSITION));
+		stages.add(isConfigManagement ? EnumSet.of(PollingWork.ROUTE, PollingWork.AUDIO_VOLUME) : EnumSet.of(PollingWork.ROUTE));
+		if (isConfigManagement && isEnableCrosspointGain) {
+			stages.add(EnumSet.of(PollingWork.CROSSPOINT_GAIN_FIRST_HALF));
+			stages.add(EnumSet.of(PollingWork.CROSSPOINT_GAIN_SECOND_HALF));
+		}
+		return stages;
+	}
 
-					command = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", AudioOutput.getValueByName(outputPropertyName));
-					String response = sendCommandDetails(command);
-					String localValue = replaceDraftInResponse(response, command);
+	/**
+	 * Adds the pending work of the open startup stage to the work queue. The cameras restored from the capability profile
+	 * are validated on the executor instead of delaying the first cycle.
+	 */
+	private void enqueueStartupStage() {
+		for (PollingWork work : progressiveStartup.getStageWork()) {
+			if (PollingWork.CAMERA_DISCOVERY.equals(work) && isProfileRevalidationPending) {
+				isProfileRevalidationPending = false;
+				revalidateCapabilityProfile();
+				progressiveStartup.complete(work);
+				continue;
+			}
+			if (PollingWork.CAMERA_POSITION.equals(work)) {
+				isPositionRefreshRequested = true;
+			}
+			pollingWorkQueue.offer(work);
+		}
+	}
 
-					if (EasyIPMixerConstant.NUMBER_ONE.equals(value) && !localValue.contains(AudioInput.getValueByName(inputPropertyName))) {
-						localValue = localValue + EasyIPMixerConstant.SPACE + AudioInput.getValueByName(inputPropertyName);
-					}
-					if (EasyIPMixerConstant.ZERO.equals(value)) {
-						localValue = localValue.replace(AudioInput.getValueByName(inputPropertyName), EasyIPMixerConstant.EMPTY).replace("  ", EasyIPMixerConstant.SPACE).trim();
-					}
-					command = EasyIpMixerCommand.ROUTE_CONTROL.replace("$1", AudioOutput.getValueByName(outputPropertyName)).replace("$2", localValue);
-					sendCommandToControlDevice(command, EasyIPMixerConstant.NUMBER_ONE.equals(value) ? EasyIPMixerConstant.ON : EasyIPMixerConstant.OFF, propertyKey);
-					updateCachedDeviceData(cacheKeyAndValue, localName, localValue);
+	/**
+	 * Adds the polling groups of a single polling interval to the work queue, the polling groups that are not due in the current sweep are skipped.
+	 *
+	 * @param interval the polling interval to enqueue
+	 * @param force if true every polling group is enqueued regardless of its refresh period
+	 */
+	private void enqueuePollingInterval(int interval, boolean force) {
+		if (interval < 1 || interval > pollingPlan.size()) {
+			return;
+		}
+		for (PollingWork work : pollingPlan.get(interval - 1)) {
+			if (PollingWork.CAMERA_DISCOVERY.equals(work) && isProfileRevalidationPending) {
+				isProfileRevalidationPending = false;
+				revalidateCapabilityProfile();
+				continue;
+			}
+			if (force || isGroupDue(getPollingGroup(work))) {
+				pollingWorkQueue.offer(work);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the polling group the read work belongs to
+	 *
+	 * @param work the read work
+	 * @return the polling group whose refresh period applies to the work
+	 */
+	private PollingGroup getPollingGroup(PollingWork work) {
+		switch (work) {
+			case CAMERA_DISCOVERY:
+				return PollingGroup.CAMERA_DISCOVERY;
+			case ROUTE:
+				return PollingGroup.ROUTE;
+			case AUDIO_VOLUME:
+				return PollingGroup.AUDIO_VOLUME;
+			case CROSSPOINT_GAIN_FIRST_HALF:
+			case CROSSPOINT_GAIN_SECOND_HALF:
+				return PollingGroup.CROSSPOINT_GAIN;
+			default:
+				return PollingGroup.MONITORING;
+		}
+	}
+
+	/**
+	 * Runs the pending read work oldest-first until the queue is empty or the polling time budget is used up.
+	 * The budget is checked before each command, a unit of work interrupted by the budget resumes at its next step in the following cycle.
+	 * At least one command runs per cycle, the remaining work is carried over to the next cycle.
+	 * The work that fails stays in the queue, behind the other pending work.
+	 *
+	 * @throws Exception if there's an error during data retrieval.
+	 */
+	private void runPollingWork() throws Exception {
+		pollingDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollingTimeBudgetValue);
+		pollingStepCount = 0;
+		PollingWork work;
+		boolean isFirstWork = true;
+		try {
+			while ((work = pollingWorkQueue.peek()) != null) {
+				if (!isFirstWork && isPollingBudgetUsedUp()) {
+					logger.debug(String.format("Polling time budget of device %s is used up, carry over %s", host, pollingWorkQueue.getPendingWork()));
+					break;
 				}
-				updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-			} else if (checkAudioVolumeControl(group)) {
-				//Audio Volume
-				String command;
-				String audioValue = AudioInput.getValueByName(group);
-				if (EasyIPMixerConstant.NONE.equals(audioValue)) {
-					audioValue = AudioOutput.getValueByName(group);
+				isFirstWork = false;
+				long startTime = System.nanoTime();
+				currentPollingWork = work;
+				isPollingWorkInterrupted = false;
+				try {
+					retrievePollingWork(work);
+				} catch (Exception e) {
+					pollingWorkQueue.defer(work);
+					throw e;
 				}
-				switch (propertyKey) {
-					case EasyIPMixerConstant.VOLUME_DB:
-						if (!EasyIPMixerConstant.NONE.equals(audioValue)) {
-							command = EasyIpMixerCommand.VOLUME_CONTROL.replace("$1", audioValue).replace("$2", value);
-							sendCommandToControlDevice(command, value, EasyIPMixerConstant.VOLUME_DB);
-							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.VOLUME_CURRENT_VALUE, convertFloatToIntString(value));
-							updateCachedDeviceData(cacheKeyAndValue, property, value);
-						}
-						break;
-					case EasyIPMixerConstant.MUTE:
-						String status = getStatusSwitch(value);
-						if (!EasyIPMixerConstant.NONE.equals(audioValue)) {
-							command = EasyIpMixerCommand.MUTE_CONTROL.replace("$1", audioValue).replace("$2", status);
-							sendCommandToControlDevice(command, status, EasyIPMixerConstant.MUTE);
-							updateCachedDeviceData(cacheKeyAndValue, property, status);
-						}
-						break;
-					default:
-						logger.debug(String.format("Property name %s doesn't support", propertyKey));
+				recordPhase(work.getPhase(), startTime);
+				long cost = interruptedWorkCosts.getOrDefault(work, 0L) + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				if (isPollingWorkInterrupted) {
+					interruptedWorkCosts.put(work, cost);
+					logger.debug(String.format("Polling time budget of device %s is used up in %s, carry over %s", host, work.getName(), pollingWorkQueue.getPendingWork()));
+					break;
 				}
-			} else {
-				EasyIPMixerProperty propertyItem = EasyIPMixerProperty.getByName(propertyKey);
-				switch (propertyItem) {
-					case SYSTEM_REBOOT:
-						sendCommandToControlDevice(propertyItem.getControlCommand(), EasyIPMixerConstant.REBOOT, propertyKey);
-						Thread.sleep(3000);
-						break;
-					case AUDIO_MUTE:
-						String status = getStatusSwitch(value);
-						String command = propertyItem.getControlCommand().replace("$", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						retrieveMuteOfAudioVolumeWhenControlMasterMute();
-						populateAudioVolume(stats, advancedControllableProperties);
-						break;
-					case VIDEO_SOURCE:
-						String newValue = SourceValueEnum.getValueByName(value);
-						if (newValue != null) {
-							command = propertyItem.getControlCommand().replace("$", newValue);
-							sendCommandToControlDevice(command, value, propertyKey);
-							updateCachedDeviceData(cacheKeyAndValue, property, newValue);
-						}
-						break;
-					case VIDEO_MUTE:
-					case VIDEO_PIP:
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						break;
-					case SYSTEM_STANDBY:
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
+				interruptedWorkCosts.remove(work);
+				pollingWorkQueue.complete(work);
+				if (progressiveStartup.isActive()) {
+					progressiveStartup.complete(work);
+				}
+				pollingAutoTuner.recordCost(work, cost);
+			}
+		} finally {
+			currentPollingWork = null;
+			flushParseSpan();
+		}
+	}
 
-						String response = sendCommandDetails(MonitoringCommand.AUDIO_MUTE.getCommand());
-						String referenceValue = extractResponseValue(response, MonitoringCommand.AUDIO_MUTE.getRegex());
-						updateCachedDeviceData(cacheKeyAndValue, MonitoringCommand.AUDIO_MUTE.getName(), referenceValue);
-						response = sendCommandDetails(MonitoringCommand.VIDEO_MUTE.getCommand());
-						referenceValue = extractResponseValue(response, MonitoringCommand.VIDEO_MUTE.getRegex());
-						updateCachedDeviceData(cacheKeyAndValue, MonitoringCommand.VIDEO_MUTE.getName(), referenceValue);
-						retrieveMuteOfAudioVolumeWhenControlMasterMute();
-						populateAllData(stats, stats, advancedControllableProperties);
-						break;
-					case CAMERA_STANDBY:
-						String indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						String colorResponse = sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera));
-						retrieveCameraColor(colorResponse, indexCamera);
-						if (EasyIPMixerConstant.ZERO.equals(value)) {
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName(), EasyIPMixerConstant.ON_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_WHITE_BALANCE.getName(), EasyIPMixerConstant.ON_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_HOME_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_HOME_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_HOME_VALUE);
-						} else {
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_STANDBY_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_STANDBY_VALUE);
-							cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_STANDBY_VALUE);
-						}
-						populateMonitoringAndControllingData(stats, stats, advancedControllableProperties);
-						break;
-					case BACKLIGHT_COMPENSATION:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
-							String name = group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName();
-							addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(name, 0, EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON), EasyIPMixerConstant.ZERO);
-							updateCachedDeviceData(cacheKeyAndValue, name, EasyIPMixerConstant.ZERO);
-						}
-						break;
-					case WIDE_DYNAMIC_RANGE:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
-							String name = group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName();
-							addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(name, 0, EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON), EasyIPMixerConstant.ZERO);
-							updateCachedDeviceData(cacheKeyAndValue, name, EasyIPMixerConstant.ZERO);
-						}
-						break;
-					case AUTO_IRIS:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName(), stats, advancedControllableProperties);
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName(), stats, advancedControllableProperties);
-							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.IRIS_CURRENT_VALUE);
-							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.GAIN_CURRENT_VALUE);
+	/**
+	 * Checks if the polling time budget of the cycle is used up
+	 *
+	 * @return true if a budget is configured and its deadline has passed
+	 */
+	private boolean isPollingBudgetUsedUp() {
+		return pollingTimeBudgetValue > 0 && System.nanoTime() >= pollingDeadline;
+	}
+
+	/**
+	 * Checks if a step of the running read work is due. The steps done earlier in the pass of an interrupted work are skipped,
+	 * and once the polling time budget is used up the remaining steps are skipped and the work is carried over. At least one step runs per cycle.
+	 *
+	 * @param step the step, usually the command it sends
+	 * @return true if the step has to run now
+	 */
+	private boolean isPollingStepDue(String step) {
+		if (currentPollingWork == null) {
+			return true;
+		}
+		if (pollingWorkQueue.isStepCompleted(currentPollingWork, step)) {
+			return false;
+		}
+		if (pollingStepCount > 0 && isPollingBudgetUsedUp()) {
+			isPollingWorkInterrupted = true;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Records a completed step of the running read work
+	 *
+	 * @param step the step, usually the command it sends
+	 */
+	private void completePollingStep(String step) {
+		if (currentPollingWork != null) {
+			pollingWorkQueue.completeStep(currentPollingWork, step);
+			pollingStepCount++;
+		}
+	}
 
-							String backlightCompensation = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName());
-							String backlightValue = EasyIPMixerConstant.ON_VALUE.equals(backlightCompensation) ? "1" : "0";
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createSwitch(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName(), Integer.parseInt(backlightValue), EasyIPMixerConstant.OFF,
-											EasyIPMixerConstant.ON), backlightValue);
+	/**
+	 * Retrieves the data of a single unit of read work
+	 *
+	 * @param work the work to retrieve
+	 * @throws Exception if there's an error during data retrieval.
+	 */
+	private void retrievePollingWork(PollingWork work) throws Exception {
+		switch (work) {
+			case ESSENTIAL:
+				for (MonitoringCommand command : MonitoringCommand.values()) {
+					if (command.isEssentialCommand() && isMonitoringCommandIncluded(command) && isPollingStepDue(command.getName())) {
+						retrieveMonitoringCommand(command, numberOfCamera);
+						completePollingStep(command.getName());
+					}
+				}
+				break;
+			case CAMERA_DISCOVERY:
+				getNumberCamera();
+				break;
+			case MONITORING:
+				retrieveMonitoring();
+				checkFirmwareVersion();
+				break;
+			case CAMERA_POSITION:
+				retrieveCameraPosition(isPositionRefreshRequested);
+				isPositionRefreshRequested = false;
+				break;
+			case ROUTE:
+				retrieveEnabledRoute();
+				break;
+			case AUDIO_VOLUME:
+				retrieveAudioVolume();
+				break;
+			case CROSSPOINT_GAIN_FIRST_HALF:
+				retrieveCrossPointGain(1);
+				break;
+			case CROSSPOINT_GAIN_SECOND_HALF:
+				retrieveCrossPointGain(2);
+				break;
+			default:
+				logger.debug(String.format("Polling work %s doesn't support", work.getName()));
+		}
+	}
 
-							String wideDynamicRange = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName());
-							String wideValue = EasyIPMixerConstant.ON_VALUE.equals(wideDynamicRange) ? "1" : "0";
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createSwitch(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName(), Integer.parseInt(wideValue), EasyIPMixerConstant.OFF, EasyIPMixerConstant.ON),
-									wideValue);
+	/**
+	 * Retrieves the position of the cameras that are due in the current cycle: the moving cameras are polled every cycle
+	 * until they settle, the idle cameras only once the idle polling interval has elapsed. Cameras in standby are skipped.
+	 *
+	 * @param force if true the position of every active camera is retrieved
+	 * @throws FailedLoginException if the login attempt fails while sending the command.
+	 */
+	private void retrieveCameraPosition(boolean force) throws FailedLoginException {
+		cameraMotionTracker.retainCameras(numberOfCamera);
+		if (propertyFilter.isExcluded(EasyIPMixerConstant.CAMERA_POSITION_FEATURE)) {
+			return;
+		}
+		Set<String> cameras = getIncludedCameras().stream().filter(item -> !isCameraStandbyOn(item) && (force || cameraMotionTracker.isPositionDue(item))).collect(Collectors.toSet());
+		for (MonitoringCommand command : MonitoringCommand.values()) {
+			if (command.isPositionCommand()) {
+				retrieveMonitoringCommand(command, cameras);
+			}
+		}
+		for (String item : cameras) {
+			String group = EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH;
+			cameraMotionTracker.recordPosition(item, cacheKeyAndValue.get(group + MonitoringCommand.PAN.getName()) + EasyIPMixerConstant.COLON
+					+ cacheKeyAndValue.get(group + MonitoringCommand.TILT.getName()) + EasyIPMixerConstant.COLON + cacheKeyAndValue.get(group + MonitoringCommand.ZOOM.getName()));
+		}
+	}
 
-						} else {
-							retrieveCameraColor(sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera)), indexCamera);
-							String irisValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName());
-							List<String> arrayValues = Arrays.stream(IrisValueEnum.values()).map(IrisValueEnum::getName).collect(Collectors.toList());
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createDropdown(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.IRIS.getName(), arrayValues.toArray(new String[0]), IrisValueEnum.getNameByValue(irisValue)), irisValue);
+	/**
+	 * Checks if the polling group is due in the current polling sweep based on its refresh period.
+	 *
+	 * @param group the polling group to check
+	 * @return true if the group must be retrieved in the current sweep
+	 */
+	private boolean isGroupDue(PollingGroup group) {
+		return pollingSweepCount % groupRefreshPeriods.getOrDefault(group, 1) == 0;
+	}
 
-							String gainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName());
-							arrayValues = Arrays.stream(GainValueEnum.values()).map(GainValueEnum::getName).collect(Collectors.toList());
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createDropdown(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.GAIN.getName(), arrayValues.toArray(new String[0]), GainValueEnum.getNameByValue(gainValue)), gainValue);
+	/**
+	 * Retrieves the standby profile: the system standby state plus the monitoring commands configured in {@link #standbyPollingCommands}.
+	 *
+	 * @throws FailedLoginException if the login attempt fails while sending the command.
+	 */
+	private void retrieveStandbyProfile() throws FailedLoginException {
+		retrieveMonitoringCommand(MonitoringCommand.SYSTEM_STANDBY, numberOfCamera);
+		for (MonitoringCommand command : standbyMonitoringCommands) {
+			if (!MonitoringCommand.SYSTEM_STANDBY.equals(command) && isMonitoringCommandIncluded(command)) {
+				retrieveMonitoringCommand(command, getIncludedCameras());
+			}
+		}
+	}
 
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.WIDE_DYNAMIC_RANGE.getName(), stats, advancedControllableProperties);
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BACKLIGHT_COMPENSATION.getName(), stats, advancedControllableProperties);
-						}
-						break;
-					case AUTO_WHITE_BALANCE:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = getStatusSwitch(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, status);
-						if (EasyIPMixerConstant.ON_VALUE.equals(status)) {
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName(), stats, advancedControllableProperties);
-							removeValueForTheControllableProperty(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName(), stats, advancedControllableProperties);
-							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.RED_GAIN_CURRENT_VALUE);
-							stats.remove(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.BLUE_GAIN_CURRENT_VALUE);
-						} else {
-							retrieveCameraColor(sendCommandDetails(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera)), indexCamera);
-							String redGainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName());
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createSlider(stats, group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.RED_GAIN.getName(), "0", "255", 0f, 255f, Float.parseFloat(redGainValue)), redGainValue);
-							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.RED_GAIN_CURRENT_VALUE, redGainValue);
+	/**
+	 * Checks if the system is in standby mode based on the state of the system standby in the cache.
+	 *
+	 * @return true if the system standby is on
+	 */
+	private boolean isSystemStandbyOn() {
+		return EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(EasyIPMixerProperty.SYSTEM_STANDBY.getName()));
+	}
 
-							String blueGainValue = cacheKeyAndValue.get(group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName());
-							addAdvancedControlProperties(advancedControllableProperties, stats,
-									createSlider(stats, group + EasyIPMixerConstant.HASH + EasyIPMixerProperty.BLUE_GAIN.getName(), "0", "255", 0f, 255f, Float.parseFloat(blueGainValue)), blueGainValue);
-							stats.put(group + EasyIPMixerConstant.HASH + EasyIPMixerConstant.BLUE_GAIN_CURRENT_VALUE, blueGainValue);
-						}
-						break;
-					case BLUE_GAIN:
-					case DETAIL:
-					case RED_GAIN:
-					case CHROMA:
-					case GAMMA:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						value = convertFloatToIntString(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
-						sendCommandToControlDevice(command, value, propertyKey);
-						stats.put(property.replace(EasyIPMixerConstant.SHARPNESS, EasyIPMixerConstant.EMPTY).replace(EasyIPMixerConstant.SATURATION, EasyIPMixerConstant.EMPTY) + EasyIPMixerConstant.CURRENT_VALUE,
-								value);
-						updateCachedDeviceData(cacheKeyAndValue, property, value);
-						break;
-					case IRIS:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						newValue = IrisValueEnum.getValueByName(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
-						sendCommandToControlDevice(command, value, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, newValue);
-						break;
-					case GAIN:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						newValue = GainValueEnum.getValueByName(value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
-						sendCommandToControlDevice(command, value, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, newValue);
-						break;
-					case CAMERA_ZOOM:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						value = checkValidInput(1, 20, value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
-						sendCommandToControlDeviceWithExecutor(command, value, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, value);
-						break;
-					case CAMERA_PAN:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						value = checkValidInput(-156.3, 151.7, value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
-						sendCommandToControlDeviceWithExecutor(command, value, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, value);
-						break;
-					case CAMERA_TILT:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						value = checkValidInput(-30, 92.5, value);
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", value);
-						sendCommandToControlDeviceWithExecutor(command, value, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, value);
-						break;
-					case CAMERA_FOCUS_MODE:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						status = EasyIPMixerConstant.NUMBER_ONE.equals(value) ? "auto" : "manual";
-						command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", status);
-						sendCommandToControlDevice(command, status, propertyKey);
-						updateCachedDeviceData(cacheKeyAndValue, property, EasyIPMixerConstant.NUMBER_ONE.equals(value) ? EasyIPMixerConstant.ON_VALUE : EasyIPMixerConstant.OFF_VALUE);
-						break;
-					case CAMERA_HOME:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						sendCommandToControlDevice(propertyItem.getControlCommand().replace("$1", indexCamera), EasyIPMixerConstant.HOME, propertyKey);
-						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.PAN.getName(), EasyIPMixerConstant.PAN_HOME_VALUE);
-						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.TILT.getName(), EasyIPMixerConstant.TILT_HOME_VALUE);
-						cacheKeyAndValue.put(group + EasyIPMixerConstant.HASH + MonitoringCommand.ZOOM.getName(), EasyIPMixerConstant.ZOOM_HOME_VALUE);
-						populateCameraPosition(stats, advancedControllableProperties, group);
-						break;
-					case CAMERA_PRESET:
-						indexCamera = EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY));
-						newValue = PresetValueEnum.getValueByName(value);
-						if (newValue != null) {
-							command = propertyItem.getControlCommand().replace("$1", indexCamera).replace("$2", newValue);
-							sendCommandToControlDevice(command, value, propertyKey);
-						} else {
-							throw new IllegalArgumentException("Please select valid value.");
-						}
-						break;
-					default:
-						logger.debug(String.format("Property name %s doesn't support", propertyKey));
-				}
+	/**
+	 * Checks if the camera is in standby mode based on the state of the camera standby in the cache.
+	 *
+	 * @param cameraIndex the index of camera
+	 * @return true if the camera standby is on
+	 */
+	private boolean isCameraStandbyOn(String cameraIndex) {
+		return EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(
+				EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(cameraIndex) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.CAMERA_STANDBY.getName()));
+	}
+
+	/**
+	 * Retrieves the number of connected cameras within a range of specified IDs.
+	 *
+	 * @throws FailedLoginException if the login attempt fails during the command execution
+	 */
+	private void getNumberCamera() throws FailedLoginException {
+		String command;
+		String response;
+		numberOfCamera.clear();
+		for (int i = 2; i <= 5; i++) {
+			command = EasyIpMixerCommand.HOST_CAMERA.replace("$", String.valueOf(i));
+			response = extractResponseValue(sendCommandDetails(command), "host:(.*?)\r\n");
+			endParseSpan();
+			if (!response.contains("unconnected")) {
+				numberOfCamera.add(String.valueOf(i));
+			} else if (cacheKeyAndValue.removeGroup(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(String.valueOf(i)) + EasyIPMixerConstant.HASH)) {
+				logger.debug(String.format("Camera %s of device %s is no longer connected, evict its cached state", i, host));
 			}
-			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-		} finally {
-			reentrantLock.unlock();
 		}
+		capabilityProfile.setCameras(numberOfCamera);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves the file storing the state of the device under the adapter's working directory.
+	 *
+	 * @param extension the extension of the file
+	 * @return the path of the file
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> list) throws Exception {
-		if (CollectionUtils.isEmpty(list)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+	private Path getStateFile(String extension) {
+		String fileName = String.valueOf(host).replaceAll("[^A-Za-z0-9.\\-]", "_");
+		return Paths.get(System.getProperty("user.dir"), EasyIPMixerConstant.STATE_DIRECTORY, fileName + extension);
+	}
+
+	/**
+	 * Loads the capability profile of the device, so the first cycle polls the known camera slots and skips the unsupported commands.
+	 * The restored camera slots are validated in the background during the first cycle.
+	 */
+	private void loadCapabilityProfile() {
+		capabilityProfile = new DeviceCapabilityProfile(host);
+		lastProfileSaveTime = System.currentTimeMillis();
+		try {
+			DeviceCapabilityProfile profile = DeviceCapabilityProfile.load(getStateFile(EasyIPMixerConstant.PROFILE_EXTENSION), String.valueOf(host));
+			if (profile == null) {
+				return;
+			}
+			capabilityProfile = profile;
+			numberOfCamera.clear();
+			numberOfCamera.addAll(profile.getCameras());
+			for (String command : profile.getUnsupportedCommands()) {
+				failedMonitor.open(command, EasyIPMixerConstant.ERROR_RESPONSE);
+			}
+			isProfileRevalidationPending = true;
+		} catch (Exception e) {
+			logger.warn(String.format("Can't load the capability profile of device %s", host), e);
 		}
-		for (ControllableProperty p : list) {
+	}
+
+	/**
+	 * Restores the last known state of the device, the next cycle serves it right away while the live polling catches up.
+	 */
+	private void loadStateSnapshot() {
+		if (!isEnableStateSnapshot) {
+			return;
+		}
+		try {
+			DeviceStateSnapshot snapshot = DeviceStateSnapshot.read(getStateFile(EasyIPMixerConstant.SNAPSHOT_EXTENSION), String.valueOf(host));
+			if (snapshot == null) {
+				return;
+			}
+			snapshot.getValues().forEach((key, value) -> cacheKeyAndValue.put(key, value, CacheSource.POLL, snapshot.getTimestamp()));
+			if (numberOfCamera.isEmpty()) {
+				numberOfCamera.addAll(snapshot.getCameras());
+			}
+			snapshotTime = snapshot.getTimestamp();
+			lastSnapshotSaveTime = System.currentTimeMillis();
+			isRestoredFromSnapshot = true;
+			isSnapshotServePending = true;
+		} catch (Exception e) {
+			logger.warn(String.format("Can't restore the state snapshot of device %s", host), e);
+		}
+	}
+
+	/**
+	 * Saves the last known state of the device, at most every {@link EasyIPMixerConstant#SNAPSHOT_SAVE_INTERVAL}.
+	 * The state restored from a previous snapshot is not saved again until a full polling sweep has replaced it.
+	 *
+	 * @param force if true the snapshot is saved even if the save interval hasn't elapsed
+	 */
+	private void saveStateSnapshot(boolean force) {
+		if (!isEnableStateSnapshot || isRestoredFromSnapshot || cacheKeyAndValue.isEmpty()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (!force && now - lastSnapshotSaveTime < EasyIPMixerConstant.SNAPSHOT_SAVE_INTERVAL) {
+			return;
+		}
+		try {
+			new DeviceStateSnapshot(now, numberOfCamera, cacheKeyAndValue).write(getStateFile(EasyIPMixerConstant.SNAPSHOT_EXTENSION), String.valueOf(host));
+			lastSnapshotSaveTime = now;
+		} catch (Exception e) {
+			logger.warn(String.format("Can't save the state snapshot of device %s", host), e);
+		}
+	}
+
+	/**
+	 * Validates the camera slots restored from the capability profile on the executor, without delaying the current cycle.
+	 */
+	private void revalidateCapabilityProfile() {
+		profileValidator = runAsync(() -> {
+			long lockTime = lockWithMetrics(CommandPriority.LOW);
 			try {
-				controlProperty(p);
+				getNumberCamera();
 			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				logger.debug("Exception while validating the capability profile.", e);
+			} finally {
+				unlockWithMetrics(lockTime);
+			}
+		}, commandLane);
+	}
+
+	/**
+	 * Discards the capability profile when the firmware version of the device changed, the capabilities are learned again.
+	 */
+	private void checkFirmwareVersion() {
+		String version = cacheKeyAndValue.get(EasyIPMixerConstant.SYSTEM_INFORMATION_GROUP + VersionInformation.SYSTEM_VERSION.getName());
+		if (StringUtils.isNullOrEmpty(version) || EasyIPMixerConstant.NONE.equals(version)) {
+			return;
+		}
+		if (!capabilityProfile.isValidFor(version)) {
+			logger.info(String.format("Firmware version of device %s changed from %s to %s, discard the capability profile", host, capabilityProfile.getFirmwareVersion(), version));
+			try {
+				Files.deleteIfExists(getStateFile(EasyIPMixerConstant.PROFILE_EXTENSION));
+			} catch (Exception e) {
+				logger.warn(String.format("Can't delete the capability profile of device %s", host), e);
 			}
+			capabilityProfile = new DeviceCapabilityProfile(host);
+			capabilityProfile.setCameras(numberOfCamera);
+			failedMonitor.clear();
 		}
+		capabilityProfile.setFirmwareVersion(version);
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Saves the capability profile if it changed, the latency is refreshed at most every {@link EasyIPMixerConstant#PROFILE_SAVE_INTERVAL}.
+	 * Only the commands whose circuit was opened by the "Syntax error" reply of the device are saved as unsupported.
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param force if true the profile is saved even if nothing changed
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
-
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
-
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					throw new SocketTimeoutException("Socket connection timed out");
-				} catch (UnknownHostException tex) {
-					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
-				} catch (Exception e) {
-					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
+	private void saveCapabilityProfile(boolean force) {
+		if (capabilityProfile == null || capabilityProfile.getFirmwareVersion() == null) {
+			return;
+		}
+		capabilityProfile.setUnsupportedCommands(failedMonitor.getCommands(CircuitState.OPEN, EasyIPMixerConstant.ERROR_RESPONSE));
+		long now = System.currentTimeMillis();
+		if (!force && !capabilityProfile.isChanged() && now - lastProfileSaveTime < EasyIPMixerConstant.PROFILE_SAVE_INTERVAL) {
+			return;
+		}
+		try {
+			capabilityProfile.save(getStateFile(EasyIPMixerConstant.PROFILE_EXTENSION));
+			lastProfileSaveTime = now;
+		} catch (Exception e) {
+			logger.warn(String.format("Can't save the capability profile of device %s", host), e);
+		}
+	}
+
+	/**
+	 * Retrieves monitoring data by sending commands based on MonitoringCommand enum values.
+	 * Updates cacheKeyAndValue with extracted information based on different commands.
+	 * Cameras in standby are only polled for their standby state, the remaining camera data is refreshed as soon as the standby is turned off.
+	 *
+	 * @throws FailedLoginException if the login attempt fails while sending the command.
+	 */
+	private void retrieveMonitoring() throws FailedLoginException {
+		Set<String> cameras = getIncludedCameras();
+		Set<String> standbyCameras = cameras.stream().filter(this::isCameraStandbyOn).collect(Collectors.toSet());
+		Set<String> activeCameras = new HashSet<>(cameras);
+		activeCameras.removeAll(standbyCameras);
+		for (MonitoringCommand command : MonitoringCommand.values()) {
+			if (!command.isPositionCommand() && isMonitoringCommandIncluded(command) && isPollingStepDue(command.getName())) {
+				retrieveMonitoringCommand(command, MonitoringCommand.CAMERA_STANDBY.equals(command) ? cameras : activeCameras);
+				completePollingStep(command.getName());
+			}
+		}
+
+		Set<String> wokenCameras = standbyCameras.stream().filter(item -> !isCameraStandbyOn(item)).collect(Collectors.toSet());
+		if (!wokenCameras.isEmpty()) {
+			for (MonitoringCommand command : MonitoringCommand.values()) {
+				if (command.isCameraCommand() && !command.isPositionCommand() && !MonitoringCommand.CAMERA_STANDBY.equals(command) && isMonitoringCommandIncluded(command)) {
+					retrieveMonitoringCommand(command, wokenCameras);
 				}
 			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
+			wokenCameras.forEach(cameraMotionTracker::startMotion);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves the cameras kept by {@link #propertyFilter}
+	 *
+	 * @return the indexes of the included cameras
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		executorService = Executors.newFixedThreadPool(1);
-		super.internalInit();
+	private Set<String> getIncludedCameras() {
+		return numberOfCamera.stream().filter(item -> propertyFilter.isIncluded(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item)))
+				.collect(Collectors.toCollection(HashSet::new));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Checks if the data of the monitoring command is kept by {@link #propertyFilter}
+	 *
+	 * @param command the monitoring command
+	 * @return true if the command is polled
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+	private boolean isMonitoringCommandIncluded(MonitoringCommand command) {
+		switch (command) {
+			case NETWORK:
+				return propertyFilter.isIncluded(EasyIPMixerConstant.NETWORK_GROUP);
+			case VERSION:
+				return propertyFilter.isIncluded(EasyIPMixerConstant.SYSTEM_INFORMATION_GROUP);
+			case STREAMING:
+				return propertyFilter.isIncluded(command.getName());
+			case VIDEO_PIP:
+			case VIDEO_SOURCE:
+				return propertyFilter.isIncluded(EasyIPMixerConstant.VIDEO_OUTPUT_GROUP);
+			case CAMERA_COLOR:
+				return !propertyFilter.isExcluded(EasyIPMixerConstant.CAMERA_COLOR_FEATURE);
+			case PAN:
+			case TILT:
+			case ZOOM:
+				return !propertyFilter.isExcluded(EasyIPMixerConstant.CAMERA_POSITION_FEATURE);
+			default:
+				return true;
 		}
-		dataCollector.cancel(true);
-		executorService.shutdownNow();
-		currentPollingInterval = 1;
-		cacheKeyAndValue.clear();
-		super.internalDestroy();
 	}
 
 	/**
-	 * Retrieve data based on the current polling interval.
-	 * This method retrieves different sets of data based on the current polling interval.
-	 * It calls specific retrieval methods for each interval and updates the current polling interval.
+	 * Checks if the property is kept by {@link #propertyFilter}, the camera groups are filtered separately
 	 *
-	 * @throws Exception if there's an error during data retrieval.
+	 * @param property the property to check
+	 * @return true if the property is exposed
 	 */
-	private void retrieveAllData() throws Exception {
-		getNumOfPollingInterval();
-		if (currentPollingInterval == 1) {
-			getNumberCamera();
-			retrieveMonitoring();
-			retrieveEnabledRoute();
-		}
-		if (currentPollingInterval == 2) {
-			retrieveAudioVolume();
-		}
-		if (currentPollingInterval == 3) {
-			retrieveCrossPointGain(1);
-		}
-		if (currentPollingInterval == 4) {
-			retrieveCrossPointGain(2);
+	private boolean isPropertyIncluded(EasyIPMixerProperty property) {
+		switch (property) {
+			case CAMERA_PAN:
+			case CAMERA_TILT:
+			case CAMERA_ZOOM:
+			case CAMERA_HOME:
+			case CAMERA_PRESET:
+				return !propertyFilter.isExcluded(EasyIPMixerConstant.CAMERA_POSITION_FEATURE);
+			case USB_DEVICE:
+				return propertyFilter.isIncluded(property.getName());
+			default:
+				if (Arrays.stream(CameraColorSettings.values()).anyMatch(item -> item.getName().equals(property.getName()))) {
+					return !propertyFilter.isExcluded(EasyIPMixerConstant.CAMERA_COLOR_FEATURE);
+				}
+				return StringUtils.isNullOrEmpty(property.getGroup()) || EasyIPMixerConstant.VIDEO_INPUT.equals(property.getGroup()) || propertyFilter.isIncluded(property.getGroup());
 		}
 	}
 
 	/**
-	 * Retrieves the number of connected cameras within a range of specified IDs.
+	 * Checks if the property is published by the first stage of the progressive startup
 	 *
-	 * @throws FailedLoginException if the login attempt fails during the command execution
+	 * @param property the property to check
+	 * @return true if the property is polled by an essential command, or is the reboot button
 	 */
-	private void getNumberCamera() throws FailedLoginException {
-		String command;
-		String response;
-		numberOfCamera.clear();
-		for (int i = 2; i <= 5; i++) {
-			command = EasyIpMixerCommand.HOST_CAMERA.replace("$", String.valueOf(i));
-			response = extractResponseValue(sendCommandDetails(command), "host:(.*?)\r\n");
-			if (!response.contains("unconnected")) {
-				numberOfCamera.add(String.valueOf(i));
-			}
-		}
+	private boolean isEssentialProperty(EasyIPMixerProperty property) {
+		MonitoringCommand command = MonitoringCommand.getByName(property.getName());
+		return EasyIPMixerProperty.SYSTEM_REBOOT.equals(property) || (command != null && command.isEssentialCommand());
 	}
 
 	/**
-	 * Retrieves monitoring data by sending commands based on MonitoringCommand enum values.
-	 * Updates cacheKeyAndValue with extracted information based on different commands.
+	 * Retrieves the data of a single monitoring command and stores it in the cache.
 	 *
+	 * @param command the monitoring command to send
+	 * @param cameras the indexes of cameras to poll if the command is sent once per camera
 	 * @throws FailedLoginException if the login attempt fails while sending the command.
 	 */
-	private void retrieveMonitoring() throws FailedLoginException {
+	private void retrieveMonitoringCommand(MonitoringCommand command, Set<String> cameras) throws FailedLoginException {
 		String response = EasyIPMixerConstant.EMPTY;
-		for (MonitoringCommand command : MonitoringCommand.values()) {
-			if (!command.getCommand().contains("$")) {
-				response = sendCommandDetails(command.getCommand());
-			}
-			switch (command) {
-				case NETWORK:
-					for (NetworkInformation network : NetworkInformation.values()) {
-						cacheKeyAndValue.put(EasyIPMixerConstant.NETWORK_GROUP + network.getName(), extractResponseValue(response, network.getValue()));
-					}
-					break;
-				case VERSION:
-					for (VersionInformation version : VersionInformation.values()) {
-						cacheKeyAndValue.put(EasyIPMixerConstant.SYSTEM_INFORMATION_GROUP + version.getName(), extractResponseValue(response, version.getValue()));
-					}
-					break;
-				case CAMERA_COLOR:
-					for (String item : numberOfCamera) {
-						response = sendCommandDetails(command.getCommand().replace("$", item));
-						retrieveCameraColor(response, item);
-					}
-					break;
-				case PAN:
-				case TILT:
-				case ZOOM:
-					for (String item : numberOfCamera) {
-						response = sendCommandDetails(command.getCommand().replace("$", item));
-						cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + command.getName(),
-								replaceDraftInResponse(response, command.getCommand().replace("$", item)));
-					}
-					break;
-				case FOCUS_MODE:
-				case CAMERA_STANDBY:
-					for (String item : numberOfCamera) {
-						response = sendCommandDetails(command.getCommand().replace("$", item));
-						cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + command.getName(),
-								extractResponseValue(response, command.getRegex()));
-					}
-					break;
-				case VIDEO_PIP:
-				case VIDEO_SOURCE:
-					cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_OUTPUT_GROUP + command.getName(), extractResponseValue(response, command.getRegex()));
-					break;
-				default:
-					cacheKeyAndValue.put(command.getName(), extractResponseValue(response, command.getRegex()));
-					break;
-			}
+		if (!command.isCameraCommand()) {
+			response = sendCommandDetails(command.getCommand());
+		}
+		switch (command) {
+			case NETWORK:
+				for (NetworkInformation network : NetworkInformation.values()) {
+					cacheKeyAndValue.put(EasyIPMixerConstant.NETWORK_GROUP + network.getName(), extractResponseValue(response, network.getValue()));
+				}
+				break;
+			case VERSION:
+				for (VersionInformation version : VersionInformation.values()) {
+					cacheKeyAndValue.put(EasyIPMixerConstant.SYSTEM_INFORMATION_GROUP + version.getName(), extractResponseValue(response, version.getValue()));
+				}
+				break;
+			case CAMERA_COLOR:
+				for (String item : cameras) {
+					response = sendCommandDetails(command.getCommand().replace("$", item));
+					retrieveCameraColor(response, item);
+					endParseSpan();
+				}
+				break;
+			case PAN:
+			case TILT:
+			case ZOOM:
+				for (String item : cameras) {
+					response = sendCommandDetails(command.getCommand().replace("$", item));
+					cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + command.getName(),
+							replaceDraftInResponse(response, command.getCommand().replace("$", item)));
+					endParseSpan();
+				}
+				break;
+			case FOCUS_MODE:
+			case CAMERA_STANDBY:
+				for (String item : cameras) {
+					response = sendCommandDetails(command.getCommand().replace("$", item));
+					cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + command.getName(),
+							extractResponseValue(response, command.getRegex()));
+					endParseSpan();
+				}
+				break;
+			case VIDEO_PIP:
+			case VIDEO_SOURCE:
+				cacheKeyAndValue.put(EasyIPMixerConstant.VIDEO_OUTPUT_GROUP + command.getName(), extractResponseValue(response, command.getRegex()));
+				break;
+			default:
+				cacheKeyAndValue.put(command.getName(), extractResponseValue(response, command.getRegex()));
+				break;
 		}
+		endParseSpan();
 	}
 
 	/**
@@ -764,8 +2648,13 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String response;
 		for (AudioOutput output : AudioOutput.values()) {
 			command = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", output.getValue());
+			if (!propertyFilter.isIncluded(output.getPropertyName()) || !isPollingStepDue(command)) {
+				continue;
+			}
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(EasyIPMixerConstant.CROSSPOINT + output.getPropertyName() + EasyIPMixerConstant.HASH + output.getPropertyName(), replaceDraftInResponse(response, command));
+			endParseSpan();
+			completePollingStep(command);
 		}
 	}
 
@@ -779,26 +2668,35 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String command;
 		String response;
 		for (AudioOutput output : AudioOutput.values()) {
+			if (!propertyFilter.isIncluded(output.getPropertyName()) || !isPollingStepDue(output.getValue())) {
+				continue;
+			}
 			command = EasyIpMixerCommand.MUTE_MONITOR.replace("$", output.getValue());
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(output.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.MUTE, extractResponseValue(response, EasyIPMixerConstant.MUTE_REGEX));
+			endParseSpan();
 
 			command = EasyIpMixerCommand.VOLUME_MONITOR.replace("$", output.getValue());
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(output.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.VOLUME_DB, removeUnit(extractResponseValue(response, EasyIPMixerConstant.VOLUME_REGEX)));
+			endParseSpan();
+			completePollingStep(output.getValue());
 		}
 
 		for (AudioInput input : AudioInput.values()) {
-			if (input.equals(AudioInput.AUTO_MIC_MIXER)) {
+			if (input.equals(AudioInput.AUTO_MIC_MIXER) || !propertyFilter.isIncluded(input.getPropertyName()) || !isPollingStepDue(input.getValue())) {
 				continue;
 			}
 			command = EasyIpMixerCommand.MUTE_MONITOR.replace("$", input.getValue());
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(input.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.MUTE, extractResponseValue(response, EasyIPMixerConstant.MUTE_REGEX));
+			endParseSpan();
 
 			command = EasyIpMixerCommand.VOLUME_MONITOR.replace("$", input.getValue());
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(input.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.VOLUME_DB, removeUnit(extractResponseValue(response, EasyIPMixerConstant.VOLUME_REGEX)));
+			endParseSpan();
+			completePollingStep(input.getValue());
 		}
 	}
 
@@ -811,20 +2709,22 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String command;
 		String response;
 		for (AudioOutput output : AudioOutput.values()) {
-			if (output.equals(AudioOutput.USB_RECORD_LEFT) || output.equals(AudioOutput.USB_RECORD_RIGHT)) {
+			if ((output.equals(AudioOutput.USB_RECORD_LEFT) || output.equals(AudioOutput.USB_RECORD_RIGHT)) && propertyFilter.isIncluded(output.getPropertyName())) {
 				command = EasyIpMixerCommand.MUTE_MONITOR.replace("$", output.getValue());
 				response = sendCommandDetails(command);
 				cacheKeyAndValue.put(output.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.MUTE, extractResponseValue(response, EasyIPMixerConstant.MUTE_REGEX));
+				endParseSpan();
 			}
 		}
 
 		for (AudioInput input : AudioInput.values()) {
-			if (input.equals(AudioInput.AUTO_MIC_MIXER)) {
+			if (input.equals(AudioInput.AUTO_MIC_MIXER) || !propertyFilter.isIncluded(input.getPropertyName())) {
 				continue;
 			}
 			command = EasyIpMixerCommand.MUTE_MONITOR.replace("$", input.getValue());
 			response = sendCommandDetails(command);
 			cacheKeyAndValue.put(input.getPropertyName() + EasyIPMixerConstant.HASH + EasyIPMixerConstant.MUTE, extractResponseValue(response, EasyIPMixerConstant.MUTE_REGEX));
+			endParseSpan();
 		}
 	}
 
@@ -850,10 +2750,18 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		for (AudioOutput output : outputValues) {
 			String group = output.getPropertyName();
 			String valueOutput = output.getValue();
+			if (!propertyFilter.isIncluded(group)) {
+				continue;
+			}
 			for (AudioInput input : AudioInput.values()) {
 				command = EasyIpMixerCommand.GAIN_MONITOR.replace("$1", valueOutput).replace("$2", input.getValue());
+				if (!propertyFilter.isIncluded(input.getPropertyName()) || !isPollingStepDue(command)) {
+					continue;
+				}
 				response = sendCommandDetails(command);
 				cacheKeyAndValue.put(EasyIPMixerConstant.CROSSPOINT + group + EasyIPMixerConstant.HASH + input.getPropertyName() + EasyIPMixerConstant.GAIN_DB, replaceDraftInResponse(response, command));
+				endParseSpan();
+				completePollingStep(command);
 			}
 		}
 	}
@@ -880,23 +2788,67 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	}
 
 	/**
-	 * Populates all necessary data for monitoring and controlling based on the specified polling interval.
+	 * Populates all necessary data for monitoring and controlling based on the specified polling interval, then moves to the next polling interval.
+	 * Only the monitoring cycle calls it, a control may run inside the cycle while it yields and uses {@link #populateCachedData} instead.
 	 *
 	 * @param stats The map to store statistics-related data.
 	 * @param controlStats The map to store control-related data.
 	 * @param advancedControllableProperties The list of advanced controllable properties.
 	 */
 	private void populateAllData(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		populateCachedData(stats, controlStats, advancedControllableProperties);
+		if (isStandbyPolling || isStartupPolling) {
+			currentPollingInterval = 1;
+		} else if (currentPollingInterval < numOfPollingInterval) {
+			currentPollingInterval++;
+		} else {
+			currentPollingInterval = 1;
+			pollingSweepCount++;
+		}
+	}
+
+	/**
+	 * Populates the statistics and the controllable properties from the cached device state, without moving to the next polling interval.
+	 *
+	 * @param stats Map containing monitoring statistics
+	 * @param controlStats Map containing control-related statistics
+	 * @param advancedControllableProperties List of advanced controllable properties
+	 */
+	private void populateCachedData(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		populateMonitoringAndControllingData(stats, controlStats, advancedControllableProperties);
-		populateEnabledRoute(controlStats, advancedControllableProperties);
-		if (numOfPollingInterval == 2) {
-			populateAudioVolume(controlStats, advancedControllableProperties);
+		if (!progressiveStartup.isPending(PollingWork.ROUTE)) {
+			populateEnabledRoute(controlStats, advancedControllableProperties);
 		}
-		if (numOfPollingInterval == 4) {
+		if (isConfigManagement && !progressiveStartup.isPending(PollingWork.AUDIO_VOLUME)) {
 			populateAudioVolume(controlStats, advancedControllableProperties);
+		}
+		if (isConfigManagement && isEnableCrosspointGain && !progressiveStartup.isPending(PollingWork.CROSSPOINT_GAIN_FIRST_HALF)
+				&& !progressiveStartup.isPending(PollingWork.CROSSPOINT_GAIN_SECOND_HALF)) {
 			populateCrossPointGain(controlStats, advancedControllableProperties);
 		}
-		currentPollingInterval = currentPollingInterval < numOfPollingInterval ? currentPollingInterval + 1 : 1;
+		if (isProgressiveStartup) {
+			populateStartupProgress(stats);
+		}
+	}
+
+	/**
+	 * Populates the completion flag of each group polled by the progressive startup
+	 *
+	 * @param stats the statistics to be populated with the flags
+	 */
+	private void populateStartupProgress(Map<String, String> stats) {
+		Map<String, List<PollingWork>> groups = new LinkedHashMap<>();
+		groups.put(EasyIPMixerConstant.ESSENTIAL, Arrays.asList(PollingWork.CAMERA_DISCOVERY, PollingWork.ESSENTIAL));
+		groups.put(EasyIPMixerConstant.CAMERAS, Arrays.asList(PollingWork.MONITORING, PollingWork.CAMERA_POSITION));
+		groups.put(EasyIPMixerConstant.AUDIO_ROUTE, Collections.singletonList(PollingWork.ROUTE));
+		groups.put(EasyIPMixerConstant.AUDIO_VOLUME, Collections.singletonList(PollingWork.AUDIO_VOLUME));
+		groups.put(EasyIPMixerConstant.CROSSPOINT_GAIN, Arrays.asList(PollingWork.CROSSPOINT_GAIN_FIRST_HALF, PollingWork.CROSSPOINT_GAIN_SECOND_HALF));
+		for (Map.Entry<String, List<PollingWork>> group : groups.entrySet()) {
+			if (group.getValue().stream().anyMatch(progressiveStartup::isPlanned)) {
+				boolean isPending = group.getValue().stream().anyMatch(progressiveStartup::isPending);
+				stats.put(EasyIPMixerConstant.STARTUP_GROUP + group.getKey(), isPending ? EasyIPMixerConstant.PENDING : EasyIPMixerConstant.COMPLETE);
+			}
+		}
 	}
 
 	/**
@@ -911,10 +2863,17 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String propertyName;
 		String status;
 		String standbyValue;
+		Set<String> cameras = getIncludedCameras();
+		boolean isDetailPending = progressiveStartup.isPending(PollingWork.MONITORING);
 		for (EasyIPMixerProperty property : EasyIPMixerProperty.values()) {
-
+			if (!isPropertyIncluded(property) || (isDetailPending && !isEssentialProperty(property))) {
+				continue;
+			}
 			if (EasyIPMixerConstant.VIDEO_INPUT.equals(property.getGroup())) {
 				for (String item : numberOfCamera) {
+					if (!cameras.contains(item)) {
+						continue;
+					}
 					propertyName = EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + property.getName();
 					standbyValue = EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.CAMERA_STANDBY.getName();
 					value = getDefaultValueForNullData(cacheKeyAndValue.get(propertyName));
@@ -934,8 +2893,8 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 						case GAIN:
 							removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 							controlStats.remove(propertyName);
-							if (cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName())
-									.equals(EasyIPMixerConstant.OFF_VALUE)) {
+							if (EasyIPMixerConstant.OFF_VALUE.equals(
+									cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName()))) {
 								if (EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(standbyValue))) {
 									removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 									controlStats.put(propertyName, GainValueEnum.getNameByValue(value));
@@ -949,8 +2908,8 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 						case IRIS:
 							removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 							controlStats.remove(propertyName);
-							if (cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName())
-									.equals(EasyIPMixerConstant.OFF_VALUE)) {
+							if (EasyIPMixerConstant.OFF_VALUE.equals(
+									cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName()))) {
 								if (EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(standbyValue))) {
 									removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 									controlStats.put(propertyName, IrisValueEnum.getNameByValue(value));
@@ -965,8 +2924,8 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 						case BLUE_GAIN:
 							removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 							controlStats.remove(propertyName);
-							if (cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_WHITE_BALANCE.getName())
-									.equals(EasyIPMixerConstant.OFF_VALUE)) {
+							if (EasyIPMixerConstant.OFF_VALUE.equals(
+									cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_WHITE_BALANCE.getName()))) {
 								if (EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(standbyValue))) {
 									removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 									controlStats.remove(propertyName + EasyIPMixerConstant.CURRENT_VALUE);
@@ -1044,8 +3003,8 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 							break;
 						case WIDE_DYNAMIC_RANGE:
 						case BACKLIGHT_COMPENSATION:
-							if (cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName())
-									.equals(EasyIPMixerConstant.ON_VALUE)) {
+							if (EasyIPMixerConstant.ON_VALUE.equals(
+									cacheKeyAndValue.get(EasyIPMixerConstant.VIDEO_INPUT + EasyIPMixerMapping.getNameByValue(item) + EasyIPMixerConstant.HASH + EasyIPMixerProperty.AUTO_IRIS.getName()))) {
 								if (EasyIPMixerConstant.ON_VALUE.equals(cacheKeyAndValue.get(standbyValue))) {
 									removeValueForTheControllableProperty(propertyName, controlStats, advancedControllableProperties);
 									controlStats.put(propertyName, uppercaseFirstCharacter(value));
@@ -1136,6 +3095,9 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 				Arrays.stream(AudioOutput.values()).map(AudioOutput::getPropertyName)).collect(Collectors.toList());
 		propertyNameList.remove(0);
 		for (String propertyName : propertyNameList) {
+			if (!propertyFilter.isIncluded(propertyName)) {
+				continue;
+			}
 			String min = "-42";
 			String max = "6";
 			if (propertyName.equals(AudioInput.HDMI_IN_LEFT.getPropertyName()) || propertyName.equals(AudioInput.HDMI_IN_RIGHT.getPropertyName())
@@ -1226,10 +3188,13 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String status;
 		for (AudioOutput output : AudioOutput.values()) {
 			String group = output.getPropertyName();
+			if (!propertyFilter.isIncluded(group)) {
+				continue;
+			}
 			String localCacheName = EasyIPMixerConstant.CROSSPOINT + output.getPropertyName() + EasyIPMixerConstant.HASH + output.getPropertyName();
 			String cacheValue = getDefaultValueForNullData(cacheKeyAndValue.get(localCacheName));
 			for (AudioInput input : AudioInput.values()) {
-				if (group.contains(EasyIPMixerConstant.USB) && input.getPropertyName().contains(EasyIPMixerConstant.USB)) {
+				if ((group.contains(EasyIPMixerConstant.USB) && input.getPropertyName().contains(EasyIPMixerConstant.USB)) || !propertyFilter.isIncluded(input.getPropertyName())) {
 					continue;
 				}
 				propertyName = EasyIPMixerConstant.CROSSPOINT + group + EasyIPMixerConstant.HASH + input.getPropertyName() + EasyIPMixerConstant.ROUTE;
@@ -1259,8 +3224,11 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		String propertyName;
 		for (AudioOutput output : AudioOutput.values()) {
 			String group = output.getPropertyName();
+			if (!propertyFilter.isIncluded(group)) {
+				continue;
+			}
 			for (AudioInput input : AudioInput.values()) {
-				if (group.contains(EasyIPMixerConstant.USB) && input.getPropertyName().contains(EasyIPMixerConstant.USB)) {
+				if ((group.contains(EasyIPMixerConstant.USB) && input.getPropertyName().contains(EasyIPMixerConstant.USB)) || !propertyFilter.isIncluded(input.getPropertyName())) {
 					continue;
 				}
 				propertyName = EasyIPMixerConstant.CROSSPOINT + group + EasyIPMixerConstant.HASH + input.getPropertyName() + EasyIPMixerConstant.GAIN_DB;
@@ -1288,7 +3256,9 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	 */
 	private void sendCommandToControlDevice(String command, String value, String name) {
 		try {
+			long startTime = System.nanoTime();
 			String response = send(command.contains("\r") ? command : command.concat("\r"));
+			recordPhase(PollingPhase.CONTROL_ROUND_TRIP, startTime);
 			if (StringUtils.isNullOrEmpty(response)) {
 				throw new IllegalArgumentException(String.format("Error when control %s, Syntax error command: %s", name, response));
 			}
@@ -1301,33 +3271,164 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 			if (response.contains(EasyIPMixerConstant.ERROR_RESPONSE) || !response.contains(EasyIPMixerConstant.OK) || response.contains(EasyIPMixerConstant.ERROR)) {
 				throw new IllegalArgumentException(String.format("Error when control %s, Syntax error command: %s", name, response));
 			}
+			acknowledgedControlCount.incrementAndGet();
 		} catch (Exception e) {
+			adapterMetrics.recordPhaseError(PollingPhase.CONTROL_ROUND_TRIP);
 			throw new IllegalArgumentException(String.format("Can't control %s with %s value. %s", name, value, e.getMessage()));
 		}
 	}
 
 	/**
-	 * Send command detail to get the data from device
+	 * Acquires {@link #commandGate} and records the time spent waiting for it.
+	 *
+	 * @param priority the priority of the caller, controls are served before the monitoring cycle
+	 * @return the time the lock was acquired, in nanoseconds
+	 */
+	private long lockWithMetrics(CommandPriority priority) {
+		long startTime = System.nanoTime();
+		commandGate.acquire(priority);
+		long lockTime = System.nanoTime();
+		recordPhase(PollingPhase.LOCK_WAIT, startTime, lockTime);
+		return lockTime;
+	}
+
+	/**
+	 * Records the duration of a polling phase ending now, and its span if the poll tracing is enabled.
+	 *
+	 * @param phase the polling phase
+	 * @param startTime the start of the phase, in nanoseconds
+	 */
+	private void recordPhase(PollingPhase phase, long startTime) {
+		recordPhase(phase, startTime, System.nanoTime());
+	}
+
+	/**
+	 * Records the duration of a polling phase, and its span if the poll tracing is enabled.
+	 *
+	 * @param phase the polling phase
+	 * @param startTime the start of the phase, in nanoseconds
+	 * @param endTime the end of the phase, in nanoseconds
+	 */
+	private void recordPhase(PollingPhase phase, long startTime, long endTime) {
+		adapterMetrics.recordPhase(phase, endTime - startTime);
+		pollCycleTracer.recordPhase(phase.getName(), startTime, endTime - startTime);
+	}
+
+	/**
+	 * Releases {@link #commandGate} and records the time it was held.
+	 *
+	 * @param lockTime the time the lock was acquired, in nanoseconds
+	 */
+	private void unlockWithMetrics(long lockTime) {
+		recordPhase(PollingPhase.LOCK_HOLD, lockTime);
+		commandGate.release();
+	}
+
+	/**
+	 * Send command detail to get the data from device.
+	 * A "Syntax error" reply is the answer of a healthy device to a command its firmware doesn't support, it counts as a success
+	 * of the connection and the only failure counted against the circuit of the command in {@link #failedMonitor}.
+	 * The transport errors only count towards the offline threshold of {@link #connectionHealthMonitor}.
 	 *
 	 * @param command the command is command to get data
 	 * @throws FailedLoginException if authentication fails
 	 */
 	private String sendCommandDetails(String command) throws FailedLoginException {
+		flushParseSpan();
+		if (commandGate.yieldToHigherPriority()) {
+			logger.debug(String.format("Monitoring cycle of device %s yielded to a control before command %s", host, command));
+		}
+		if (!failedMonitor.allowRequest(command)) {
+			return EasyIPMixerConstant.NONE;
+		}
 		try {
+			long startTime = System.nanoTime();
 			String response = send(command.contains("\r") ? command : command.concat("\r"));
-			if (response.contains("Syntax error")) {
+			long latency = System.nanoTime() - startTime;
+			capabilityProfile.recordLatency(command, latency / 1000000);
+			adapterMetrics.recordCommand(command, latency);
+			connectionHealthMonitor.recordSuccess();
+			if (response.contains(EasyIPMixerConstant.ERROR_RESPONSE)) {
+				adapterMetrics.recordCommandError(command);
+				failedMonitor.recordFailure(command, EasyIPMixerConstant.ERROR_RESPONSE);
+				pollCycleTracer.recordCommand(command, startTime, latency, 0, response.length());
 				return EasyIPMixerConstant.NONE;
 			}
+			failedMonitor.recordSuccess(command);
+			startParseSpan(command, startTime, latency, response.length());
 			return response.replaceAll(EasyIPMixerConstant.REGEX_RESPONSE, EasyIPMixerConstant.EMPTY);
 		} catch (FailedLoginException e) {
 			throw new FailedLoginException("Login failed: " + e);
+		} catch (CommandFailureException ex) {
+			logger.debug(String.format("Command %s is not supported by the device", command), ex);
+			adapterMetrics.recordCommandError(command);
+			connectionHealthMonitor.recordSuccess();
+			failedMonitor.recordFailure(command, EasyIPMixerConstant.ERROR_RESPONSE);
+			return EasyIPMixerConstant.NONE;
 		} catch (Exception ex) {
 			logger.error(String.format("Error when get command: %s", command), ex);
-			failedMonitor.put(command, ex.getMessage());
+			adapterMetrics.recordCommandError(command);
+			if (connectionHealthMonitor.recordFailure()) {
+				throw new ResourceNotReachableException(String.format("%s consecutive commands failed, last command: %s", connectionHealthMonitor.getConsecutiveFailures(), command), ex);
+			}
 		}
 		return EasyIPMixerConstant.EMPTY;
 	}
 
+	/**
+	 * Opens the span of a command whose response is parsed by the caller, the parse time runs until {@link #endParseSpan()}.
+	 *
+	 * @param command the command sent
+	 * @param startTime the time the command was sent, in nanoseconds
+	 * @param wait the time waited for the response, in nanoseconds
+	 * @param responseSize the size of the response
+	 */
+	private void startParseSpan(String command, long startTime, long wait, int responseSize) {
+		if (!pollCycleTracer.isEnabled()) {
+			return;
+		}
+		parsedCommand = command;
+		parsedCommandStartTime = startTime;
+		parsedCommandWait = wait;
+		parsedResponseSize = responseSize;
+	}
+
+	/**
+	 * Records the span of the last command once the values of its response are extracted
+	 */
+	private void endParseSpan() {
+		if (parsedCommand != null) {
+			pollCycleTracer.recordCommand(parsedCommand, parsedCommandStartTime, parsedCommandWait, System.nanoTime() - parsedCommandStartTime - parsedCommandWait, parsedResponseSize);
+			parsedCommand = null;
+		}
+	}
+
+	/**
+	 * Records the span of the last command without parse time, for a response whose caller doesn't trace its extraction
+	 */
+	private void flushParseSpan() {
+		if (parsedCommand != null) {
+			pollCycleTracer.recordCommand(parsedCommand, parsedCommandStartTime, parsedCommandWait, 0, parsedResponseSize);
+			parsedCommand = null;
+		}
+	}
+
+	/**
+	 * Sends a camera motion command. A control is sent on the command lane so the PTZ doesn't block the caller,
+	 * while a scene runs the command is sent synchronously and the step is only applied once the device acknowledged it.
+	 *
+	 * @param command The command string to be executed.
+	 * @param value The value associated with the command.
+	 * @param name The name of the command.
+	 */
+	private void sendCameraMotionCommand(String command, String value, String name) {
+		if (isSceneRunning) {
+			sendCommandToControlDevice(command, value, name);
+		} else {
+			sendCommandToControlDeviceWithExecutor(command, value, name);
+		}
+	}
+
 	/**
 	 * Executes the 'sendCommandToControlDevice' method using an ExecutorService,
 	 * ensuring the command execution is performed asynchronously.
@@ -1339,15 +3440,15 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	private void sendCommandToControlDeviceWithExecutor(String command, String value, String name) {
 		if (dataCollector == null || dataCollector.isDone()) {
 			dataCollector = runAsync(() -> {
-				reentrantLock.lock();
+				long lockTime = lockWithMetrics(CommandPriority.HIGH);
 				try {
 					sendCommandToControlDevice(command, value, name);
 				} catch (Exception ce) {
 					logger.debug("Exception white collecting device data.", ce);
 				} finally {
-					reentrantLock.unlock();
+					unlockWithMetrics(lockTime);
 				}
-			}, executorService);
+			}, commandLane);
 		}
 	}
 
@@ -1410,12 +3511,34 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 
 	/**
 	 * Determines the number of polling intervals based on configuration settings.
-	 * If the configuration management is enabled, sets the number of polling intervals to 4 if crosspoint gain is enabled, otherwise sets it to 2.
+	 * The camera discovery, the monitoring and the routes are polled in the first interval. If the configuration management is enabled,
+	 * the audio volume gets an interval of its own, and each half of the crosspoint gain too if the crosspoint gain is enabled.
+	 * With the polling auto tune the read work is packed into as few polling intervals as the measured cost allows, the cost of
+	 * the camera positions polled on top of the plan is reserved from every interval. The plan is only changed at the start of a sweep.
 	 */
 	private void getNumOfPollingInterval() {
-		numOfPollingInterval = 1;
+		List<PollingWork> work = new ArrayList<>(Arrays.asList(PollingWork.CAMERA_DISCOVERY, PollingWork.MONITORING, PollingWork.ROUTE));
+		List<Set<PollingWork>> plan = new ArrayList<>();
+		plan.add(EnumSet.copyOf(work));
 		if (isConfigManagement) {
-			numOfPollingInterval = isEnableCrosspointGain ? 4 : 2;
+			work.add(PollingWork.AUDIO_VOLUME);
+			plan.add(EnumSet.of(PollingWork.AUDIO_VOLUME));
+			if (isEnableCrosspointGain) {
+				work.add(PollingWork.CROSSPOINT_GAIN_FIRST_HALF);
+				work.add(PollingWork.CROSSPOINT_GAIN_SECOND_HALF);
+				plan.add(EnumSet.of(PollingWork.CROSSPOINT_GAIN_FIRST_HALF));
+				plan.add(EnumSet.of(PollingWork.CROSSPOINT_GAIN_SECOND_HALF));
+			}
+		}
+		if (isPollingAutoTune && pollingAutoTuner.isMeasured(work)) {
+			plan = pollingAutoTuner.plan(work, EnumSet.of(PollingWork.CAMERA_POSITION), pollingTargetPercentValue);
+		}
+		if (currentPollingInterval == 1 || currentPollingInterval > plan.size() || pollingPlan.isEmpty()) {
+			pollingPlan = plan;
+			numOfPollingInterval = plan.size();
+			if (currentPollingInterval > numOfPollingInterval) {
+				currentPollingInterval = 1;
+			}
 		}
 	}
 
@@ -1455,10 +3578,236 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	}
 
 	/**
-	 * This method is used to validate input config management from user
+	 * This method is used to validate input config management from user
+	 */
+	private void convertEnableCrosspointGain() {
+		isEnableCrosspointGain = StringUtils.isNotNullOrEmpty(this.enableCrosspointGain) && this.enableCrosspointGain.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	}
+
+	/**
+	 * This method is used to validate input included and excluded groups from user
+	 */
+	private void convertPropertyFilter() {
+		propertyFilter = new PropertyFilter(this.includedGroups, this.excludedGroups);
+	}
+
+	/**
+	 * This method is used to validate input enable adapter metrics from user
+	 */
+	private void convertEnableAdapterMetrics() {
+		isEnableAdapterMetrics = StringUtils.isNotNullOrEmpty(this.enableAdapterMetrics) && this.enableAdapterMetrics.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	}
+
+	/**
+	 * This method is used to validate input enable poll tracing from user
+	 */
+	private void convertEnablePollTracing() {
+		pollCycleTracer.setEnabled(StringUtils.isNotNullOrEmpty(this.enablePollTracing) && this.enablePollTracing.equalsIgnoreCase(EasyIPMixerConstant.TRUE));
+	}
+
+	/**
+	 * This method is used to validate input enable progressive startup from user
+	 */
+	private void convertEnableProgressiveStartup() {
+		isProgressiveStartup = StringUtils.isNotNullOrEmpty(this.enableProgressiveStartup) && this.enableProgressiveStartup.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	}
+
+	/**
+	 * This method is used to validate input polling time budget from user
+	 */
+	private void convertPollingTimeBudget() {
+		pollingTimeBudgetValue = 0;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.pollingTimeBudget)) {
+				pollingTimeBudgetValue = Math.max(0, Long.parseLong(this.pollingTimeBudget.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid polling time budget %s, the read work of a cycle is not limited", this.pollingTimeBudget));
+		}
+	}
+
+	/**
+	 * This method is used to validate input compact output and compact republish interval from user
+	 */
+	private void convertCompactOutput() {
+		boolean isCompact = StringUtils.isNotNullOrEmpty(this.compactOutput) && this.compactOutput.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+		if (isCompact != isCompactOutput) {
+			statisticsCompactor.reset();
+		}
+		isCompactOutput = isCompact;
+		long interval = EasyIPMixerConstant.DEFAULT_COMPACT_REPUBLISH_INTERVAL;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.compactRepublishInterval)) {
+				interval = Math.max(0, Long.parseLong(this.compactRepublishInterval.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid compact republish interval %s, use the default value", this.compactRepublishInterval));
+		}
+		statisticsCompactor.setRepublishInterval(TimeUnit.SECONDS.toMillis(interval));
+	}
+
+	/**
+	 * This method is used to validate input polling auto tune and polling target percent from user
+	 */
+	private void convertPollingAutoTune() {
+		isPollingAutoTune = StringUtils.isNotNullOrEmpty(this.pollingAutoTune) && this.pollingAutoTune.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+		pollingTargetPercentValue = EasyIPMixerConstant.DEFAULT_POLLING_TARGET_PERCENT;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.pollingTargetPercent)) {
+				pollingTargetPercentValue = Math.min(100, Math.max(1, Integer.parseInt(this.pollingTargetPercent.trim())));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid polling target percent %s, use the default value", this.pollingTargetPercent));
+		}
+	}
+
+	/**
+	 * This method is used to validate input scene definitions from user
+	 */
+	private void convertSceneDefinitions() {
+		sceneDefinitionMap.clear();
+		if (StringUtils.isNullOrEmpty(this.sceneDefinitions)) {
+			return;
+		}
+		for (String scene : this.sceneDefinitions.split(EasyIPMixerConstant.SCENE_SEPARATOR)) {
+			int nameIndex = scene.indexOf(EasyIPMixerConstant.COLON);
+			if (nameIndex <= 0) {
+				logger.debug(String.format("Invalid scene definition %s, the scene name is missing", scene));
+				continue;
+			}
+			String name = scene.substring(0, nameIndex).trim();
+			Map<String, String> settings = parseSettings(name, scene.substring(nameIndex + 1));
+			if (!settings.isEmpty()) {
+				sceneDefinitionMap.put(name, new SceneDefinition(name, settings));
+			}
+		}
+	}
+
+	/**
+	 * Parses the settings of a scene or of the desired state
+	 *
+	 * @param name the name of the scene
+	 * @param settings the settings in the format property=value;property=value
+	 * @return map of property name and value, in the configured order
+	 */
+	private Map<String, String> parseSettings(String name, String settings) {
+		Map<String, String> result = new LinkedHashMap<>();
+		for (String setting : settings.split(EasyIPMixerConstant.SCENE_SETTING_SEPARATOR)) {
+			int valueIndex = setting.lastIndexOf(EasyIPMixerConstant.EQUAL);
+			if (valueIndex <= 0) {
+				if (StringUtils.isNotNullOrEmpty(setting.trim())) {
+					logger.debug(String.format("Invalid setting %s of %s, expected property=value", setting, name));
+				}
+				continue;
+			}
+			result.put(setting.substring(0, valueIndex).trim(), setting.substring(valueIndex + 1).trim());
+		}
+		return result;
+	}
+
+	/**
+	 * This method is used to validate input desired state from user
+	 */
+	private void convertDesiredState() {
+		desiredStateMap = StringUtils.isNotNullOrEmpty(this.desiredState) ?
+				Collections.unmodifiableMap(parseSettings(EasyIPMixerConstant.DESIRED_STATE, this.desiredState)) : Collections.emptyMap();
+	}
+
+	/**
+	 * This method is used to validate input reconciliation interval from user
+	 */
+	private void convertReconciliationInterval() {
+		long interval = EasyIPMixerConstant.DEFAULT_RECONCILIATION_INTERVAL;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.reconciliationInterval)) {
+				interval = Math.max(0, Long.parseLong(this.reconciliationInterval.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid reconciliation interval %s, use the default value", this.reconciliationInterval));
+		}
+		reconciliationIntervalValue = TimeUnit.SECONDS.toMillis(interval);
+	}
+
+	/**
+	 * This method is used to validate input scene rollback from user
+	 */
+	private void convertSceneRollback() {
+		isSceneRollback = StringUtils.isNotNullOrEmpty(this.sceneRollback) && this.sceneRollback.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	}
+
+	/**
+	 * This method is used to validate input camera idle polling interval from user
+	 */
+	private void convertCameraIdlePollingInterval() {
+		long idleInterval = EasyIPMixerConstant.DEFAULT_CAMERA_IDLE_POLLING_INTERVAL;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.cameraIdlePollingInterval)) {
+				idleInterval = Math.max(0, Long.parseLong(this.cameraIdlePollingInterval.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid camera idle polling interval %s, use the default value", this.cameraIdlePollingInterval));
+		}
+		cameraMotionTracker.setIdleInterval(idleInterval * 1000);
+	}
+
+	/**
+	 * This method is used to validate input enable state snapshot from user
+	 */
+	private void convertEnableStateSnapshot() {
+		isEnableStateSnapshot = StringUtils.isNotNullOrEmpty(this.enableStateSnapshot) && this.enableStateSnapshot.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	}
+
+	/**
+	 * This method is used to validate input connection failure threshold from user
+	 */
+	private void convertConnectionFailureThreshold() {
+		int threshold = EasyIPMixerConstant.DEFAULT_CONNECTION_FAILURE_THRESHOLD;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.connectionFailureThreshold)) {
+				threshold = Math.max(1, Integer.parseInt(this.connectionFailureThreshold.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid connection failure threshold %s, use the default value", this.connectionFailureThreshold));
+		}
+		connectionHealthMonitor.setFailureThreshold(threshold);
+	}
+
+	/**
+	 * This method is used to validate input circuit breaker threshold and retry interval from user
+	 */
+	private void convertCircuitBreaker() {
+		int threshold = EasyIPMixerConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+		long retryInterval = EasyIPMixerConstant.DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL;
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.circuitBreakerThreshold)) {
+				threshold = Math.max(1, Integer.parseInt(this.circuitBreakerThreshold.trim()));
+			}
+			if (StringUtils.isNotNullOrEmpty(this.circuitBreakerRetryInterval)) {
+				retryInterval = Math.max(0, Long.parseLong(this.circuitBreakerRetryInterval.trim()));
+			}
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Invalid circuit breaker configuration %s/%s, use the default value", this.circuitBreakerThreshold, this.circuitBreakerRetryInterval));
+		}
+		failedMonitor.setFailureThreshold(threshold);
+		failedMonitor.setRetryInterval(retryInterval);
+	}
+
+	/**
+	 * This method is used to validate input standby polling commands from user
 	 */
-	private void convertEnableCrosspointGain() {
-		isEnableCrosspointGain = StringUtils.isNotNullOrEmpty(this.enableCrosspointGain) && this.enableCrosspointGain.equalsIgnoreCase(EasyIPMixerConstant.TRUE);
+	private void convertStandbyPollingCommands() {
+		standbyMonitoringCommands.clear();
+		if (StringUtils.isNullOrEmpty(this.standbyPollingCommands)) {
+			return;
+		}
+		for (String name : this.standbyPollingCommands.split(EasyIPMixerConstant.COMMA)) {
+			MonitoringCommand command = MonitoringCommand.getByName(name.trim());
+			if (command != null) {
+				standbyMonitoringCommands.add(command);
+			} else if (StringUtils.isNotNullOrEmpty(name.trim())) {
+				logger.debug(String.format("Standby polling command %s doesn't support", name.trim()));
+			}
+		}
 	}
 
 	/**
@@ -1538,6 +3887,518 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 		}
 	}
 
+	/**
+	 * Applies the scene as one transaction: the settings are compiled into an ordered batch of commands, the route changes of an output
+	 * are merged into a single command and the settings the device already has are skipped. The batch is sent back to back while the
+	 * command gate is held, the monitoring cycle can't interleave. If a step fails and the rollback is enabled, the applied steps are
+	 * reverted to the values captured before the scene.
+	 *
+	 * @param name the name of the scene
+	 * @return the result of every step of the scene
+	 * @throws Exception if the current routes of an output can't be read
+	 */
+	public SceneResult applyScene(String name) throws Exception {
+		long lockTime = lockWithMetrics(CommandPriority.HIGH);
+		try {
+			SceneDefinition scene = sceneDefinitionMap.get(name);
+			if (scene == null) {
+				throw new IllegalArgumentException(String.format("Unknown scene %s, expected one of %s", name, String.join(EasyIPMixerConstant.COMMA, sceneDefinitionMap.keySet())));
+			}
+			lastSceneResult = runScene(scene, isSceneRollback);
+			if (isConfigManagement) {
+				populateSceneData(localExtendedStatistics.getStatistics(), localExtendedStatistics.getControllableProperties());
+			}
+			isEmergencyDelivery = true;
+			return lastSceneResult;
+		} finally {
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * Holds the device to the desired state: the desired values are compared with the cached device state and only the settings
+	 * that drifted are written, the route changes of an output are merged into a single command. The reconciliation runs at low
+	 * priority, the controls take over the device session at each command boundary.
+	 *
+	 * @param desiredState map of property name and desired value, in the format of the controls
+	 * @return the result of every setting, the settings in the desired state are reported as unchanged and only the writes
+	 * acknowledged by the device are reported as applied
+	 * @throws Exception if the current routes of an output can't be read
+	 */
+	public SceneResult reconcile(Map<String, String> desiredState) throws Exception {
+		long lockTime = lockWithMetrics(CommandPriority.LOW);
+		try {
+			Map<String, String> settings = new LinkedHashMap<>();
+			for (Map.Entry<String, String> setting : desiredState.entrySet()) {
+				String propertyKey = setting.getKey().substring(setting.getKey().indexOf(EasyIPMixerConstant.HASH) + 1);
+				if (EasyIPMixerProperty.CAMERA_HOME.getName().equals(propertyKey) || EasyIPMixerProperty.CAMERA_PRESET.getName().equals(propertyKey)
+						|| EasyIPMixerProperty.SYSTEM_REBOOT.getName().equals(propertyKey) || (EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.APPLY_SCENE).equals(setting.getKey())) {
+					logger.debug(String.format("Skip %s in the desired state of device %s, actions have no state to reconcile", setting.getKey(), host));
+					continue;
+				}
+				settings.put(setting.getKey(), setting.getValue());
+			}
+			boolean isDeliveryPending = isEmergencyDelivery;
+			SceneResult result = runScene(new SceneDefinition(EasyIPMixerConstant.DESIRED_STATE, settings), false);
+			long writeCount = result.count(SceneStepStatus.APPLIED);
+			reconciledWriteCount.addAndGet(writeCount);
+			lastReconciliationResult = result;
+			isEmergencyDelivery = isDeliveryPending || writeCount > 0;
+			return result;
+		} finally {
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * Runs the reconciliation of {@link #desiredStateMap} on the command lane when the reconciliation interval has elapsed.
+	 */
+	private void scheduleReconciliation() {
+		if (desiredStateMap.isEmpty() || reconciliationIntervalValue <= 0 || System.currentTimeMillis() - lastReconciliationTime < reconciliationIntervalValue
+				|| !isReconciliationScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		lastReconciliationTime = System.currentTimeMillis();
+		Map<String, String> desiredState = desiredStateMap;
+		runAsync(() -> {
+			try {
+				reconcile(desiredState);
+			} catch (Exception e) {
+				logger.debug(String.format("Exception while reconciling the desired state of device %s", host), e);
+			} finally {
+				isReconciliationScheduled.set(false);
+			}
+		}, commandLane);
+	}
+
+	/**
+	 * Compiles the scene and applies its steps. The caller holds {@link #commandGate}.
+	 *
+	 * @param scene the scene to apply
+	 * @param isRollback if true the applied steps are reverted when a step fails
+	 * @return the result of every step of the scene
+	 * @throws Exception if the current routes of an output can't be read
+	 */
+	private SceneResult runScene(SceneDefinition scene, boolean isRollback) throws Exception {
+		if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
+			throw new IllegalStateException(String.format("Can't apply %s, device %s hasn't been monitored yet", scene.getName(), host));
+		}
+		if (connectionHealthMonitor.isOffline() || rebootMonitor.isRebooting()) {
+			throw new ResourceNotReachableException(String.format("Can't apply %s, device %s is %s", scene.getName(), host, getConnectionState()));
+		}
+		Map<String, String> stats = localExtendedStatistics.getStatistics();
+		if (localExtendedStatistics.getControllableProperties() == null) {
+			localExtendedStatistics.setControllableProperties(new ArrayList<>());
+		}
+		List<AdvancedControllableProperty> advancedControllableProperties = localExtendedStatistics.getControllableProperties();
+		long startTime = System.currentTimeMillis();
+		SceneCompiler sceneCompiler = new SceneCompiler(newSceneTarget(stats, advancedControllableProperties));
+		List<SceneStep> steps = sceneCompiler.compile(scene);
+		boolean isFailed = false;
+		boolean isRolledBack;
+		isSceneRunning = true;
+		try {
+			for (SceneStep step : steps) {
+				try {
+					applySceneStep(step, stats, advancedControllableProperties);
+				} catch (Exception e) {
+					step.setResult(SceneStepStatus.FAILED, e.getMessage());
+					logger.error(String.format("Error when applying step %s of %s on device %s", step.getProperty(), scene.getName(), host), e);
+					isFailed = true;
+					if (isRollback) {
+						break;
+					}
+				}
+			}
+			isRolledBack = isFailed && isRollback;
+			if (isRolledBack) {
+				sceneCompiler.rollback(steps);
+				steps.stream().filter(step -> SceneStepStatus.APPLIED.equals(step.getStatus()) && step.getMessage() != null)
+						.forEach(step -> logger.error(String.format("Error when reverting step %s on device %s: %s", step.getProperty(), host, step.getMessage())));
+			}
+		} finally {
+			isSceneRunning = false;
+		}
+		SceneResult result = new SceneResult(scene.getName(), steps, System.currentTimeMillis() - startTime, isRolledBack);
+		logger.info(String.format("Applied %s on device %s in %s ms: %s", scene.getName(), host, result.getDuration(), result.getSummary()));
+		return result;
+	}
+
+	/**
+	 * Creates the device the scene is applied to
+	 *
+	 * @param stats the statistics holding the current values of the controls
+	 * @param advancedControllableProperties the controls of the device
+	 * @return the target of the scene
+	 */
+	private SceneCompiler.SceneTarget newSceneTarget(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		return new SceneCompiler.SceneTarget() {
+			@Override
+			public SceneStepOrder getStepOrder(String group, String propertyKey, String value) {
+				return getSceneStepOrder(group, propertyKey, value);
+			}
+
+			@Override
+			public String getControlValue(String property) {
+				return EasyIPMixerCommunicator.this.getControlValue(property, stats, advancedControllableProperties);
+			}
+
+			@Override
+			public String getRoutes(String localName) throws Exception {
+				return getSceneRoutes(localName);
+			}
+
+			@Override
+			public void revertStep(SceneStep step) throws Exception {
+				revertSceneStep(step, stats, advancedControllableProperties);
+			}
+		};
+	}
+
+	/**
+	 * Retrieves the current routes of an audio output, from the fresh cached routes or from a single read of the output
+	 *
+	 * @param localName the cache key of the routes of the output
+	 * @return the audio inputs routed to the output separated by spaces, or null if the routes can't be read
+	 * @throws FailedLoginException if authentication fails
+	 */
+	private String getSceneRoutes(String localName) throws FailedLoginException {
+		String currentRoutes = cacheKeyAndValue.get(localName);
+		if (currentRoutes != null && !EasyIPMixerConstant.NONE.equals(currentRoutes) && cacheKeyAndValue.isFresh(localName)
+				&& !CacheSource.OPTIMISTIC.equals(cacheKeyAndValue.getSource(localName))) {
+			return currentRoutes;
+		}
+		String command = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", AudioOutput.getValueByName(localName.split(EasyIPMixerConstant.HASH)[1]));
+		String response = sendCommandDetails(command);
+		return EasyIPMixerConstant.NONE.equals(response) ? null : replaceDraftInResponse(response, command);
+	}
+
+	/**
+	 * Retrieves the order of the step applying the property
+	 *
+	 * @param group the group of the property
+	 * @param propertyKey the name of the property
+	 * @param value the target value of the property
+	 * @return the order of the step
+	 */
+	private SceneStepOrder getSceneStepOrder(String group, String propertyKey, String value) {
+		if (group.contains(EasyIPMixerConstant.CROSSPOINT)) {
+			return SceneStepOrder.CROSSPOINT_GAIN;
+		}
+		if (checkAudioVolumeControl(group)) {
+			return SceneStepOrder.AUDIO_CHANNEL;
+		}
+		EasyIPMixerProperty propertyItem = Arrays.stream(EasyIPMixerProperty.values()).filter(item -> item.getName().equals(propertyKey)).findFirst().orElse(null);
+		if (propertyItem == null) {
+			return group.startsWith(EasyIPMixerConstant.VIDEO_INPUT) ? SceneStepOrder.CAMERA_SETTINGS : SceneStepOrder.SYSTEM_SETTINGS;
+		}
+		boolean isStandby = EasyIPMixerConstant.NUMBER_ONE.equals(value);
+		switch (propertyItem) {
+			case SYSTEM_REBOOT:
+				return SceneStepOrder.SYSTEM_REBOOT;
+			case SYSTEM_STANDBY:
+				return isStandby ? SceneStepOrder.SYSTEM_STANDBY : SceneStepOrder.SYSTEM_WAKE;
+			case CAMERA_STANDBY:
+				return isStandby ? SceneStepOrder.CAMERA_STANDBY : SceneStepOrder.CAMERA_WAKE;
+			case CAMERA_PAN:
+			case CAMERA_TILT:
+			case CAMERA_ZOOM:
+			case CAMERA_HOME:
+			case CAMERA_PRESET:
+				return SceneStepOrder.CAMERA_POSITION;
+			default:
+				return group.startsWith(EasyIPMixerConstant.VIDEO_INPUT) ? SceneStepOrder.CAMERA_SETTINGS : SceneStepOrder.SYSTEM_SETTINGS;
+		}
+	}
+
+	/**
+	 * Retrieves the current value of the control, in the format the control accepts
+	 *
+	 * @param property the name of the control
+	 * @param stats the statistics holding the current values
+	 * @param advancedControllableProperties the controls of the device
+	 * @return the current value, or null if the control has no value to revert to
+	 */
+	private String getControlValue(String property, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		String propertyKey = property.substring(property.indexOf(EasyIPMixerConstant.HASH) + 1);
+		if (EasyIPMixerProperty.CAMERA_HOME.getName().equals(propertyKey) || EasyIPMixerProperty.CAMERA_PRESET.getName().equals(propertyKey)
+				|| EasyIPMixerProperty.SYSTEM_REBOOT.getName().equals(propertyKey)) {
+			return null;
+		}
+		return advancedControllableProperties.stream().filter(item -> property.equals(item.getName()) && item.getValue() != null).findFirst()
+				.map(item -> String.valueOf(item.getValue())).orElse(stats.get(property));
+	}
+
+	/**
+	 * Applies a single step of the scene
+	 *
+	 * @param step the step to apply
+	 * @param stats the statistics of the device
+	 * @param advancedControllableProperties the controls of the device
+	 * @throws Exception if the control fails or isn't acknowledged by the device
+	 */
+	private void applySceneStep(SceneStep step, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) throws Exception {
+		if (SceneStepOrder.CROSSPOINT_ROUTE.equals(step.getOrder())) {
+			if (step.getValue().equals(step.getPriorValue())) {
+				suppressedControlCount.incrementAndGet();
+				step.setResult(SceneStepStatus.UNCHANGED, null);
+				return;
+			}
+			applySceneRoute(step.getProperty(), step.getValue());
+			for (Map.Entry<String, String> setting : step.getMergedSettings().entrySet()) {
+				updateValueForTheControllableProperty(setting.getKey(), setting.getValue(), stats, advancedControllableProperties);
+			}
+			step.setResult(SceneStepStatus.APPLIED, null);
+			return;
+		}
+		long suppressedCount = suppressedControlCount.get();
+		long acknowledgedCount = acknowledgedControlCount.get();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(step.getProperty());
+		controllableProperty.setValue(step.getValue());
+		controlProperty(controllableProperty);
+		if (suppressedControlCount.get() != suppressedCount) {
+			step.setResult(SceneStepStatus.UNCHANGED, null);
+		} else if (acknowledgedControlCount.get() != acknowledgedCount) {
+			step.setResult(SceneStepStatus.APPLIED, null);
+		} else {
+			throw new IllegalStateException(String.format("Device %s didn't acknowledge the control of %s", host, step.getProperty()));
+		}
+	}
+
+	/**
+	 * Sets the complete route list of an audio output
+	 *
+	 * @param localName the cache key of the routes of the output
+	 * @param routes the audio inputs routed to the output, separated by spaces
+	 */
+	private void applySceneRoute(String localName, String routes) {
+		String[] propertyList = localName.split(EasyIPMixerConstant.HASH);
+		String command = EasyIpMixerCommand.ROUTE_CONTROL.replace("$1", AudioOutput.getValueByName(propertyList[1])).replace("$2", routes);
+		sendCommandToControlDevice(command, routes, localName);
+		updateCachedDeviceData(cacheKeyAndValue, localName, routes);
+		String routeCommand = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", AudioOutput.getValueByName(propertyList[1]));
+		addReadBack(routeCommand, response -> cacheKeyAndValue.put(localName, replaceDraftInResponse(response, routeCommand)), localName);
+	}
+
+	/**
+	 * Reverts an applied step of the scene to the value captured before the scene
+	 *
+	 * @param step the step to revert
+	 * @param stats the statistics of the device
+	 * @param advancedControllableProperties the controls of the device
+	 * @throws Exception if the control fails or isn't acknowledged by the device
+	 */
+	private void revertSceneStep(SceneStep step, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) throws Exception {
+		if (SceneStepOrder.CROSSPOINT_ROUTE.equals(step.getOrder())) {
+			applySceneRoute(step.getProperty(), step.getPriorValue());
+			List<String> routes = Arrays.asList(step.getPriorValue().split(EasyIPMixerConstant.SPACE));
+			for (String property : step.getMergedSettings().keySet()) {
+				updateValueForTheControllableProperty(property, routes.contains(SceneCompiler.getRouteInput(property)) ? EasyIPMixerConstant.NUMBER_ONE : EasyIPMixerConstant.ZERO, stats,
+						advancedControllableProperties);
+			}
+			return;
+		}
+		long acknowledgedCount = acknowledgedControlCount.get();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(step.getProperty());
+		controllableProperty.setValue(step.getPriorValue());
+		controlProperty(controllableProperty);
+		if (acknowledgedControlCount.get() == acknowledgedCount) {
+			throw new IllegalStateException(String.format("Device %s didn't acknowledge the control of %s", host, step.getProperty()));
+		}
+	}
+
+	/**
+	 * Populates the scene control and the report of the last applied scene
+	 *
+	 * @param stats the statistics of the device
+	 * @param advancedControllableProperties the controls of the device
+	 */
+	private void populateSceneData(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		if (sceneDefinitionMap.isEmpty()) {
+			return;
+		}
+		String[] sceneNames = sceneDefinitionMap.keySet().toArray(new String[0]);
+		String lastScene = lastSceneResult != null && sceneDefinitionMap.containsKey(lastSceneResult.getName()) ? lastSceneResult.getName() : sceneNames[0];
+		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.APPLY_SCENE, sceneNames, lastScene), lastScene);
+		if (lastSceneResult == null) {
+			return;
+		}
+		stats.put(EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.LAST_SCENE, lastSceneResult.getName());
+		stats.put(EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.LAST_SCENE_RESULT, lastSceneResult.getSummary());
+		stats.put(EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.LAST_SCENE_DURATION, String.valueOf(lastSceneResult.getDuration()));
+		List<SceneStep> steps = lastSceneResult.getSteps();
+		for (int i = 0; i < steps.size(); i++) {
+			stats.put(EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.SCENE_STEP + String.format("%02d", i + 1), steps.get(i).toString());
+		}
+	}
+
+	/**
+	 * Queues the read that verifies the value written by the control. The camera position is not verified here,
+	 * it is tracked by {@link #cameraMotionTracker} until the camera settles.
+	 *
+	 * @param property the controlled property
+	 * @param group the group of the controlled property
+	 * @param propertyKey the name of the controlled property
+	 */
+	private void queueReadBack(String property, String group, String propertyKey) {
+		if (group.contains(EasyIPMixerConstant.CROSSPOINT)) {
+			String outputPropertyName = group.replace(EasyIPMixerConstant.CROSSPOINT, EasyIPMixerConstant.EMPTY);
+			String outputValue = AudioOutput.getValueByName(outputPropertyName);
+			if (propertyKey.contains(EasyIPMixerConstant.GAIN)) {
+				String command = EasyIpMixerCommand.GAIN_MONITOR.replace("$1", outputValue)
+						.replace("$2", AudioInput.getValueByName(propertyKey.replace(EasyIPMixerConstant.GAIN_DB, EasyIPMixerConstant.EMPTY)));
+				addReadBack(command, response -> cacheKeyAndValue.put(property, replaceDraftInResponse(response, command)), property);
+			} else if (propertyKey.contains(EasyIPMixerConstant.ROUTE)) {
+				String localName = group + EasyIPMixerConstant.HASH + outputPropertyName;
+				String command = EasyIpMixerCommand.ROUTE_COMMAND.replace("$", outputValue);
+				addReadBack(command, response -> cacheKeyAndValue.put(localName, replaceDraftInResponse(response, command)), localName);
+			}
+		} else if (checkAudioVolumeControl(group)) {
+			String audioValue = AudioInput.getValueByName(group);
+			if (EasyIPMixerConstant.NONE.equals(audioValue)) {
+				audioValue = AudioOutput.getValueByName(group);
+			}
+			if (EasyIPMixerConstant.VOLUME_DB.equals(propertyKey)) {
+				addReadBack(EasyIpMixerCommand.VOLUME_MONITOR.replace("$", audioValue),
+						response -> cacheKeyAndValue.put(property, removeUnit(extractResponseValue(response, EasyIPMixerConstant.VOLUME_REGEX))), property);
+			} else if (EasyIPMixerConstant.MUTE.equals(propertyKey)) {
+				addReadBack(EasyIpMixerCommand.MUTE_MONITOR.replace("$", audioValue),
+						response -> cacheKeyAndValue.put(property, extractResponseValue(response, EasyIPMixerConstant.MUTE_REGEX)), property);
+			}
+		} else {
+			String indexCamera = group.startsWith(EasyIPMixerConstant.VIDEO_INPUT) ?
+					EasyIPMixerMapping.getValueByName(group.replace(EasyIPMixerConstant.VIDEO_INPUT, EasyIPMixerConstant.EMPTY)) : EasyIPMixerConstant.EMPTY;
+			MonitoringCommand monitoringCommand = MonitoringCommand.getByName(propertyKey);
+			if (monitoringCommand != null && !monitoringCommand.isPositionCommand()) {
+				addReadBack(monitoringCommand.getCommand().replace("$", indexCamera),
+						response -> cacheKeyAndValue.put(property, extractResponseValue(response, monitoringCommand.getRegex())), property);
+			} else if (!indexCamera.isEmpty() && Arrays.stream(CameraColorSettings.values()).anyMatch(item -> item.getName().equals(propertyKey))) {
+				addReadBack(MonitoringCommand.CAMERA_COLOR.getCommand().replace("$", indexCamera), response -> retrieveCameraColor(response, indexCamera), property);
+			}
+		}
+	}
+
+	/**
+	 * Adds the read that verifies the cached value of the key, and schedules the verifier on the command lane.
+	 *
+	 * @param command the command reading the value back
+	 * @param responseHandler stores the values of the response in the cache
+	 * @param key the cache key to verify
+	 */
+	private void addReadBack(String command, Consumer<String> responseHandler, String key) {
+		String expectedValue = cacheKeyAndValue.get(key);
+		if (expectedValue == null || EasyIPMixerConstant.NONE.equals(expectedValue)) {
+			return;
+		}
+		readBackQueue.add(command, responseHandler, key, expectedValue);
+		if (isReadBackScheduled.compareAndSet(false, true)) {
+			runAsync(this::verifyReadBacks, commandLane);
+		}
+	}
+
+	/**
+	 * Runs the pending reads as one batch at low priority, the controls still take over at each command boundary.
+	 * The cache keeps the value read from the device, and the statistics are populated again when a value doesn't match the control.
+	 */
+	private void verifyReadBacks() {
+		isReadBackScheduled.set(false);
+		long lockTime = lockWithMetrics(CommandPriority.LOW);
+		try {
+			List<ReadBackQueue.ReadBack> reads = readBackQueue.drain();
+			if (connectionHealthMonitor.isOffline() || rebootMonitor.isRebooting()) {
+				return;
+			}
+			int mismatches = 0;
+			for (ReadBackQueue.ReadBack read : reads) {
+				String response = sendCommandDetails(read.getCommand());
+				if (EasyIPMixerConstant.NONE.equals(response) || EasyIPMixerConstant.EMPTY.equals(response)) {
+					continue;
+				}
+				read.getResponseHandler().accept(response);
+				for (Map.Entry<String, String> expected : read.getExpectedValues().entrySet()) {
+					String actualValue = cacheKeyAndValue.get(expected.getKey());
+					if (actualValue != null && !actualValue.equalsIgnoreCase(expected.getValue()) && !isSameNumber(actualValue, expected.getValue())) {
+						mismatches++;
+						logger.info(String.format("Read-back of %s on device %s returned %s instead of %s", expected.getKey(), host, actualValue, expected.getValue()));
+					}
+				}
+			}
+			if (mismatches > 0) {
+				readBackMismatchCount.addAndGet(mismatches);
+				if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null) {
+					Map<String, String> stats = localExtendedStatistics.getStatistics();
+					List<AdvancedControllableProperty> advancedControllableProperties = localExtendedStatistics.getControllableProperties() == null ?
+							new ArrayList<>() : localExtendedStatistics.getControllableProperties();
+					populateCachedData(stats, isConfigManagement ? stats : new HashMap<>(), advancedControllableProperties);
+				}
+			}
+		} catch (Exception e) {
+			logger.debug(String.format("Exception while verifying the controls of device %s", host), e);
+		} finally {
+			unlockWithMetrics(lockTime);
+		}
+	}
+
+	/**
+	 * Checks if the control would write the value the device already has, based on the fresh cached state.
+	 * Optimistic values are not trusted, they may not have reached the device.
+	 *
+	 * @param key the cache key of the controlled property
+	 * @param requestedValue the value the control writes, in the cached format
+	 * @return true if the control can be acknowledged without sending the command
+	 */
+	private boolean isRedundantControl(String key, String requestedValue) {
+		return isRedundantControl(key, cachedValue -> cachedValue.equalsIgnoreCase(requestedValue) || isSameNumber(cachedValue, requestedValue));
+	}
+
+	/**
+	 * Checks if the control would write the value the device already has, based on the fresh cached state.
+	 * Optimistic values are not trusted, they may not have reached the device.
+	 *
+	 * @param key the cache key of the controlled property
+	 * @param isRequestedValue checks if the cached value already matches the control
+	 * @return true if the control can be acknowledged without sending the command
+	 */
+	private boolean isRedundantControl(String key, Predicate<String> isRequestedValue) {
+		String cachedValue = cacheKeyAndValue.get(key);
+		if (cachedValue == null || EasyIPMixerConstant.NONE.equals(cachedValue) || !cacheKeyAndValue.isFresh(key) || CacheSource.OPTIMISTIC.equals(cacheKeyAndValue.getSource(key))
+				|| !isRequestedValue.test(cachedValue)) {
+			return false;
+		}
+		suppressedControlCount.incrementAndGet();
+		logger.debug(String.format("Skip the control of %s, device %s already has the value %s", key, host, cachedValue));
+		return true;
+	}
+
+	/**
+	 * Checks if the route control would leave the routes of the output unchanged, based on the fresh cached state.
+	 *
+	 * @param key the cache key of the routes of the output
+	 * @param inputValue the audio input to route
+	 * @param isEnabled true if the route is turned on
+	 * @return true if the control can be acknowledged without sending the command
+	 */
+	private boolean isRedundantRoute(String key, String inputValue, boolean isEnabled) {
+		return isRedundantControl(key, routes -> Arrays.asList(routes.split(EasyIPMixerConstant.SPACE)).contains(inputValue) == isEnabled);
+	}
+
+	/**
+	 * Checks if both values are the same number
+	 *
+	 * @param value the first value
+	 * @param otherValue the second value
+	 * @return true if both values are numbers and are equal
+	 */
+	private boolean isSameNumber(String value, String otherValue) {
+		try {
+			return Double.compare(Double.parseDouble(value), Double.parseDouble(otherValue)) == 0;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Update cache device data
 	 *
@@ -1545,8 +4406,8 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 	 * @param property the key is property name
 	 * @param value the value is String value
 	 */
-	private void updateCachedDeviceData(Map<String, String> cacheMapOfPropertyNameAndValue, String property, String value) {
-		cacheMapOfPropertyNameAndValue.put(property, value);
+	private void updateCachedDeviceData(DeviceStateCache cacheMapOfPropertyNameAndValue, String property, String value) {
+		cacheMapOfPropertyNameAndValue.put(property, value, CacheSource.CONTROL);
 	}
 
 	/**
@@ -1666,4 +4527,277 @@ public class EasyIPMixerCommunicator extends SshCommunicator implements Monitora
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * AdapterMXBean exposes the internals of this adapter instance and its live tuning knobs over JMX.
+	 */
+	private class AdapterMXBean implements EasyIPMixerAdapterMXBean {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getHost() {
+			return host;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getCacheSize() {
+			return cacheKeyAndValue.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Long> getCacheEntryAges() {
+			return cacheKeyAndValue.getAges();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getCurrentPollingInterval() {
+			return currentPollingInterval;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getNumOfPollingInterval() {
+			return numOfPollingInterval;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getLockWaitP95Millis() {
+			return adapterMetrics.getPhaseHistogram(PollingPhase.LOCK_WAIT).getPercentile(95);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getLockHoldP95Millis() {
+			return adapterMetrics.getPhaseHistogram(PollingPhase.LOCK_HOLD).getPercentile(95);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getLockHoldMaxMillis() {
+			return adapterMetrics.getPhaseHistogram(PollingPhase.LOCK_HOLD).getMax();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getLockQueueLength() {
+			return commandGate.getQueueLength();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getExecutorQueueDepth() {
+			return commandLane != null ? commandLane.getQueueDepth() : 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getSchedulerActiveTasks() {
+			return SharedCommandScheduler.getInstance().getActiveTasks();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getSchedulerReadyLanes() {
+			return SharedCommandScheduler.getInstance().getReadyLanes();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getLastCycleDurationMillis() {
+			return adapterMetrics.getPhaseHistogram(PollingPhase.CYCLE).getLast();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Integer> getFailedCommandCounts() {
+			return failedMonitor.getFailureCounts();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Long> getCommandGateMaxWaitMillis() {
+			return Arrays.stream(CommandPriority.values()).collect(Collectors.toMap(CommandPriority::getName, commandGate::getMaxWaitMillis));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getSuppressedControlCount() {
+			return suppressedControlCount.get();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getReadBackMismatchCount() {
+			return readBackMismatchCount.get();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getSshReconnectCount() {
+			return Math.max(0, sshSessionCount.get() - 1);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getConnectionState() {
+			return EasyIPMixerCommunicator.this.getConnectionState();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Integer> getGroupRefreshPeriods() {
+			Map<String, Integer> result = new TreeMap<>();
+			for (PollingGroup group : PollingGroup.values()) {
+				result.put(group.getName(), groupRefreshPeriods.getOrDefault(group, 1));
+			}
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isPollTracingEnabled() {
+			return pollCycleTracer.isEnabled();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getTraceSpanCount() {
+			return pollCycleTracer.getSpans().size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String exportPollTrace(String file) {
+			Path path = StringUtils.isNullOrEmpty(file) ? getStateFile(EasyIPMixerConstant.TRACE_SUFFIX + System.currentTimeMillis() + EasyIPMixerConstant.TRACE_EXTENSION) : Paths.get(file);
+			try {
+				int count = pollCycleTracer.export(path, String.valueOf(host));
+				logger.info(String.format("Exported %s spans of device %s to %s", count, host, path));
+				return path.toAbsolutePath().toString();
+			} catch (Exception e) {
+				throw new IllegalStateException(String.format("Can't export the poll trace to %s: %s", path, e.getMessage()));
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String applyScene(String name) {
+			try {
+				return EasyIPMixerCommunicator.this.applyScene(name).getSummary();
+			} catch (Exception e) {
+				throw new IllegalStateException(String.format("Can't apply scene %s: %s", name, e.getMessage()));
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String reconcileDesiredState() {
+			try {
+				return EasyIPMixerCommunicator.this.reconcile(desiredStateMap).getSummary();
+			} catch (Exception e) {
+				throw new IllegalStateException(String.format("Can't reconcile the desired state: %s", e.getMessage()));
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getReconciledWriteCount() {
+			return reconciledWriteCount.get();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void forceFullRefresh() {
+			isFullRefreshRequested = true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void flushCaches() {
+			long lockTime = lockWithMetrics(CommandPriority.LOW);
+			try {
+				cacheKeyAndValue.clear();
+				failedMonitor.clear();
+				currentPollingInterval = 1;
+				isFullRefreshRequested = true;
+			} finally {
+				unlockWithMetrics(lockTime);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void setGroupRefreshPeriod(String group, int period) {
+			PollingGroup pollingGroup = PollingGroup.getByName(group);
+			if (pollingGroup == null) {
+				throw new IllegalArgumentException(String.format("Unknown polling group %s, expected one of %s", group,
+						Arrays.stream(PollingGroup.values()).map(PollingGroup::getName).collect(Collectors.joining(EasyIPMixerConstant.COMMA))));
+			}
+			if (period < 1) {
+				throw new IllegalArgumentException("The refresh period must be at least 1 polling sweep");
+			}
+			groupRefreshPeriods.put(pollingGroup, period);
+		}
+	}
+}
@@ -40,6 +40,7 @@ public class EasyIPMixerConstant {
 	public static final String DOT_REGEX = "\\.";
 	public static final String DASH = "-";
 	public static final String SPACE = " ";
+	public static final String COMMA = ",";
 	public static final String ERROR_RESPONSE = "Syntax error";
 	public static final String ERROR = "ERROR";
 	public static final String OK = "OK";
@@ -67,4 +68,98 @@ public class EasyIPMixerConstant {
 	public static final String PAN_STANDBY_VALUE = "-90.3";
 	public static final String TILT_STANDBY_VALUE = "-30";
 	public static final String ZOOM_STANDBY_VALUE = "1.0";
+	public static final String CONNECTION_GROUP = "DeviceConnection#";
+	public static final String CONNECTION_STATE = "State";
+	public static final String DATA_STALE = "DataStale";
+	public static final String LAST_UPDATED = "LastUpdated";
+	public static final String CONSECUTIVE_FAILURES = "ConsecutiveFailures";
+	public static final String ONLINE = "Online";
+	public static final String OFFLINE = "Offline";
+	public static final String FALSE = "False";
+	public static final int DEFAULT_CONNECTION_FAILURE_THRESHOLD = 3;
+	public static final long PROBE_INITIAL_BACKOFF = 10000;
+	public static final long PROBE_MAX_BACKOFF = 300000;
+	public static final String DIAGNOSTICS_GROUP = "AdapterDiagnostics#";
+	public static final String OPEN_CIRCUITS = "OpenCircuits";
+	public static final String OPEN_CIRCUIT_COUNT = "OpenCircuitCount";
+	public static final String HALF_OPEN_CIRCUITS = "HalfOpenCircuits";
+	public static final String SKIPPED_COMMANDS = "SkippedCommands";
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+	public static final long DEFAULT_CIRCUIT_BREAKER_RETRY_INTERVAL = 600000;
+	public static final String STATE_DIRECTORY = "easyip-mixer";
+	public static final String PROFILE_EXTENSION = ".profile";
+	public static final long PROFILE_SAVE_INTERVAL = 600000;
+	public static final String SNAPSHOT_EXTENSION = ".snapshot";
+	public static final String RESTORED_FROM_SNAPSHOT = "RestoredFromSnapshot";
+	public static final String SNAPSHOT_TIME = "SnapshotTime";
+	public static final long SNAPSHOT_SAVE_INTERVAL = 60000;
+	public static final int TRACE_CAPACITY = 4096;
+	public static final String TRACE_SUFFIX = "-trace-";
+	public static final String TRACE_EXTENSION = ".json";
+	public static final String AGGREGATOR_GROUP = "Aggregator#";
+	public static final String DEVICE_COUNT = "DeviceCount";
+	public static final String ONLINE_DEVICE_COUNT = "OnlineDeviceCount";
+	public static final String POLLING_DEVICES = "PollingDevices";
+	public static final String MAX_CONCURRENT_POLLS = "MaxConcurrentPolls";
+	public static final String LAST_POLLING_ROUND_DURATION = "LastPollingRoundDuration(ms)";
+	public static final int DEFAULT_MAX_CONCURRENT_POLLS = 16;
+	public static final String COLON = ":";
+	public static final String DEVICE_MAKE = "Vaddio";
+	public static final String DEVICE_MODEL = "EasyIP Mixer";
+	public static final String DEVICE_TYPE = "Mixer";
+	public static final long PASSIVE_PING_MAX_AGE = 120000;
+	public static final String PRIORITY_AVERAGE_WAIT = "PriorityAverageWait(ms)";
+	public static final String PRIORITY_MAX_WAIT = "PriorityMaxWait(ms)";
+	public static final String MONITORING_YIELD_COUNT = "MonitoringYieldCount";
+	public static final String SUPPRESSED_CONTROLS = "SuppressedControls";
+	public static final String READ_BACK_MISMATCHES = "ReadBackMismatches";
+	public static final String STALE_CACHE_ENTRIES = "StaleCacheEntries";
+	public static final String OLDEST_CACHE_ENTRY_AGE = "OldestCacheEntryAge(s)";
+	public static final String OLDEST_CACHE_ENTRY = "OldestCacheEntry";
+	public static final long DEFAULT_CACHE_TTL = 600000;
+	public static final long STATIC_CACHE_TTL = 3600000;
+	public static final String PENDING_POLLING_WORK = "PendingPollingWork";
+	public static final String OLDEST_PENDING_WORK_AGE = "OldestPendingWorkAge(s)";
+	public static final String STALENESS = "Staleness(s)";
+	public static final int CAMERA_STABLE_READINGS = 2;
+	public static final long CAMERA_MIN_MOTION_WINDOW = 3000;
+	public static final long CAMERA_MOTION_TIMEOUT = 120000;
+	public static final int DEFAULT_CAMERA_IDLE_POLLING_INTERVAL = 300;
+	public static final String REBOOT_STARTED = "RebootStarted";
+	public static final long REBOOT_INITIAL_DELAY = 15000;
+	public static final long REBOOT_PROBE_INITIAL_BACKOFF = 5000;
+	public static final long REBOOT_PROBE_MAX_BACKOFF = 30000;
+	public static final long REBOOT_TIMEOUT = 300000;
+	public static final String SCENE_GROUP = "Scene#";
+	public static final String APPLY_SCENE = "ApplyScene";
+	public static final String LAST_SCENE = "LastScene";
+	public static final String LAST_SCENE_RESULT = "LastResult";
+	public static final String LAST_SCENE_DURATION = "LastDuration(ms)";
+	public static final String SCENE_STEP = "Step";
+	public static final String SCENE_SEPARATOR = "\\|";
+	public static final String SCENE_SETTING_SEPARATOR = ";";
+	public static final String EQUAL = "=";
+	public static final String DESIRED_STATE = "DesiredState";
+	public static final String RECONCILED_WRITES = "ReconciledWrites";
+	public static final String LAST_RECONCILIATION = "LastReconciliation";
+	public static final int DEFAULT_RECONCILIATION_INTERVAL = 300;
+	public static final String CAMERA_COLOR_FEATURE = "CameraColor";
+	public static final String CAMERA_POSITION_FEATURE = "CameraPosition";
+	public static final String STARTUP_GROUP = "StartupProgress#";
+	public static final String ESSENTIAL = "Essential";
+	public static final String CAMERAS = "Cameras";
+	public static final String AUDIO_ROUTE = "AudioRoute";
+	public static final String AUDIO_VOLUME = "AudioVolume";
+	public static final String CROSSPOINT_GAIN = "CrosspointGain";
+	public static final String COMPLETE = "Complete";
+	public static final String PENDING = "Pending";
+	public static final String POLLING_SUB_CYCLES = "PollingSubCycles";
+	public static final String ESTIMATED_MONITORING_INTERVAL = "EstimatedMonitoringInterval(s)";
+	public static final String COST = "Cost(ms)";
+	public static final int DEFAULT_POLLING_TARGET_PERCENT = 50;
+	public static final long DEFAULT_MONITORING_INTERVAL = 60000;
+	public static final String PAYLOAD_SIZE = "PayloadSize(bytes)";
+	public static final String FULL_PAYLOAD_SIZE = "FullPayloadSize(bytes)";
+	public static final int DEFAULT_COMPACT_REPUBLISH_INTERVAL = 300;
+	public static final String MXBEAN_NAME = "com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip:type=EasyIPMixerCommunicator,host=%s,id=%s";
 }
\ No newline at end of file
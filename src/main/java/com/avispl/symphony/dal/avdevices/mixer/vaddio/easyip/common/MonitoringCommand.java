@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common;
 
+import java.util.Arrays;
+
 /**
  * Enumeration representing monitoring command properties for EasyIP Mixer camera control.
  *
@@ -71,4 +73,44 @@ public enum MonitoringCommand {
 	public String getRegex() {
 		return regex;
 	}
+
+	/**
+	 * Retrieves the monitoring command associated with the given name.
+	 *
+	 * @param name the name of the monitoring command to search for
+	 * @return the monitoring command if found, or null if not found
+	 */
+	public static MonitoringCommand getByName(String name) {
+		return Arrays.stream(MonitoringCommand.values())
+				.filter(definition -> definition.getName().equalsIgnoreCase(name))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * Checks whether the command is sent once per connected camera.
+	 *
+	 * @return true if the command contains the camera index placeholder
+	 */
+	public boolean isCameraCommand() {
+		return command.contains("$");
+	}
+
+	/**
+	 * Checks whether the command retrieves the pan, tilt or zoom position of a camera.
+	 *
+	 * @return true if the command is a position command
+	 */
+	public boolean isPositionCommand() {
+		return this == PAN || this == TILT || this == ZOOM;
+	}
+
+	/**
+	 * Checks whether the command retrieves the essential state published first after the adapter starts.
+	 *
+	 * @return true if the command is an essential command
+	 */
+	public boolean isEssentialCommand() {
+		return this == SYSTEM_STANDBY || this == AUDIO_MUTE || this == VIDEO_MUTE || this == VIDEO_SOURCE;
+	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common;
+
+import java.util.Arrays;
+
+/**
+ * Enumeration representing the ways the adapter measures the latency of the device.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PingMode {
+	TCP("TCP"),
+	ICMP("ICMP"),
+	PASSIVE("Passive"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	PingMode(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the ping mode associated with the given name.
+	 *
+	 * @param name the name of the ping mode to search for
+	 * @return the ping mode if found, or {@link #TCP} if not found
+	 */
+	public static PingMode getByName(String name) {
+		return Arrays.stream(PingMode.values())
+				.filter(definition -> definition.getName().equalsIgnoreCase(name))
+				.findFirst()
+				.orElse(TCP);
+	}
+}
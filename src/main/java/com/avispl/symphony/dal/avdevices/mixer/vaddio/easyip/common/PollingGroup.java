@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common;
+
+import java.util.Arrays;
+
+/**
+ * Enumeration representing the groups of data retrieved by the monitoring cycle.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PollingGroup {
+	CAMERA_DISCOVERY("CameraDiscovery"),
+	MONITORING("Monitoring"),
+	ROUTE("Route"),
+	AUDIO_VOLUME("AudioVolume"),
+	CROSSPOINT_GAIN("CrosspointGain"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	PollingGroup(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the polling group associated with the given name.
+	 *
+	 * @param name the name of the polling group to search for
+	 * @return the polling group if found, or null if not found
+	 */
+	public static PollingGroup getByName(String name) {
+		return Arrays.stream(PollingGroup.values())
+				.filter(definition -> definition.getName().equalsIgnoreCase(name))
+				.findFirst()
+				.orElse(null);
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics.PollingPhase;
+
+/**
+ * Enumeration representing the units of read work of the monitoring cycle, in priority order.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PollingWork {
+	ESSENTIAL("Essential", PollingPhase.RETRIEVE_MONITORING),
+	CAMERA_DISCOVERY("CameraDiscovery", PollingPhase.GET_NUMBER_CAMERA),
+	MONITORING("Monitoring", PollingPhase.RETRIEVE_MONITORING),
+	CAMERA_POSITION("CameraPosition", PollingPhase.RETRIEVE_CAMERA_POSITION),
+	ROUTE("Route", PollingPhase.RETRIEVE_ENABLED_ROUTE),
+	AUDIO_VOLUME("AudioVolume", PollingPhase.RETRIEVE_AUDIO_VOLUME),
+	CROSSPOINT_GAIN_FIRST_HALF("CrosspointGainFirstHalf", PollingPhase.RETRIEVE_CROSSPOINT_GAIN),
+	CROSSPOINT_GAIN_SECOND_HALF("CrosspointGainSecondHalf", PollingPhase.RETRIEVE_CROSSPOINT_GAIN),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 * @param phase of {@link #phase}
+	 */
+	PollingWork(String name, PollingPhase phase) {
+		this.name = name;
+		this.phase = phase;
+	}
+
+	private final String name;
+	private final PollingPhase phase;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #phase}
+	 *
+	 * @return value of {@link #phase}
+	 */
+	public PollingPhase getPhase() {
+		return phase;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+/**
+ * Enumeration representing where a cached value of the device state comes from.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum CacheSource {
+	POLL("Poll"),
+	CONTROL("Control"),
+	OPTIMISTIC("Optimistic"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	CacheSource(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
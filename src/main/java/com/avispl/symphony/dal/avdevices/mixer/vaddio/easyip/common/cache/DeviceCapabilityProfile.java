@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DeviceCapabilityProfile stores what the adapter learned about a device: the connected camera slots,
+ * the commands the firmware doesn't support and the observed latency of every command.
+ * The profile is persisted per host and is only valid for the firmware version it was learned from.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceCapabilityProfile {
+	private static final String HOST = "host";
+	private static final String FIRMWARE_VERSION = "firmwareVersion";
+	private static final String CAMERAS = "cameras";
+	private static final String UNSUPPORTED_PREFIX = "unsupported.";
+	private static final String LATENCY_PREFIX = "latency.";
+
+	/**
+	 * Weight of the newest sample in the latency moving average
+	 */
+	private static final double LATENCY_WEIGHT = 0.2;
+
+	private final String host;
+	private String firmwareVersion;
+	private final Set<String> cameras = new TreeSet<>();
+	private final Set<String> unsupportedCommands = new TreeSet<>();
+	private final Map<String, Double> commandLatency = new ConcurrentHashMap<>();
+	private boolean changed;
+
+	/**
+	 * DeviceCapabilityProfile constructor
+	 *
+	 * @param host of {@link #host}
+	 */
+	public DeviceCapabilityProfile(String host) {
+		this.host = host;
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieves {@link #firmwareVersion}
+	 *
+	 * @return value of {@link #firmwareVersion}
+	 */
+	public synchronized String getFirmwareVersion() {
+		return firmwareVersion;
+	}
+
+	/**
+	 * Sets {@link #firmwareVersion} value
+	 *
+	 * @param firmwareVersion new value of {@link #firmwareVersion}
+	 */
+	public synchronized void setFirmwareVersion(String firmwareVersion) {
+		if (firmwareVersion != null && !firmwareVersion.equals(this.firmwareVersion)) {
+			this.firmwareVersion = firmwareVersion;
+			changed = true;
+		}
+	}
+
+	/**
+	 * Checks if the profile is valid for the firmware version of the device, a profile learned from another firmware must be discarded
+	 *
+	 * @param firmwareVersion the current firmware version of the device
+	 * @return true if the profile has no firmware version yet or was learned from the same firmware version
+	 */
+	public synchronized boolean isValidFor(String firmwareVersion) {
+		return this.firmwareVersion == null || this.firmwareVersion.equals(firmwareVersion);
+	}
+
+	/**
+	 * Retrieves {@link #cameras}
+	 *
+	 * @return value of {@link #cameras}
+	 */
+	public synchronized Set<String> getCameras() {
+		return Collections.unmodifiableSet(new TreeSet<>(cameras));
+	}
+
+	/**
+	 * Sets {@link #cameras} value
+	 *
+	 * @param cameras new value of {@link #cameras}
+	 */
+	public synchronized void setCameras(Collection<String> cameras) {
+		if (!this.cameras.equals(new TreeSet<>(cameras))) {
+			this.cameras.clear();
+			this.cameras.addAll(cameras);
+			changed = true;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #unsupportedCommands}
+	 *
+	 * @return value of {@link #unsupportedCommands}
+	 */
+	public synchronized Set<String> getUnsupportedCommands() {
+		return Collections.unmodifiableSet(new TreeSet<>(unsupportedCommands));
+	}
+
+	/**
+	 * Sets {@link #unsupportedCommands} value
+	 *
+	 * @param unsupportedCommands new value of {@link #unsupportedCommands}
+	 */
+	public synchronized void setUnsupportedCommands(Collection<String> unsupportedCommands) {
+		if (!this.unsupportedCommands.equals(new TreeSet<>(unsupportedCommands))) {
+			this.unsupportedCommands.clear();
+			this.unsupportedCommands.addAll(unsupportedCommands);
+			changed = true;
+		}
+	}
+
+	/**
+	 * Records the round trip time of a command as an exponential moving average.
+	 *
+	 * @param command the command sent to the device
+	 * @param latency the round trip time in milliseconds
+	 */
+	public void recordLatency(String command, long latency) {
+		commandLatency.merge(command, (double) latency, (previous, sample) -> previous + LATENCY_WEIGHT * (sample - previous));
+	}
+
+	/**
+	 * Retrieves the average latency of the command
+	 *
+	 * @param command the command sent to the device
+	 * @return the average latency in milliseconds, or -1 if the command was never sent
+	 */
+	public long getLatency(String command) {
+		Double latency = commandLatency.get(command);
+		return latency == null ? -1 : Math.round(latency);
+	}
+
+	/**
+	 * Retrieves the average latency of all commands
+	 *
+	 * @return sorted map of command and average latency in milliseconds
+	 */
+	public Map<String, Long> getLatencies() {
+		Map<String, Long> result = new TreeMap<>();
+		commandLatency.forEach((command, latency) -> result.put(command, Math.round(latency)));
+		return result;
+	}
+
+	/**
+	 * Checks if the cameras, unsupported commands or firmware version changed since the profile was loaded or saved
+	 *
+	 * @return true if the profile changed
+	 */
+	public synchronized boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * Writes the profile to the file, the file is replaced atomically.
+	 *
+	 * @param file the profile file
+	 * @throws IOException if the profile can't be written
+	 */
+	public synchronized void save(Path file) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty(HOST, host);
+		if (firmwareVersion != null) {
+			properties.setProperty(FIRMWARE_VERSION, firmwareVersion);
+		}
+		properties.setProperty(CAMERAS, String.join(",", cameras));
+		int index = 0;
+		for (String command : unsupportedCommands) {
+			properties.setProperty(UNSUPPORTED_PREFIX + index++, command);
+		}
+		getLatencies().forEach((command, latency) -> properties.setProperty(LATENCY_PREFIX + command, String.valueOf(latency)));
+
+		Files.createDirectories(file.getParent());
+		Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+			properties.store(outputStream, "EasyIP Mixer capability profile");
+		}
+		Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		changed = false;
+	}
+
+	/**
+	 * Reads the profile of the host from the file.
+	 *
+	 * @param file the profile file
+	 * @param host the host the profile must belong to
+	 * @return the profile, or null if the file doesn't exist or belongs to another host
+	 * @throws IOException if the profile can't be read
+	 */
+	public static DeviceCapabilityProfile load(Path file, String host) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		}
+		if (!host.equals(properties.getProperty(HOST))) {
+			return null;
+		}
+		DeviceCapabilityProfile profile = new DeviceCapabilityProfile(host);
+		profile.firmwareVersion = properties.getProperty(FIRMWARE_VERSION);
+		for (String camera : properties.getProperty(CAMERAS, "").split(",")) {
+			if (!camera.trim().isEmpty()) {
+				profile.cameras.add(camera.trim());
+			}
+		}
+		for (String name : properties.stringPropertyNames()) {
+			if (name.startsWith(UNSUPPORTED_PREFIX)) {
+				profile.unsupportedCommands.add(properties.getProperty(name));
+			} else if (name.startsWith(LATENCY_PREFIX)) {
+				try {
+					profile.commandLatency.put(name.substring(LATENCY_PREFIX.length()), Double.parseDouble(properties.getProperty(name)));
+				} catch (NumberFormatException e) {
+					// ignore the invalid latency, it is measured again
+				}
+			}
+		}
+		return profile;
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * DeviceStateCache is the cached state of the device, shared by the monitoring cycle, the controls and the command lane.
+ * Every entry records its value, write time and source. An entry is fresh while its age is below the TTL of its property group,
+ * the group being the part of the key up to the hash sign. The cache is a map of the values, so it can be read the same way as before.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateCache extends AbstractMap<String, String> {
+	private static final String HASH = "#";
+
+	private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Long> groupTtls = new ConcurrentHashMap<>();
+	private final long defaultTtl;
+
+	/**
+	 * DeviceStateCache constructor
+	 *
+	 * @param defaultTtl of {@link #defaultTtl} in milliseconds
+	 */
+	public DeviceStateCache(long defaultTtl) {
+		this.defaultTtl = defaultTtl;
+	}
+
+	/**
+	 * Sets the TTL of a property group
+	 *
+	 * @param group the property group, including the hash sign
+	 * @param ttl the TTL in milliseconds
+	 */
+	public void setGroupTtl(String group, long ttl) {
+		groupTtls.put(group, ttl);
+	}
+
+	/**
+	 * Stores the value read by the monitoring cycle
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String put(String key, String value) {
+		return put(key, value, CacheSource.POLL);
+	}
+
+	/**
+	 * Stores the value written now by the given source
+	 *
+	 * @param key the property name
+	 * @param value the property value
+	 * @param source where the value comes from
+	 * @return the previous value, or null if there was none
+	 */
+	public String put(String key, String value, CacheSource source) {
+		return put(key, value, source, System.currentTimeMillis());
+	}
+
+	/**
+	 * Stores the value written at the given time by the given source
+	 *
+	 * @param key the property name
+	 * @param value the property value
+	 * @param source where the value comes from
+	 * @param writeTime the time the value was written, in milliseconds
+	 * @return the previous value, or null if there was none. A null value removes the entry
+	 */
+	public String put(String key, String value, CacheSource source, long writeTime) {
+		CacheEntry previous = value == null ? entries.remove(key) : entries.put(key, new CacheEntry(value, source, writeTime));
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(Object key) {
+		CacheEntry entry = entries.get(key);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return entries.containsKey(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String remove(Object key) {
+		CacheEntry previous = entries.remove(key);
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Retrieves a snapshot of the cached values
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return entries.entrySet().stream()
+				.map(entry -> new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value))
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Removes the entries of a property group, e.g. the group of a camera that is no longer connected
+	 *
+	 * @param group the property group, including the hash sign
+	 * @return true if an entry was removed
+	 */
+	public boolean removeGroup(String group) {
+		return entries.keySet().removeIf(key -> key.startsWith(group));
+	}
+
+	/**
+	 * Retrieves the age of the entry
+	 *
+	 * @param key the property name
+	 * @return the age in milliseconds, or -1 if the key isn't cached
+	 */
+	public long getAge(String key) {
+		CacheEntry entry = entries.get(key);
+		return entry == null ? -1 : System.currentTimeMillis() - entry.writeTime;
+	}
+
+	/**
+	 * Retrieves the source of the entry
+	 *
+	 * @param key the property name
+	 * @return the source, or null if the key isn't cached
+	 */
+	public CacheSource getSource(String key) {
+		CacheEntry entry = entries.get(key);
+		return entry == null ? null : entry.source;
+	}
+
+	/**
+	 * Checks if the entry is fresh: cached and younger than the TTL of its property group
+	 *
+	 * @param key the property name
+	 * @return true if the entry is fresh
+	 */
+	public boolean isFresh(String key) {
+		CacheEntry entry = entries.get(key);
+		return entry != null && System.currentTimeMillis() - entry.writeTime <= getTtl(key);
+	}
+
+	/**
+	 * Retrieves the number of entries older than the TTL of their property group
+	 *
+	 * @return the number of stale entries
+	 */
+	public long getStaleCount() {
+		return entries.keySet().stream().filter(key -> !isFresh(key)).count();
+	}
+
+	/**
+	 * Retrieves the age of every entry, sorted by key
+	 *
+	 * @return map of property name and age in milliseconds
+	 */
+	public Map<String, Long> getAges() {
+		long now = System.currentTimeMillis();
+		Map<String, Long> ages = new TreeMap<>();
+		entries.forEach((key, entry) -> ages.put(key, now - entry.writeTime));
+		return ages;
+	}
+
+	/**
+	 * Retrieves the TTL of the property group of the key
+	 *
+	 * @param key the property name
+	 * @return the TTL in milliseconds
+	 */
+	private long getTtl(String key) {
+		int index = key.indexOf(HASH);
+		return index < 0 ? defaultTtl : groupTtls.getOrDefault(key.substring(0, index + 1), defaultTtl);
+	}
+
+	/**
+	 * Cached value with its write time and source
+	 */
+	private static class CacheEntry {
+		private final String value;
+		private final CacheSource source;
+		private final long writeTime;
+
+		/**
+		 * CacheEntry constructor
+		 *
+		 * @param value of {@link #value}
+		 * @param source of {@link #source}
+		 * @param writeTime of {@link #writeTime}
+		 */
+		private CacheEntry(String value, CacheSource source, long writeTime) {
+			this.value = value;
+			this.source = source;
+			this.writeTime = writeTime;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * DeviceStateSnapshot is the last known state of a device: the cached key/value pairs and the connected camera slots.
+ * The snapshot is written in a compact deflated binary format and replaces the previous file atomically,
+ * so it can be served right after the adapter starts while the live polling catches up.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceStateSnapshot {
+	private static final int MAGIC = 0x45495053;
+	private static final int FORMAT_VERSION = 1;
+
+	private final long timestamp;
+	private final Set<String> cameras;
+	private final Map<String, String> values;
+
+	/**
+	 * DeviceStateSnapshot constructor
+	 *
+	 * @param timestamp of {@link #timestamp}
+	 * @param cameras of {@link #cameras}
+	 * @param values of {@link #values}
+	 */
+	public DeviceStateSnapshot(long timestamp, Collection<String> cameras, Map<String, String> values) {
+		this.timestamp = timestamp;
+		this.cameras = Collections.unmodifiableSet(new LinkedHashSet<>(cameras));
+		this.values = Collections.unmodifiableMap(new HashMap<>(values));
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #cameras}
+	 *
+	 * @return value of {@link #cameras}
+	 */
+	public Set<String> getCameras() {
+		return cameras;
+	}
+
+	/**
+	 * Retrieves {@link #values}
+	 *
+	 * @return value of {@link #values}
+	 */
+	public Map<String, String> getValues() {
+		return values;
+	}
+
+	/**
+	 * Writes the snapshot of the host to the file, the file is replaced atomically.
+	 *
+	 * @param file the snapshot file
+	 * @param host the host the snapshot belongs to
+	 * @throws IOException if the snapshot can't be written
+	 */
+	public void write(Path file, String host) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(temporaryFile))))) {
+			outputStream.writeInt(MAGIC);
+			outputStream.writeInt(FORMAT_VERSION);
+			outputStream.writeUTF(host);
+			outputStream.writeLong(timestamp);
+			outputStream.writeInt(cameras.size());
+			for (String camera : cameras) {
+				outputStream.writeUTF(camera);
+			}
+			outputStream.writeInt(values.size());
+			for (Map.Entry<String, String> entry : values.entrySet()) {
+				outputStream.writeUTF(entry.getKey());
+				outputStream.writeUTF(entry.getValue());
+			}
+		}
+		Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads the snapshot of the host from the file.
+	 *
+	 * @param file the snapshot file
+	 * @param host the host the snapshot must belong to
+	 * @return the snapshot, or null if the file doesn't exist, has an unknown format or belongs to another host
+	 * @throws IOException if the snapshot can't be read
+	 */
+	public static DeviceStateSnapshot read(Path file, String host) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(file))))) {
+			if (inputStream.readInt() != MAGIC || inputStream.readInt() != FORMAT_VERSION || !host.equals(inputStream.readUTF())) {
+				return null;
+			}
+			long timestamp = inputStream.readLong();
+			int cameraCount = inputStream.readInt();
+			Set<String> cameras = new LinkedHashSet<>();
+			for (int i = 0; i < cameraCount; i++) {
+				cameras.add(inputStream.readUTF());
+			}
+			int valueCount = inputStream.readInt();
+			Map<String, String> values = new HashMap<>();
+			for (int i = 0; i < valueCount; i++) {
+				values.put(inputStream.readUTF(), inputStream.readUTF());
+			}
+			return new DeviceStateSnapshot(timestamp, cameras, values);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ReadBackQueue collects the reads that verify the values written by the controls.
+ * The reads are deduplicated by command, so several controls verified by the same command cost one round trip,
+ * and they are drained as a batch by the verifier.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ReadBackQueue {
+
+	private final Map<String, ReadBack> pendingReads = new LinkedHashMap<>();
+
+	/**
+	 * Adds the read that verifies the value expected for the cache key
+	 *
+	 * @param command the command reading the value back
+	 * @param responseHandler stores the values of the response in the cache
+	 * @param key the cache key to verify
+	 * @param expectedValue the value written by the control
+	 */
+	public synchronized void add(String command, Consumer<String> responseHandler, String key, String expectedValue) {
+		pendingReads.computeIfAbsent(command, item -> new ReadBack(command, responseHandler)).expectedValues.put(key, expectedValue);
+	}
+
+	/**
+	 * Removes and retrieves all the pending reads
+	 *
+	 * @return the pending reads in the order they were added
+	 */
+	public synchronized List<ReadBack> drain() {
+		List<ReadBack> reads = new ArrayList<>(pendingReads.values());
+		pendingReads.clear();
+		return reads;
+	}
+
+	/**
+	 * Retrieves the number of pending reads
+	 *
+	 * @return the number of pending reads
+	 */
+	public synchronized int size() {
+		return pendingReads.size();
+	}
+
+	/**
+	 * Read of a single command and the values it verifies
+	 */
+	public static class ReadBack {
+		private final String command;
+		private final Consumer<String> responseHandler;
+		private final Map<String, String> expectedValues = new HashMap<>();
+
+		/**
+		 * ReadBack constructor
+		 *
+		 * @param command of {@link #command}
+		 * @param responseHandler of {@link #responseHandler}
+		 */
+		private ReadBack(String command, Consumer<String> responseHandler) {
+			this.command = command;
+			this.responseHandler = responseHandler;
+		}
+
+		/**
+		 * Retrieves {@link #command}
+		 *
+		 * @return value of {@link #command}
+		 */
+		public String getCommand() {
+			return command;
+		}
+
+		/**
+		 * Retrieves {@link #responseHandler}
+		 *
+		 * @return value of {@link #responseHandler}
+		 */
+		public Consumer<String> getResponseHandler() {
+			return responseHandler;
+		}
+
+		/**
+		 * Retrieves {@link #expectedValues}
+		 *
+		 * @return map of cache key and expected value
+		 */
+		public Map<String, String> getExpectedValues() {
+			return Collections.unmodifiableMap(expectedValues);
+		}
+	}
+}
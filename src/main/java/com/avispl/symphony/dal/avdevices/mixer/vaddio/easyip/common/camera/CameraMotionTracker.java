@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * CameraMotionTracker decides when the position of each camera has to be polled.
+ * A camera is tracked as moving right after a PTZ, home or preset control, its position is then polled every monitoring cycle
+ * until the same position is read a number of consecutive times and the minimum motion window has elapsed, so a read taken before
+ * the camera starts moving doesn't end the tracking. Idle cameras are polled at a slow rate only.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CameraMotionTracker {
+
+	private final int stableReadings;
+	private final long minMotionWindow;
+	private final long motionTimeout;
+	private long idleInterval;
+	private final Map<String, CameraState> cameraStates = new HashMap<>();
+
+	/**
+	 * CameraMotionTracker constructor
+	 *
+	 * @param stableReadings of {@link #stableReadings}
+	 * @param minMotionWindow of {@link #minMotionWindow} in milliseconds
+	 * @param motionTimeout of {@link #motionTimeout} in milliseconds
+	 * @param idleInterval of {@link #idleInterval} in milliseconds
+	 */
+	public CameraMotionTracker(int stableReadings, long minMotionWindow, long motionTimeout, long idleInterval) {
+		this.stableReadings = stableReadings;
+		this.minMotionWindow = minMotionWindow;
+		this.motionTimeout = motionTimeout;
+		this.idleInterval = idleInterval;
+	}
+
+	/**
+	 * Sets {@link #idleInterval} value
+	 *
+	 * @param idleInterval new value of {@link #idleInterval} in milliseconds
+	 */
+	public synchronized void setIdleInterval(long idleInterval) {
+		this.idleInterval = idleInterval;
+	}
+
+	/**
+	 * Starts tracking the camera as moving, its position is polled every cycle until it settles.
+	 * The last known position is cleared, the position before the motion doesn't count as a stable reading.
+	 *
+	 * @param camera the index of camera
+	 */
+	public synchronized void startMotion(String camera) {
+		CameraState state = cameraStates.computeIfAbsent(camera, key -> new CameraState());
+		state.motionStartTime = System.currentTimeMillis();
+		state.unchangedReadings = 0;
+		state.position = null;
+	}
+
+	/**
+	 * Checks if the position of the camera is due in the current cycle
+	 *
+	 * @param camera the index of camera
+	 * @return true if the camera is moving, was never polled or the idle interval has elapsed
+	 */
+	public synchronized boolean isPositionDue(String camera) {
+		CameraState state = cameraStates.get(camera);
+		return state == null || state.isMoving() || System.currentTimeMillis() - state.lastPollTime >= idleInterval;
+	}
+
+	/**
+	 * Records the position read from the camera. A moving camera is considered idle once the position hasn't changed
+	 * for {@link #stableReadings} consecutive readings after the minimum motion window, or once the motion timeout has elapsed.
+	 *
+	 * @param camera the index of camera
+	 * @param position the pan, tilt and zoom values of the camera
+	 */
+	public synchronized void recordPosition(String camera, String position) {
+		CameraState state = cameraStates.computeIfAbsent(camera, key -> new CameraState());
+		long now = System.currentTimeMillis();
+		if (state.isMoving()) {
+			state.unchangedReadings = Objects.equals(state.position, position) ? state.unchangedReadings + 1 : 0;
+			long motionTime = now - state.motionStartTime;
+			if ((state.unchangedReadings >= stableReadings && motionTime >= minMotionWindow) || motionTime >= motionTimeout) {
+				state.motionStartTime = 0;
+			}
+		}
+		state.position = position;
+		state.lastPollTime = now;
+	}
+
+	/**
+	 * Removes the cameras that are no longer connected
+	 *
+	 * @param cameras the indexes of the connected cameras
+	 */
+	public synchronized void retainCameras(Set<String> cameras) {
+		cameraStates.keySet().retainAll(cameras);
+	}
+
+	/**
+	 * Position tracking state of a single camera
+	 */
+	private static class CameraState {
+		private String position;
+		private long lastPollTime;
+		private long motionStartTime;
+		private int unchangedReadings;
+
+		/**
+		 * Checks if the camera is tracked as moving
+		 *
+		 * @return true if the motion tracking has started and the camera hasn't settled yet
+		 */
+		private boolean isMoving() {
+			return motionStartTime > 0;
+		}
+	}
+}
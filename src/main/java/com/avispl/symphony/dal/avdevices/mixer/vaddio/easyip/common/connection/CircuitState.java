@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+/**
+ * Enumeration representing the states of a command circuit breaker.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum CircuitState {
+	CLOSED("Closed"),
+	OPEN("Open"),
+	HALF_OPEN("HalfOpen"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	CircuitState(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
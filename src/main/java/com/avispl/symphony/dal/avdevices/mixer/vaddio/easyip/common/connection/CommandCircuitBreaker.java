@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * CommandCircuitBreaker keeps a circuit per monitoring command.
+ * Only the device rejections of a command ("Syntax error" replies) count against its circuit, the transport errors are tracked by
+ * {@link ConnectionHealthMonitor}. A command that keeps being rejected opens its circuit and is skipped, after the retry interval
+ * the circuit is half-open and a single request is sent as a probe: a success closes the circuit, a failure opens it again.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CommandCircuitBreaker {
+
+	/**
+	 * Circuit of a single command
+	 */
+	private static class Circuit {
+		private CircuitState state = CircuitState.CLOSED;
+		private int consecutiveFailures;
+		private long openedAt;
+		private long probeStartedAt;
+		private String lastError;
+	}
+
+	private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+	private final AtomicLong skippedRequests = new AtomicLong();
+	private volatile int failureThreshold;
+	private volatile long retryInterval;
+
+	/**
+	 * CommandCircuitBreaker constructor
+	 *
+	 * @param failureThreshold of {@link #failureThreshold}
+	 * @param retryInterval of {@link #retryInterval} in milliseconds
+	 */
+	public CommandCircuitBreaker(int failureThreshold, long retryInterval) {
+		this.failureThreshold = failureThreshold;
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Sets {@link #failureThreshold} value
+	 *
+	 * @param failureThreshold new value of {@link #failureThreshold}
+	 */
+	public void setFailureThreshold(int failureThreshold) {
+		this.failureThreshold = failureThreshold;
+	}
+
+	/**
+	 * Sets {@link #retryInterval} value
+	 *
+	 * @param retryInterval new value of {@link #retryInterval}
+	 */
+	public void setRetryInterval(long retryInterval) {
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Checks if the command can be sent to the device.
+	 * An open circuit becomes half-open once the retry interval has elapsed and lets a single probe through,
+	 * the other requests are skipped until the probe is recorded. A probe without outcome, e.g. lost on a transport error,
+	 * is replaced after another retry interval.
+	 *
+	 * @param command the command to check
+	 * @return true if the command should be sent
+	 */
+	public boolean allowRequest(String command) {
+		Circuit circuit = circuits.get(command);
+		if (circuit == null) {
+			return true;
+		}
+		synchronized (circuit) {
+			long now = System.currentTimeMillis();
+			if (circuit.state == CircuitState.OPEN && now - circuit.openedAt >= retryInterval
+					|| circuit.state == CircuitState.HALF_OPEN && now - circuit.probeStartedAt >= retryInterval) {
+				circuit.state = CircuitState.HALF_OPEN;
+				circuit.probeStartedAt = now;
+				return true;
+			}
+			if (circuit.state != CircuitState.CLOSED) {
+				skippedRequests.incrementAndGet();
+				return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Records a successful command and closes its circuit.
+	 *
+	 * @param command the command that succeeded
+	 */
+	public void recordSuccess(String command) {
+		circuits.remove(command);
+	}
+
+	/**
+	 * Records a command rejected by the device, the circuit opens once the failure threshold is reached or the half-open probe failed.
+	 *
+	 * @param command the command that was rejected
+	 * @param error the error reply of the device
+	 */
+	public void recordFailure(String command, String error) {
+		Circuit circuit = circuits.computeIfAbsent(command, key -> new Circuit());
+		synchronized (circuit) {
+			circuit.consecutiveFailures++;
+			circuit.lastError = error;
+			if (circuit.state == CircuitState.HALF_OPEN || circuit.consecutiveFailures >= failureThreshold) {
+				circuit.state = CircuitState.OPEN;
+				circuit.openedAt = System.currentTimeMillis();
+			}
+		}
+	}
+
+	/**
+	 * Opens the circuit of the command without waiting for failures, used for commands known to be unsupported.
+	 *
+	 * @param command the command to open
+	 * @param error the error reply the command is known to get
+	 */
+	public void open(String command, String error) {
+		Circuit circuit = circuits.computeIfAbsent(command, key -> new Circuit());
+		synchronized (circuit) {
+			circuit.state = CircuitState.OPEN;
+			circuit.lastError = error;
+			circuit.consecutiveFailures = Math.max(circuit.consecutiveFailures, failureThreshold);
+			circuit.openedAt = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Retrieves the state of the command circuit
+	 *
+	 * @param command the command to check
+	 * @return the state of the circuit
+	 */
+	public CircuitState getState(String command) {
+		Circuit circuit = circuits.get(command);
+		return circuit == null ? CircuitState.CLOSED : circuit.state;
+	}
+
+	/**
+	 * Retrieves the commands whose circuit is in the given state
+	 *
+	 * @param state the state of the circuit
+	 * @return sorted set of commands
+	 */
+	public Set<String> getCommands(CircuitState state) {
+		return circuits.entrySet().stream().filter(entry -> entry.getValue().state == state).map(Map.Entry::getKey)
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	/**
+	 * Retrieves the commands whose circuit is in the given state and whose last failure is the given error
+	 *
+	 * @param state the state of the circuit
+	 * @param error the last error of the command
+	 * @return sorted set of commands
+	 */
+	public Set<String> getCommands(CircuitState state, String error) {
+		return circuits.entrySet().stream().filter(entry -> entry.getValue().state == state && error.equals(entry.getValue().lastError)).map(Map.Entry::getKey)
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	/**
+	 * Retrieves the number of consecutive failures of every failing command
+	 *
+	 * @return sorted map of command and number of failures
+	 */
+	public Map<String, Integer> getFailureCounts() {
+		Map<String, Integer> result = new TreeMap<>();
+		circuits.forEach((command, circuit) -> result.put(command, circuit.consecutiveFailures));
+		return result;
+	}
+
+	/**
+	 * Retrieves the last error of the command
+	 *
+	 * @param command the command to check
+	 * @return the last error, or null if the command is not failing
+	 */
+	public String getLastError(String command) {
+		Circuit circuit = circuits.get(command);
+		return circuit == null ? null : circuit.lastError;
+	}
+
+	/**
+	 * Retrieves {@link #skippedRequests}
+	 *
+	 * @return value of {@link #skippedRequests}
+	 */
+	public long getSkippedRequests() {
+		return skippedRequests.get();
+	}
+
+	/**
+	 * Closes all circuits
+	 */
+	public void clear() {
+		circuits.clear();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+/**
+ * ConnectionHealthMonitor tracks consecutive command failures of the device session.
+ * Once the number of consecutive failures reaches the threshold the device is considered offline,
+ * and the monitor schedules recovery probes with an exponential backoff until a command succeeds again.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ConnectionHealthMonitor {
+
+	private final long initialBackoff;
+	private final long maxBackoff;
+	private int failureThreshold;
+	private int consecutiveFailures;
+	private boolean offline;
+	private long offlineSince;
+	private long currentBackoff;
+	private long nextProbeTime;
+	private long lastSuccessTime;
+
+	/**
+	 * ConnectionHealthMonitor constructor
+	 *
+	 * @param failureThreshold of {@link #failureThreshold}
+	 * @param initialBackoff of {@link #initialBackoff} in milliseconds
+	 * @param maxBackoff of {@link #maxBackoff} in milliseconds
+	 */
+	public ConnectionHealthMonitor(int failureThreshold, long initialBackoff, long maxBackoff) {
+		this.failureThreshold = failureThreshold;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.currentBackoff = initialBackoff;
+	}
+
+	/**
+	 * Sets {@link #failureThreshold} value
+	 *
+	 * @param failureThreshold new value of {@link #failureThreshold}
+	 */
+	public synchronized void setFailureThreshold(int failureThreshold) {
+		this.failureThreshold = failureThreshold;
+	}
+
+	/**
+	 * Records a successful command, the device is considered online again.
+	 */
+	public synchronized void recordSuccess() {
+		consecutiveFailures = 0;
+		offline = false;
+		currentBackoff = initialBackoff;
+		lastSuccessTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Records a failed command, the device is considered offline once the threshold is reached.
+	 *
+	 * @return true if the device is offline after this failure
+	 */
+	public synchronized boolean recordFailure() {
+		consecutiveFailures++;
+		if (!offline && consecutiveFailures >= failureThreshold) {
+			offline = true;
+			offlineSince = System.currentTimeMillis();
+			currentBackoff = initialBackoff;
+			nextProbeTime = offlineSince + currentBackoff;
+		}
+		return offline;
+	}
+
+	/**
+	 * Records a failed recovery probe and doubles the delay before the next one.
+	 */
+	public synchronized void recordProbeFailure() {
+		currentBackoff = Math.min(currentBackoff * 2, maxBackoff);
+		nextProbeTime = System.currentTimeMillis() + currentBackoff;
+	}
+
+	/**
+	 * Checks if the recovery probe is due
+	 *
+	 * @return true if the device is offline and the backoff delay has elapsed
+	 */
+	public synchronized boolean isProbeDue() {
+		return offline && System.currentTimeMillis() >= nextProbeTime;
+	}
+
+	/**
+	 * Retrieves {@link #offline}
+	 *
+	 * @return value of {@link #offline}
+	 */
+	public synchronized boolean isOffline() {
+		return offline;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #offlineSince}
+	 *
+	 * @return value of {@link #offlineSince}
+	 */
+	public synchronized long getOfflineSince() {
+		return offlineSince;
+	}
+
+	/**
+	 * Retrieves {@link #nextProbeTime}
+	 *
+	 * @return value of {@link #nextProbeTime}
+	 */
+	public synchronized long getNextProbeTime() {
+		return nextProbeTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastSuccessTime}
+	 *
+	 * @return value of {@link #lastSuccessTime}
+	 */
+	public synchronized long getLastSuccessTime() {
+		return lastSuccessTime;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+/**
+ * RebootMonitor tracks a reboot requested by the adapter.
+ * The device is left alone for an initial delay while it goes down, then it is probed with an exponential backoff
+ * until it accepts a session again. A reboot that doesn't complete within the timeout is given up.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RebootMonitor {
+
+	private final long initialDelay;
+	private final long initialBackoff;
+	private final long maxBackoff;
+	private final long timeout;
+	private boolean rebooting;
+	private long rebootTime;
+	private long currentBackoff;
+	private long nextProbeTime;
+
+	/**
+	 * RebootMonitor constructor
+	 *
+	 * @param initialDelay of {@link #initialDelay} in milliseconds
+	 * @param initialBackoff of {@link #initialBackoff} in milliseconds
+	 * @param maxBackoff of {@link #maxBackoff} in milliseconds
+	 * @param timeout of {@link #timeout} in milliseconds
+	 */
+	public RebootMonitor(long initialDelay, long initialBackoff, long maxBackoff, long timeout) {
+		this.initialDelay = initialDelay;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Starts tracking a reboot, the first probe is due after the initial delay.
+	 */
+	public synchronized void start() {
+		rebooting = true;
+		rebootTime = System.currentTimeMillis();
+		currentBackoff = initialBackoff;
+		nextProbeTime = rebootTime + initialDelay;
+	}
+
+	/**
+	 * Records a failed probe and doubles the delay before the next one.
+	 */
+	public synchronized void recordProbeFailure() {
+		nextProbeTime = System.currentTimeMillis() + currentBackoff;
+		currentBackoff = Math.min(currentBackoff * 2, maxBackoff);
+	}
+
+	/**
+	 * Completes the reboot, the device is back or the reboot was given up.
+	 */
+	public synchronized void complete() {
+		rebooting = false;
+	}
+
+	/**
+	 * Checks if the probe is due
+	 *
+	 * @return true if the device is rebooting and the backoff delay has elapsed
+	 */
+	public synchronized boolean isProbeDue() {
+		return rebooting && System.currentTimeMillis() >= nextProbeTime;
+	}
+
+	/**
+	 * Checks if the reboot takes longer than the timeout
+	 *
+	 * @return true if the device is rebooting for longer than {@link #timeout}
+	 */
+	public synchronized boolean isTimedOut() {
+		return rebooting && System.currentTimeMillis() - rebootTime > timeout;
+	}
+
+	/**
+	 * Retrieves {@link #rebooting}
+	 *
+	 * @return value of {@link #rebooting}
+	 */
+	public synchronized boolean isRebooting() {
+		return rebooting;
+	}
+
+	/**
+	 * Retrieves {@link #rebootTime}
+	 *
+	 * @return value of {@link #rebootTime}
+	 */
+	public synchronized long getRebootTime() {
+		return rebootTime;
+	}
+
+	/**
+	 * Retrieves {@link #nextProbeTime}
+	 *
+	 * @return value of {@link #nextProbeTime}
+	 */
+	public synchronized long getNextProbeTime() {
+		return nextProbeTime;
+	}
+}
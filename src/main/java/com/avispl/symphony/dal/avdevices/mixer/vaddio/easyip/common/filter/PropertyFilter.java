@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.filter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * PropertyFilter decides which property groups and audio channels are exposed and polled.
+ * Each entry of the filter is a case-insensitive prefix of a group or channel name, e.g. Dante matches every Dante input and output,
+ * VideoInput matches every camera and NetworkInformation matches the network group.
+ * When the include list is set only the matching groups are kept, the matching entries of the exclude list are always dropped.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PropertyFilter {
+
+	private final List<String> includes;
+	private final List<String> excludes;
+
+	/**
+	 * PropertyFilter constructor
+	 *
+	 * @param includes comma separated entries of {@link #includes}, may be null
+	 * @param excludes comma separated entries of {@link #excludes}, may be null
+	 */
+	public PropertyFilter(String includes, String excludes) {
+		this.includes = parse(includes);
+		this.excludes = parse(excludes);
+	}
+
+	/**
+	 * Checks if the group or channel is kept by the include and exclude lists
+	 *
+	 * @param name the name of the group or channel, a trailing # is ignored
+	 * @return true if the group or channel is exposed and polled
+	 */
+	public boolean isIncluded(String name) {
+		String value = normalize(name);
+		return (includes.isEmpty() || matches(includes, value)) && !matches(excludes, value);
+	}
+
+	/**
+	 * Checks if the feature is dropped by the exclude list, the include list doesn't apply to the features of a group
+	 *
+	 * @param name the name of the feature
+	 * @return true if the feature is excluded
+	 */
+	public boolean isExcluded(String name) {
+		return matches(excludes, normalize(name));
+	}
+
+	/**
+	 * Checks if the filter keeps every group
+	 *
+	 * @return true if both lists are empty
+	 */
+	public boolean isEmpty() {
+		return includes.isEmpty() && excludes.isEmpty();
+	}
+
+	/**
+	 * Checks if the name starts with one of the entries
+	 *
+	 * @param entries the entries of the filter
+	 * @param name the normalized name
+	 * @return true if an entry matches
+	 */
+	private static boolean matches(List<String> entries, String name) {
+		return entries.stream().anyMatch(name::startsWith);
+	}
+
+	/**
+	 * Converts the name to the format of the entries
+	 *
+	 * @param name the name of the group or channel
+	 * @return the lower-case name without the trailing #
+	 */
+	private static String normalize(String name) {
+		String value = name.endsWith("#") ? name.substring(0, name.length() - 1) : name;
+		return value.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Parses the comma separated entries
+	 *
+	 * @param value the entries imported from the user interface
+	 * @return the lower-case entries
+	 */
+	private static List<String> parse(String value) {
+		if (value == null || value.trim().isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).map(PropertyFilter::normalize).collect(Collectors.toList());
+	}
+}
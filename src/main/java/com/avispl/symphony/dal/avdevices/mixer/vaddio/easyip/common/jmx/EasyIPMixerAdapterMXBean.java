@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.jmx;
+
+import java.util.Map;
+
+/**
+ * EasyIPMixerAdapterMXBean exposes the internals of a running adapter instance and its live tuning knobs over JMX.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface EasyIPMixerAdapterMXBean {
+
+	/**
+	 * Retrieves the host of the device
+	 *
+	 * @return host of the device
+	 */
+	String getHost();
+
+	/**
+	 * Retrieves the number of cached key/value pairs
+	 *
+	 * @return size of the cache
+	 */
+	int getCacheSize();
+
+	/**
+	 * Retrieves the age of every cached key/value pair
+	 *
+	 * @return map of property name and age in milliseconds
+	 */
+	Map<String, Long> getCacheEntryAges();
+
+	/**
+	 * Retrieves the polling interval the next cycle runs
+	 *
+	 * @return current polling interval
+	 */
+	int getCurrentPollingInterval();
+
+	/**
+	 * Retrieves the number of polling intervals of a full sweep
+	 *
+	 * @return number of polling intervals
+	 */
+	int getNumOfPollingInterval();
+
+	/**
+	 * Retrieves the 95th percentile of the time spent waiting for the device lock
+	 *
+	 * @return lock wait time in milliseconds
+	 */
+	long getLockWaitP95Millis();
+
+	/**
+	 * Retrieves the 95th percentile of the time the device lock is held
+	 *
+	 * @return lock hold time in milliseconds
+	 */
+	long getLockHoldP95Millis();
+
+	/**
+	 * Retrieves the longest time the device lock was held
+	 *
+	 * @return lock hold time in milliseconds
+	 */
+	long getLockHoldMaxMillis();
+
+	/**
+	 * Retrieves the number of threads waiting for the device lock
+	 *
+	 * @return length of the lock queue
+	 */
+	int getLockQueueLength();
+
+	/**
+	 * Retrieves the number of tasks waiting in the serial lane of the device
+	 *
+	 * @return depth of the lane
+	 */
+	int getExecutorQueueDepth();
+
+	/**
+	 * Retrieves the number of tasks running on the scheduler shared by all adapter instances
+	 *
+	 * @return number of running tasks
+	 */
+	int getSchedulerActiveTasks();
+
+	/**
+	 * Retrieves the number of devices waiting for a free slot of the shared scheduler
+	 *
+	 * @return number of ready lanes
+	 */
+	int getSchedulerReadyLanes();
+
+	/**
+	 * Retrieves the duration of the last monitoring cycle
+	 *
+	 * @return cycle duration in milliseconds
+	 */
+	long getLastCycleDurationMillis();
+
+	/**
+	 * Retrieves the number of consecutive failures of every failing command
+	 *
+	 * @return map of command and number of failures
+	 */
+	Map<String, Integer> getFailedCommandCounts();
+
+	/**
+	 * Retrieves the maximum time spent waiting for the device session per command priority
+	 *
+	 * @return map of priority and maximum wait in milliseconds
+	 */
+	Map<String, Long> getCommandGateMaxWaitMillis();
+
+	/**
+	 * Retrieves the number of controls acknowledged without sending the command
+	 *
+	 * @return number of suppressed controls
+	 */
+	long getSuppressedControlCount();
+
+	/**
+	 * Retrieves the number of read-backs that didn't match the value written by the control
+	 *
+	 * @return number of read-back mismatches
+	 */
+	long getReadBackMismatchCount();
+
+	/**
+	 * Retrieves the number of SSH sessions opened after the first one
+	 *
+	 * @return number of reconnects
+	 */
+	long getSshReconnectCount();
+
+	/**
+	 * Retrieves the connection state of the device
+	 *
+	 * @return Online, Offline or Rebooting
+	 */
+	String getConnectionState();
+
+	/**
+	 * Retrieves the refresh period of every polling group, in polling sweeps
+	 *
+	 * @return map of group name and refresh period
+	 */
+	Map<String, Integer> getGroupRefreshPeriods();
+
+	/**
+	 * Checks if the spans of the monitoring cycles are recorded
+	 *
+	 * @return true if the poll tracing is enabled
+	 */
+	boolean isPollTracingEnabled();
+
+	/**
+	 * Retrieves the number of spans kept in the trace buffer
+	 *
+	 * @return number of spans
+	 */
+	int getTraceSpanCount();
+
+	/**
+	 * Exports the trace buffer in the Chrome trace event format
+	 *
+	 * @param file path of the trace file, or empty to write it next to the state files of the device
+	 * @return absolute path of the written file
+	 */
+	String exportPollTrace(String file);
+
+	/**
+	 * Applies a configured scene
+	 *
+	 * @param name the name of the scene
+	 * @return the number of applied, unchanged and failed steps
+	 */
+	String applyScene(String name);
+
+	/**
+	 * Reconciles the configured desired state now, only the settings that drifted are written
+	 *
+	 * @return the number of written, unchanged and failed settings
+	 */
+	String reconcileDesiredState();
+
+	/**
+	 * Retrieves the number of settings written by the reconciliations of the desired state
+	 *
+	 * @return number of written settings
+	 */
+	long getReconciledWriteCount();
+
+	/**
+	 * Requests the next monitoring cycle to retrieve every polling interval
+	 */
+	void forceFullRefresh();
+
+	/**
+	 * Clears the cached device data and requests a full refresh
+	 */
+	void flushCaches();
+
+	/**
+	 * Changes the refresh period of a polling group
+	 *
+	 * @param group name of the polling group
+	 * @param period number of polling sweeps between two refreshes of the group, 1 refreshes it on every sweep
+	 */
+	void setGroupRefreshPeriod(String group, int period);
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AdapterMetrics keeps the latency histograms of the adapter: one per command category and one per polling phase.
+ * Recording is lock-free, so it can be called on the hot path of every command.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdapterMetrics {
+	public static final String GROUP = "AdapterMetrics#";
+	private static final String COMMAND_PREFIX = "Command";
+
+	private final Map<CommandCategory, LatencyHistogram> commandHistograms = new EnumMap<>(CommandCategory.class);
+	private final Map<PollingPhase, LatencyHistogram> phaseHistograms = new EnumMap<>(PollingPhase.class);
+	private final AtomicLong recentLatencyNanos = new AtomicLong();
+	private volatile long lastCommandTime;
+
+	/**
+	 * AdapterMetrics constructor
+	 */
+	public AdapterMetrics() {
+		for (CommandCategory category : CommandCategory.values()) {
+			commandHistograms.put(category, new LatencyHistogram());
+		}
+		for (PollingPhase phase : PollingPhase.values()) {
+			phaseHistograms.put(phase, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Records the round trip time of a command
+	 *
+	 * @param command the command sent to the device
+	 * @param nanos the round trip time in nanoseconds
+	 */
+	public void recordCommand(String command, long nanos) {
+		commandHistograms.get(CommandCategory.getByCommand(command)).record(nanos);
+		recentLatencyNanos.updateAndGet(previous -> previous == 0 ? nanos : previous + (nanos - previous) / 5);
+		lastCommandTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Retrieves the exponentially weighted average of the recent command round trip times
+	 *
+	 * @return the recent latency in milliseconds, 0 if no command was recorded
+	 */
+	public long getRecentLatency() {
+		return recentLatencyNanos.get() / 1000000;
+	}
+
+	/**
+	 * Retrieves {@link #lastCommandTime}
+	 *
+	 * @return value of {@link #lastCommandTime}
+	 */
+	public long getLastCommandTime() {
+		return lastCommandTime;
+	}
+
+	/**
+	 * Records a failed command
+	 *
+	 * @param command the command sent to the device
+	 */
+	public void recordCommandError(String command) {
+		commandHistograms.get(CommandCategory.getByCommand(command)).recordError();
+	}
+
+	/**
+	 * Records the duration of a phase
+	 *
+	 * @param phase the measured phase
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void recordPhase(PollingPhase phase, long nanos) {
+		phaseHistograms.get(phase).record(nanos);
+	}
+
+	/**
+	 * Records an error of a phase
+	 *
+	 * @param phase the failed phase
+	 */
+	public void recordPhaseError(PollingPhase phase) {
+		phaseHistograms.get(phase).recordError();
+	}
+
+	/**
+	 * Retrieves the histogram of a command category
+	 *
+	 * @param category the command category
+	 * @return the histogram of the category
+	 */
+	public LatencyHistogram getCommandHistogram(CommandCategory category) {
+		return commandHistograms.get(category);
+	}
+
+	/**
+	 * Retrieves the histogram of a phase
+	 *
+	 * @param phase the measured phase
+	 * @return the histogram of the phase
+	 */
+	public LatencyHistogram getPhaseHistogram(PollingPhase phase) {
+		return phaseHistograms.get(phase);
+	}
+
+	/**
+	 * Retrieves the total number of failed commands
+	 *
+	 * @return number of failed commands
+	 */
+	public long getCommandErrors() {
+		return commandHistograms.values().stream().mapToLong(LatencyHistogram::getErrors).sum();
+	}
+
+	/**
+	 * Populates the metrics of every phase and command category that recorded at least one sample
+	 *
+	 * @param stats the statistics to be populated with the metrics
+	 */
+	public void populate(Map<String, String> stats) {
+		for (Map.Entry<PollingPhase, LatencyHistogram> entry : phaseHistograms.entrySet()) {
+			populateHistogram(stats, entry.getKey().getName(), entry.getValue());
+		}
+		for (Map.Entry<CommandCategory, LatencyHistogram> entry : commandHistograms.entrySet()) {
+			populateHistogram(stats, COMMAND_PREFIX + entry.getKey().getName(), entry.getValue());
+		}
+		stats.put(GROUP + "CycleDuration(ms)", String.valueOf(phaseHistograms.get(PollingPhase.CYCLE).getLast()));
+		stats.put(GROUP + "CommandErrors", String.valueOf(getCommandErrors()));
+	}
+
+	/**
+	 * Populates the percentiles, count and errors of a histogram
+	 *
+	 * @param stats the statistics to be populated
+	 * @param name the name of the histogram
+	 * @param histogram the histogram
+	 */
+	private void populateHistogram(Map<String, String> stats, String name, LatencyHistogram histogram) {
+		if (histogram.getCount() == 0 && histogram.getErrors() == 0) {
+			return;
+		}
+		stats.put(GROUP + name + "P50(ms)", String.valueOf(histogram.getPercentile(50)));
+		stats.put(GROUP + name + "P95(ms)", String.valueOf(histogram.getPercentile(95)));
+		stats.put(GROUP + name + "P99(ms)", String.valueOf(histogram.getPercentile(99)));
+		stats.put(GROUP + name + "Count", String.valueOf(histogram.getCount()));
+		stats.put(GROUP + name + "Errors", String.valueOf(histogram.getErrors()));
+	}
+
+	/**
+	 * Clears all histograms
+	 */
+	public void reset() {
+		commandHistograms.values().forEach(LatencyHistogram::reset);
+		phaseHistograms.values().forEach(LatencyHistogram::reset);
+	}
+}
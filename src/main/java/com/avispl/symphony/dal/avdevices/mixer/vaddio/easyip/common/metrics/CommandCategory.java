@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Enumeration representing the categories of device commands used to group the latency metrics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum CommandCategory {
+	AUDIO_MASTER_MUTE("AudioMasterMute", "^audio master mute"),
+	AUDIO_MUTE("AudioMute", "^audio \\S+ mute"),
+	AUDIO_VOLUME("AudioVolume", "^audio \\S+ volume"),
+	AUDIO_ROUTE("AudioRoute", "^audio \\S+ route"),
+	CROSSPOINT_GAIN("CrosspointGain", "^audio \\S+ crosspoint-gain"),
+	CAMERA_HOST("CameraHost", "^camera \\S+ comm host"),
+	CAMERA_CCU("CameraCCU", "^camera \\S+ ccu"),
+	CAMERA_POSITION("CameraPosition", "^camera \\S+ (pan|tilt|zoom)"),
+	CAMERA_OTHER("Camera", "^camera "),
+	VIDEO("Video", "^video "),
+	SYSTEM("System", "^system "),
+	NETWORK("Network", "^network "),
+	VERSION("Version", "^version"),
+	STREAMING("Streaming", "^streaming "),
+	OTHER("Other", ""),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 * @param regex of {@link #pattern}
+	 */
+	CommandCategory(String name, String regex) {
+		this.name = name;
+		this.pattern = Pattern.compile(regex);
+	}
+
+	private final String name;
+	private final Pattern pattern;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the category of the command
+	 *
+	 * @param command the command sent to the device
+	 * @return the first matching category, or {@link #OTHER} if none matches
+	 */
+	public static CommandCategory getByCommand(String command) {
+		String trimmedCommand = command.trim();
+		return Arrays.stream(CommandCategory.values())
+				.filter(category -> category != OTHER && category.pattern.matcher(trimmedCommand).find())
+				.findFirst()
+				.orElse(OTHER);
+	}
+}
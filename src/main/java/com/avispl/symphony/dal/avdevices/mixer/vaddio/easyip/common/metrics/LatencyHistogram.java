@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram is a lock-free latency histogram with fixed millisecond buckets.
+ * Percentiles are reported as the upper bound of the bucket holding the requested rank.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Upper bounds of the buckets in milliseconds, the last bucket holds everything above the last bound
+	 */
+	private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000 };
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLong lastNanos = new AtomicLong();
+
+	/**
+	 * Records a sample
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		long millis = nanos / 1000000;
+		int index = 0;
+		while (index < BUCKET_BOUNDS.length && millis > BUCKET_BOUNDS[index]) {
+			index++;
+		}
+		buckets.incrementAndGet(index);
+		count.increment();
+		totalNanos.add(nanos);
+		lastNanos.set(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * Records an error
+	 */
+	public void recordError() {
+		errors.increment();
+	}
+
+	/**
+	 * Retrieves the percentile of the recorded samples
+	 *
+	 * @param percentile the percentile between 0 and 100
+	 * @return the upper bound of the bucket in milliseconds, the maximum for the overflow bucket, or 0 if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		long total = 0;
+		long[] snapshot = new long[buckets.length()];
+		for (int i = 0; i < snapshot.length; i++) {
+			snapshot[i] = buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(total * percentile / 100);
+		long cumulative = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			cumulative += snapshot[i];
+			if (cumulative >= rank) {
+				return i < BUCKET_BOUNDS.length ? Math.min(BUCKET_BOUNDS[i], getMax()) : getMax();
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Retrieves the number of recorded samples
+	 *
+	 * @return number of samples
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Retrieves the number of recorded errors
+	 *
+	 * @return number of errors
+	 */
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	/**
+	 * Retrieves the average of the recorded samples
+	 *
+	 * @return the average in milliseconds
+	 */
+	public long getAverage() {
+		long samples = count.sum();
+		return samples == 0 ? 0 : totalNanos.sum() / samples / 1000000;
+	}
+
+	/**
+	 * Retrieves the maximum of the recorded samples
+	 *
+	 * @return the maximum in milliseconds
+	 */
+	public long getMax() {
+		return maxNanos.get() / 1000000;
+	}
+
+	/**
+	 * Retrieves the last recorded sample
+	 *
+	 * @return the last sample in milliseconds
+	 */
+	public long getLast() {
+		return lastNanos.get() / 1000000;
+	}
+
+	/**
+	 * Clears the recorded samples and errors
+	 */
+	public void reset() {
+		for (int i = 0; i < buckets.length(); i++) {
+			buckets.set(i, 0);
+		}
+		count.reset();
+		errors.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+		lastNanos.set(0);
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics;
+
+/**
+ * Enumeration representing the measured phases of the monitoring cycle and the control path.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PollingPhase {
+	GET_NUMBER_CAMERA("GetNumberCamera"),
+	RETRIEVE_MONITORING("RetrieveMonitoring"),
+	RETRIEVE_CAMERA_POSITION("RetrieveCameraPosition"),
+	RETRIEVE_ENABLED_ROUTE("RetrieveEnabledRoute"),
+	RETRIEVE_AUDIO_VOLUME("RetrieveAudioVolume"),
+	RETRIEVE_CROSSPOINT_GAIN("RetrieveCrossPointGain"),
+	POPULATE_DATA("PopulateData"),
+	CYCLE("Cycle"),
+	LOCK_WAIT("LockWait"),
+	LOCK_HOLD("LockHold"),
+	CONTROL_ROUND_TRIP("ControlRoundTrip"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	PollingPhase(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
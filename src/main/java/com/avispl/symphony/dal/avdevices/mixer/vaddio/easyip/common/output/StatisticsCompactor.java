@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.output;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerConstant;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerProperty;
+
+/**
+ * StatisticsCompactor reduces the statistics published to Symphony. The CurrentValue statistics that duplicate a slider are dropped,
+ * the long group prefixes are replaced by short aliases, and a statistic that doesn't back a control is only published again
+ * once its value changes or the republish interval has elapsed since it was last published.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class StatisticsCompactor {
+
+	private static final String HASH = "#";
+	private static final List<String> DUPLICATE_SUFFIXES = Arrays.asList(EasyIPMixerConstant.GAIN_CURRENT_VALUE, EasyIPMixerConstant.VOLUME_CURRENT_VALUE,
+			EasyIPMixerConstant.IRIS_CURRENT_VALUE, EasyIPMixerConstant.RED_GAIN_CURRENT_VALUE, EasyIPMixerConstant.BLUE_GAIN_CURRENT_VALUE,
+			getCurrentValueName(EasyIPMixerProperty.GAMMA), getCurrentValueName(EasyIPMixerProperty.CHROMA), getCurrentValueName(EasyIPMixerProperty.DETAIL));
+	private static final Map<String, String> GROUP_ALIASES = new LinkedHashMap<>();
+
+	static {
+		GROUP_ALIASES.put("Crosspoint", "XP");
+		GROUP_ALIASES.put("VideoInput", "VI");
+		GROUP_ALIASES.put("AdapterDiagnostics", "Diag");
+	}
+
+	private final Map<String, String> publishedValues = new HashMap<>();
+	private final Map<String, Long> publishTimes = new HashMap<>();
+	private long republishInterval;
+	private int lastPayloadSize;
+	private int lastFullPayloadSize;
+
+	/**
+	 * StatisticsCompactor constructor
+	 *
+	 * @param republishInterval of {@link #republishInterval} in milliseconds
+	 */
+	public StatisticsCompactor(long republishInterval) {
+		this.republishInterval = republishInterval;
+	}
+
+	/**
+	 * Sets {@link #republishInterval} value
+	 *
+	 * @param republishInterval new value of {@link #republishInterval} in milliseconds
+	 */
+	public synchronized void setRepublishInterval(long republishInterval) {
+		this.republishInterval = republishInterval;
+	}
+
+	/**
+	 * Builds the compact copy of the statistics, the statistics given are left untouched.
+	 *
+	 * @param statistics the full statistics and controllable properties
+	 * @param isSuppressUnchanged if true the unchanged statistics that were published recently are left out
+	 * @return the compact statistics and controllable properties
+	 */
+	public synchronized ExtendedStatistics compact(ExtendedStatistics statistics, boolean isSuppressUnchanged) {
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		Set<String> controlNames = new HashSet<>();
+		if (statistics.getControllableProperties() != null) {
+			for (AdvancedControllableProperty control : statistics.getControllableProperties()) {
+				String name = compactName(control.getName());
+				controlNames.add(name);
+				controls.add(new AdvancedControllableProperty(name, control.getTimestamp(), control.getType(), control.getValue()));
+			}
+		}
+		Map<String, String> stats = new HashMap<>();
+		long now = System.currentTimeMillis();
+		if (statistics.getStatistics() != null) {
+			for (Map.Entry<String, String> entry : statistics.getStatistics().entrySet()) {
+				if (isDuplicate(entry.getKey())) {
+					continue;
+				}
+				String name = compactName(entry.getKey());
+				Long publishTime = publishTimes.get(name);
+				if (isSuppressUnchanged && !controlNames.contains(name) && publishTime != null && now - publishTime < republishInterval
+						&& entry.getValue() != null && entry.getValue().equals(publishedValues.get(name))) {
+					continue;
+				}
+				stats.put(name, entry.getValue());
+				publishedValues.put(name, entry.getValue());
+				publishTimes.put(name, now);
+			}
+		}
+		ExtendedStatistics compactStatistics = new ExtendedStatistics();
+		compactStatistics.setStatistics(stats);
+		compactStatistics.setControllableProperties(controls);
+		lastFullPayloadSize = getPayloadSize(statistics);
+		lastPayloadSize = getPayloadSize(compactStatistics);
+		return compactStatistics;
+	}
+
+	/**
+	 * Forgets the published values, the next compact statistics contain every statistic.
+	 */
+	public synchronized void reset() {
+		publishedValues.clear();
+		publishTimes.clear();
+	}
+
+	/**
+	 * Retrieves {@link #lastPayloadSize}
+	 *
+	 * @return value of {@link #lastPayloadSize} in bytes
+	 */
+	public synchronized int getLastPayloadSize() {
+		return lastPayloadSize;
+	}
+
+	/**
+	 * Retrieves {@link #lastFullPayloadSize}
+	 *
+	 * @return value of {@link #lastFullPayloadSize} in bytes
+	 */
+	public synchronized int getLastFullPayloadSize() {
+		return lastFullPayloadSize;
+	}
+
+	/**
+	 * Checks if the statistic duplicates the value of a slider: the audio gain and volume, the camera gain and iris,
+	 * and the color settings of the cameras.
+	 *
+	 * @param name the name of the statistic
+	 * @return true if the statistic is the CurrentValue statistic of a slider
+	 */
+	public static boolean isDuplicate(String name) {
+		int index = name.indexOf(HASH);
+		if (index < 0) {
+			return false;
+		}
+		String property = name.substring(index + 1);
+		return DUPLICATE_SUFFIXES.stream().anyMatch(property::endsWith);
+	}
+
+	/**
+	 * Retrieves the name of the CurrentValue statistic of a camera color slider
+	 *
+	 * @param property the color property of the camera
+	 * @return the name of the statistic, without group
+	 */
+	private static String getCurrentValueName(EasyIPMixerProperty property) {
+		return property.getName().replace(EasyIPMixerConstant.SHARPNESS, EasyIPMixerConstant.EMPTY).replace(EasyIPMixerConstant.SATURATION, EasyIPMixerConstant.EMPTY)
+				+ EasyIPMixerConstant.CURRENT_VALUE;
+	}
+
+	/**
+	 * Replaces the group prefix of the property name by its short alias
+	 *
+	 * @param name the full property name
+	 * @return the compact property name, or the name itself if its group has no alias
+	 */
+	public static String compactName(String name) {
+		int index = name.indexOf(HASH);
+		if (index < 0) {
+			return name;
+		}
+		for (Map.Entry<String, String> alias : GROUP_ALIASES.entrySet()) {
+			if (name.startsWith(alias.getKey())) {
+				return alias.getValue() + name.substring(alias.getKey().length());
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * Restores the group prefix of a compact property name
+	 *
+	 * @param name the compact or full property name
+	 * @return the full property name
+	 */
+	public static String expandName(String name) {
+		int index = name.indexOf(HASH);
+		if (index < 0) {
+			return name;
+		}
+		for (Map.Entry<String, String> alias : GROUP_ALIASES.entrySet()) {
+			if (name.startsWith(alias.getValue()) && !name.startsWith(alias.getKey())) {
+				return alias.getKey() + name.substring(alias.getValue().length());
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * Calculates the size of the names and values of the statistics and controllable properties
+	 *
+	 * @param statistics the statistics and controllable properties
+	 * @return the size of the payload in bytes
+	 */
+	public static int getPayloadSize(ExtendedStatistics statistics) {
+		int size = 0;
+		if (statistics.getStatistics() != null) {
+			for (Map.Entry<String, String> entry : statistics.getStatistics().entrySet()) {
+				size += getSize(entry.getKey()) + getSize(entry.getValue());
+			}
+		}
+		if (statistics.getControllableProperties() != null) {
+			for (AdvancedControllableProperty control : statistics.getControllableProperties()) {
+				size += getSize(control.getName()) + getSize(control.getValue() == null ? null : String.valueOf(control.getValue()));
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Calculates the size of the text
+	 *
+	 * @param text the text
+	 * @return the size of the text in bytes, 0 if the text is null
+	 */
+	private static int getSize(String text) {
+		return text == null ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+	}
+}
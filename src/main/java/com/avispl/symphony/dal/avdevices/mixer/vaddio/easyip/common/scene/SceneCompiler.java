@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.EasyIPMixerConstant;
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.audio.AudioInput;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * SceneCompiler compiles the settings of a scene into the ordered steps applied to the device, and reverts the applied steps.
+ * The route settings of an audio output are merged into one step holding the complete route list of the output,
+ * so the routes of an output are written once whatever the number of inputs the scene changes.
+ * The device is reached through {@link SceneTarget}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SceneCompiler {
+
+	/**
+	 * SceneTarget is the device the scene is applied to
+	 */
+	public interface SceneTarget {
+
+		/**
+		 * Retrieves the order of the step applying the property
+		 *
+		 * @param group the group of the property
+		 * @param propertyKey the name of the property
+		 * @param value the target value of the property
+		 * @return the order of the step
+		 */
+		SceneStepOrder getStepOrder(String group, String propertyKey, String value);
+
+		/**
+		 * Retrieves the current value of the control, in the format the control accepts
+		 *
+		 * @param property the name of the control
+		 * @return the current value, or null if the control has no value to revert to
+		 */
+		String getControlValue(String property);
+
+		/**
+		 * Retrieves the current routes of an audio output
+		 *
+		 * @param localName the cache key of the routes of the output
+		 * @return the audio inputs routed to the output separated by spaces, or null if the routes can't be read
+		 * @throws Exception if the routes can't be read
+		 */
+		String getRoutes(String localName) throws Exception;
+
+		/**
+		 * Reverts an applied step to its prior value
+		 *
+		 * @param step the step to revert
+		 * @throws Exception if the control fails or isn't acknowledged by the device
+		 */
+		void revertStep(SceneStep step) throws Exception;
+	}
+
+	private final SceneTarget target;
+
+	/**
+	 * SceneCompiler constructor
+	 *
+	 * @param target of {@link #target}
+	 */
+	public SceneCompiler(SceneTarget target) {
+		this.target = target;
+	}
+
+	/**
+	 * Compiles the settings of the scene into the ordered steps, the current value of every control is captured as the prior value of its step
+	 *
+	 * @param scene the scene to compile
+	 * @return the steps of the scene, in the order they are applied
+	 * @throws Exception if the current routes of an output can't be read
+	 */
+	public List<SceneStep> compile(SceneDefinition scene) throws Exception {
+		List<SceneStep> steps = new ArrayList<>();
+		Map<String, Map<String, String>> routeSettings = new LinkedHashMap<>();
+		for (Map.Entry<String, String> setting : scene.getSettings().entrySet()) {
+			String property = setting.getKey();
+			String group = property.contains(EasyIPMixerConstant.HASH) ? property.split(EasyIPMixerConstant.HASH)[0] : EasyIPMixerConstant.EMPTY;
+			String propertyKey = property.substring(property.indexOf(EasyIPMixerConstant.HASH) + 1);
+			if ((EasyIPMixerConstant.SCENE_GROUP + EasyIPMixerConstant.APPLY_SCENE).equals(property)) {
+				throw new IllegalArgumentException(String.format("Can't apply %s, a scene can't apply another scene", scene.getName()));
+			}
+			if (group.contains(EasyIPMixerConstant.CROSSPOINT) && propertyKey.contains(EasyIPMixerConstant.ROUTE)) {
+				String localName = group + EasyIPMixerConstant.HASH + group.replace(EasyIPMixerConstant.CROSSPOINT, EasyIPMixerConstant.EMPTY);
+				routeSettings.computeIfAbsent(localName, key -> new LinkedHashMap<>()).put(property, setting.getValue());
+				continue;
+			}
+			SceneStep step = new SceneStep(target.getStepOrder(group, propertyKey, setting.getValue()), property, setting.getValue(), Collections.singletonMap(property, setting.getValue()));
+			step.setPriorValue(target.getControlValue(property));
+			steps.add(step);
+		}
+		for (Map.Entry<String, Map<String, String>> output : routeSettings.entrySet()) {
+			String localName = output.getKey();
+			String currentRoutes = target.getRoutes(localName);
+			if (currentRoutes == null) {
+				throw new IllegalStateException(String.format("Can't apply scene %s, the routes of %s can't be read", scene.getName(), localName));
+			}
+			List<String> routes = Arrays.stream(currentRoutes.split(EasyIPMixerConstant.SPACE)).filter(StringUtils::isNotNullOrEmpty).collect(Collectors.toList());
+			String priorRoutes = String.join(EasyIPMixerConstant.SPACE, routes);
+			for (Map.Entry<String, String> setting : output.getValue().entrySet()) {
+				String inputValue = getRouteInput(setting.getKey());
+				if (EasyIPMixerConstant.NUMBER_ONE.equals(setting.getValue()) && !routes.contains(inputValue)) {
+					routes.add(inputValue);
+				} else if (EasyIPMixerConstant.ZERO.equals(setting.getValue())) {
+					routes.remove(inputValue);
+				}
+			}
+			SceneStep step = new SceneStep(SceneStepOrder.CROSSPOINT_ROUTE, localName, String.join(EasyIPMixerConstant.SPACE, routes), output.getValue());
+			step.setPriorValue(priorRoutes);
+			steps.add(step);
+		}
+		steps.sort(Comparator.comparing(SceneStep::getOrder));
+		return steps;
+	}
+
+	/**
+	 * Reverts the applied steps of the scene in reverse order, to the values captured before the scene.
+	 * A step that can't be reverted stays applied, with the failure as its message.
+	 *
+	 * @param steps the steps of the scene
+	 */
+	public void rollback(List<SceneStep> steps) {
+		for (int i = steps.size() - 1; i >= 0; i--) {
+			SceneStep step = steps.get(i);
+			if (!SceneStepStatus.APPLIED.equals(step.getStatus()) || step.getPriorValue() == null) {
+				continue;
+			}
+			try {
+				target.revertStep(step);
+				step.setResult(SceneStepStatus.ROLLED_BACK, null);
+			} catch (Exception e) {
+				step.setResult(SceneStepStatus.APPLIED, String.format("Can't revert: %s", e.getMessage()));
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the audio input of a route setting
+	 *
+	 * @param property the name of the route setting, e.g. CrosspointOutput1#LineMic1Route
+	 * @return the value of the audio input
+	 */
+	public static String getRouteInput(String property) {
+		return AudioInput.getValueByName(property.split(EasyIPMixerConstant.HASH)[1].replace(EasyIPMixerConstant.ROUTE, EasyIPMixerConstant.EMPTY));
+	}
+}
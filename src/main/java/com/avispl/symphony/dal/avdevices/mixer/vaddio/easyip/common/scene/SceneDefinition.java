@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SceneDefinition is a named set of target values of controllable properties, e.g. the state of a room mode.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SceneDefinition {
+
+	private final String name;
+	private final Map<String, String> settings;
+
+	/**
+	 * SceneDefinition constructor
+	 *
+	 * @param name of {@link #name}
+	 * @param settings of {@link #settings}, map of property name and target value
+	 */
+	public SceneDefinition(String name, Map<String, String> settings) {
+		this.name = name;
+		this.settings = Collections.unmodifiableMap(new LinkedHashMap<>(settings));
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #settings}
+	 *
+	 * @return map of property name and target value, in the order they were defined
+	 */
+	public Map<String, String> getSettings() {
+		return settings;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SceneResult is the report of a scene run: the result of every step and the duration of the run.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SceneResult {
+
+	private final String name;
+	private final List<SceneStep> steps;
+	private final long duration;
+	private final boolean rolledBack;
+
+	/**
+	 * SceneResult constructor
+	 *
+	 * @param name of {@link #name}
+	 * @param steps of {@link #steps}
+	 * @param duration of {@link #duration} in milliseconds
+	 * @param rolledBack of {@link #rolledBack}
+	 */
+	public SceneResult(String name, List<SceneStep> steps, long duration, boolean rolledBack) {
+		this.name = name;
+		this.steps = Collections.unmodifiableList(steps);
+		this.duration = duration;
+		this.rolledBack = rolledBack;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #steps}
+	 *
+	 * @return value of {@link #steps}
+	 */
+	public List<SceneStep> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Retrieves {@link #duration}
+	 *
+	 * @return value of {@link #duration} in milliseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Retrieves {@link #rolledBack}
+	 *
+	 * @return value of {@link #rolledBack}
+	 */
+	public boolean isRolledBack() {
+		return rolledBack;
+	}
+
+	/**
+	 * Retrieves the number of steps with the given status
+	 *
+	 * @param status the status to count
+	 * @return number of steps
+	 */
+	public long count(SceneStepStatus status) {
+		return steps.stream().filter(step -> step.getStatus() == status).count();
+	}
+
+	/**
+	 * Retrieves the summary of the run
+	 *
+	 * @return number of applied, unchanged and failed steps
+	 */
+	public String getSummary() {
+		String summary = String.format("%s applied, %s unchanged, %s failed", count(SceneStepStatus.APPLIED), count(SceneStepStatus.UNCHANGED), count(SceneStepStatus.FAILED));
+		return rolledBack ? summary + ", rolled back" : summary;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SceneStep is a single command of a compiled scene. A step usually applies one property, the route changes of an audio output
+ * are merged into one step that sets the complete route list of the output.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SceneStep {
+
+	private final SceneStepOrder order;
+	private final String property;
+	private final String value;
+	private final Map<String, String> mergedSettings;
+	private String priorValue;
+	private SceneStepStatus status = SceneStepStatus.SKIPPED;
+	private String message;
+
+	/**
+	 * SceneStep constructor
+	 *
+	 * @param order of {@link #order}
+	 * @param property of {@link #property}
+	 * @param value of {@link #value}
+	 * @param mergedSettings of {@link #mergedSettings}, the settings applied by this step
+	 */
+	public SceneStep(SceneStepOrder order, String property, String value, Map<String, String> mergedSettings) {
+		this.order = order;
+		this.property = property;
+		this.value = value;
+		this.mergedSettings = Collections.unmodifiableMap(new LinkedHashMap<>(mergedSettings));
+	}
+
+	/**
+	 * Retrieves {@link #order}
+	 *
+	 * @return value of {@link #order}
+	 */
+	public SceneStepOrder getOrder() {
+		return order;
+	}
+
+	/**
+	 * Retrieves {@link #property}
+	 *
+	 * @return value of {@link #property}
+	 */
+	public String getProperty() {
+		return property;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #mergedSettings}
+	 *
+	 * @return map of property name and target value applied by this step
+	 */
+	public Map<String, String> getMergedSettings() {
+		return mergedSettings;
+	}
+
+	/**
+	 * Retrieves {@link #priorValue}
+	 *
+	 * @return value of {@link #priorValue}
+	 */
+	public String getPriorValue() {
+		return priorValue;
+	}
+
+	/**
+	 * Sets {@link #priorValue} value
+	 *
+	 * @param priorValue new value of {@link #priorValue}
+	 */
+	public void setPriorValue(String priorValue) {
+		this.priorValue = priorValue;
+	}
+
+	/**
+	 * Retrieves {@link #status}
+	 *
+	 * @return value of {@link #status}
+	 */
+	public SceneStepStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retrieves {@link #message}
+	 *
+	 * @return value of {@link #message}
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Sets the result of the step
+	 *
+	 * @param status the status of the step
+	 * @param message the detail of the result, may be null
+	 */
+	public void setResult(SceneStepStatus status, String message) {
+		this.status = status;
+		this.message = message;
+	}
+
+	/**
+	 * Retrieves the report of the step
+	 *
+	 * @return property, value and status of the step
+	 */
+	@Override
+	public String toString() {
+		String report = property + "=" + value + ": " + status.getName();
+		return message == null ? report : report + " (" + message + ")";
+	}
+}
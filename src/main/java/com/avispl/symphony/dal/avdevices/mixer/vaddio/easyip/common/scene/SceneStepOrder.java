@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+/**
+ * Enumeration representing the order the steps of a scene are applied in. The device is woken up first,
+ * the cameras are moved once their settings are applied, and the standby and reboot steps are applied last.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum SceneStepOrder {
+	SYSTEM_WAKE,
+	SYSTEM_SETTINGS,
+	AUDIO_CHANNEL,
+	CROSSPOINT_GAIN,
+	CROSSPOINT_ROUTE,
+	CAMERA_WAKE,
+	CAMERA_SETTINGS,
+	CAMERA_POSITION,
+	CAMERA_STANDBY,
+	SYSTEM_STANDBY,
+	SYSTEM_REBOOT,
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+/**
+ * Enumeration representing the result of a single step of a scene.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum SceneStepStatus {
+	SKIPPED("Skipped"),
+	APPLIED("Applied"),
+	UNCHANGED("Unchanged"),
+	FAILED("Failed"),
+	ROLLED_BACK("RolledBack"),
+	;
+
+	/**
+	 * Constructor Instance
+	 *
+	 * @param name of {@link #name}
+	 */
+	SceneStepStatus(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
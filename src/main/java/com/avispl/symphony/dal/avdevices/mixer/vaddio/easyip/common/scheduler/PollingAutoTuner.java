@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * PollingAutoTuner spreads the read work over as few monitoring cycles as the link allows. The cost of each unit of work
+ * and the interval between two monitoring cycles are measured as moving averages, and the work is packed in order into sub-cycles
+ * whose cost stays within the target fraction of the monitoring interval. The spacing after a cycle that overran the interval
+ * measures the cycle rather than the monitoring interval, so it is left out of the average. A fast link refreshes everything every cycle,
+ * a slow link spreads the work over more cycles as its latency grows.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollingAutoTuner {
+
+	private static final double SMOOTHING = 0.3;
+
+	private final Map<PollingWork, Double> workCosts = new EnumMap<>(PollingWork.class);
+	private final long defaultMonitoringInterval;
+	private double monitoringInterval;
+	private long lastCycleTime;
+	private long lastCycleDuration;
+
+	/**
+	 * PollingAutoTuner constructor
+	 *
+	 * @param defaultMonitoringInterval of {@link #defaultMonitoringInterval} in milliseconds, used until the interval is measured
+	 */
+	public PollingAutoTuner(long defaultMonitoringInterval) {
+		this.defaultMonitoringInterval = defaultMonitoringInterval;
+	}
+
+	/**
+	 * Records the start of a monitoring cycle to measure the monitoring interval
+	 *
+	 * @param time the start time of the cycle, in milliseconds
+	 */
+	public synchronized void recordCycleStart(long time) {
+		if (lastCycleTime > 0 && time > lastCycleTime && lastCycleDuration < getMonitoringInterval()) {
+			long interval = time - lastCycleTime;
+			monitoringInterval = monitoringInterval == 0 ? interval : monitoringInterval + SMOOTHING * (interval - monitoringInterval);
+		}
+		lastCycleTime = time;
+		lastCycleDuration = 0;
+	}
+
+	/**
+	 * Records the end of a monitoring cycle, a cycle that ran for the monitoring interval or longer is an overrun
+	 *
+	 * @param time the end time of the cycle, in milliseconds
+	 */
+	public synchronized void recordCycleEnd(long time) {
+		if (lastCycleTime > 0) {
+			lastCycleDuration = Math.max(0, time - lastCycleTime);
+		}
+	}
+
+	/**
+	 * Records the time spent on a unit of work
+	 *
+	 * @param work the completed work
+	 * @param cost the duration of the work, in milliseconds
+	 */
+	public synchronized void recordCost(PollingWork work, long cost) {
+		Double average = workCosts.get(work);
+		workCosts.put(work, average == null ? cost : average + SMOOTHING * (cost - average));
+	}
+
+	/**
+	 * Retrieves the monitoring interval
+	 *
+	 * @return the measured interval between two monitoring cycles, or the default interval, in milliseconds
+	 */
+	public synchronized long getMonitoringInterval() {
+		return monitoringInterval == 0 ? defaultMonitoringInterval : Math.round(monitoringInterval);
+	}
+
+	/**
+	 * Checks if the cost of every unit of work is measured
+	 *
+	 * @param work the work to plan
+	 * @return true if the work can be planned from measurements
+	 */
+	public synchronized boolean isMeasured(List<PollingWork> work) {
+		return workCosts.keySet().containsAll(work);
+	}
+
+	/**
+	 * Packs the work in order into sub-cycles, each within the target fraction of the monitoring interval.
+	 * The measured cost of the work that may run in any cycle on top of the plan is reserved from the budget of every sub-cycle.
+	 * A unit of work that exceeds the budget on its own gets a sub-cycle of its own.
+	 *
+	 * @param work the work of a full refresh, in the order it is polled
+	 * @param extraWork the work that runs on top of the plan when it is due
+	 * @param targetPercent the share of the monitoring interval a cycle may spend on the read work
+	 * @return the work of each sub-cycle
+	 */
+	public synchronized List<Set<PollingWork>> plan(List<PollingWork> work, Set<PollingWork> extraWork, int targetPercent) {
+		double budget = getMonitoringInterval() * targetPercent / 100.0;
+		for (PollingWork item : extraWork) {
+			budget -= workCosts.getOrDefault(item, 0d);
+		}
+		List<Set<PollingWork>> subCycles = new ArrayList<>();
+		Set<PollingWork> subCycle = EnumSet.noneOf(PollingWork.class);
+		double subCycleCost = 0;
+		for (PollingWork item : work) {
+			double cost = workCosts.getOrDefault(item, 0d);
+			if (!subCycle.isEmpty() && subCycleCost + cost > budget) {
+				subCycles.add(subCycle);
+				subCycle = EnumSet.noneOf(PollingWork.class);
+				subCycleCost = 0;
+			}
+			subCycle.add(item);
+			subCycleCost += cost;
+		}
+		if (!subCycle.isEmpty()) {
+			subCycles.add(subCycle);
+		}
+		return subCycles;
+	}
+
+	/**
+	 * Retrieves the measured cost of each unit of work
+	 *
+	 * @return map of work and its average cost, in milliseconds
+	 */
+	public synchronized Map<PollingWork, Long> getWorkCosts() {
+		Map<PollingWork, Long> result = new EnumMap<>(PollingWork.class);
+		workCosts.forEach((work, cost) -> result.put(work, Math.round(cost)));
+		return result;
+	}
+}
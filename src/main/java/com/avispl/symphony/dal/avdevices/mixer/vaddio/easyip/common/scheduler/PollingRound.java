@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * PollingRound polls every device once per round with at most a budget of devices polled at the same time.
+ * The devices are queued when the round starts, the next queued device is polled as soon as a poll completes,
+ * and the round completes once no device is queued or being polled. A new round can't start before the previous one completed.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollingRound {
+
+	private final Consumer<String> pollTask;
+	private final Queue<String> pendingDevices = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pollingDevices = new AtomicInteger();
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile Executor executor;
+	private volatile long startTime;
+	private volatile long lastDuration;
+
+	/**
+	 * PollingRound constructor
+	 *
+	 * @param pollTask polls a device, the failures are handled by the task
+	 */
+	public PollingRound(Consumer<String> pollTask) {
+		this.pollTask = pollTask;
+	}
+
+	/**
+	 * Starts a round if the previous one completed: every device is queued and the first ones up to the budget are polled.
+	 *
+	 * @param deviceIds the devices to poll
+	 * @param budget maximum number of devices polled at the same time
+	 * @param executor the executor running the polls
+	 * @return true if the round started
+	 */
+	public boolean start(Collection<String> deviceIds, int budget, Executor executor) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		this.executor = executor;
+		startTime = System.currentTimeMillis();
+		// the start counts as a poll, so the round can't complete before every first poll is submitted
+		pollingDevices.incrementAndGet();
+		pendingDevices.addAll(deviceIds);
+		for (int i = 0; i < Math.max(1, budget); i++) {
+			pollNext();
+		}
+		complete();
+		return true;
+	}
+
+	/**
+	 * Drops the queued devices, the polls already running complete the round
+	 */
+	public void clear() {
+		pendingDevices.clear();
+	}
+
+	/**
+	 * Checks if the devices of the current round are still being polled
+	 *
+	 * @return true if the round is running
+	 */
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * Retrieves the number of devices being polled
+	 *
+	 * @return the number of devices being polled
+	 */
+	public int getPollingCount() {
+		return Math.max(0, pollingDevices.get());
+	}
+
+	/**
+	 * Retrieves the duration of the last completed round
+	 *
+	 * @return the duration in milliseconds, 0 before the first round completed
+	 */
+	public long getLastDuration() {
+		return lastDuration;
+	}
+
+	/**
+	 * Polls the next queued device, the next one is polled as soon as it completes.
+	 * The poll is counted before the device is dequeued, so the round can't be seen as completed while a device is being submitted.
+	 */
+	private void pollNext() {
+		while (true) {
+			pollingDevices.incrementAndGet();
+			String deviceId = pendingDevices.poll();
+			if (deviceId == null) {
+				complete();
+				return;
+			}
+			try {
+				executor.execute(() -> {
+					try {
+						pollTask.accept(deviceId);
+					} finally {
+						complete();
+						pollNext();
+					}
+				});
+				return;
+			} catch (RejectedExecutionException e) {
+				complete();
+			}
+		}
+	}
+
+	/**
+	 * Completes the poll of a device, the round completes once no device is queued or being polled
+	 */
+	private void complete() {
+		if (pollingDevices.decrementAndGet() == 0 && pendingDevices.isEmpty() && running.get()) {
+			lastDuration = System.currentTimeMillis() - startTime;
+			running.set(false);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * PollingWorkQueue keeps the read work of the monitoring cycle that is due but not done yet.
+ * The work is carried over from cycle to cycle and is taken oldest-first, the priority order of {@link PollingWork}
+ * breaks the ties, so the work that didn't fit in the time budget of a cycle runs first in the next one.
+ * A unit of work is made of steps, the steps done in the current pass are recorded so a unit interrupted by the time budget resumes
+ * where it stopped. The work that failed goes to the back of the queue so it can't starve the other work.
+ * The completion time of each unit of work is recorded to report its staleness.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollingWorkQueue {
+
+	private final Map<PollingWork, Long> pendingWork = new EnumMap<>(PollingWork.class);
+	private final Map<PollingWork, Long> completionTimes = new EnumMap<>(PollingWork.class);
+	private final Map<PollingWork, Set<String>> completedSteps = new EnumMap<>(PollingWork.class);
+
+	/**
+	 * Adds the work to the queue, the work already pending keeps its position.
+	 *
+	 * @param work the work to add
+	 */
+	public synchronized void offer(PollingWork work) {
+		pendingWork.putIfAbsent(work, System.currentTimeMillis());
+	}
+
+	/**
+	 * Retrieves the oldest pending work without removing it from the queue
+	 *
+	 * @return the oldest pending work, or null if the queue is empty
+	 */
+	public synchronized PollingWork peek() {
+		return pendingWork.entrySet().stream()
+				.min(Map.Entry.<PollingWork, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+				.map(Map.Entry::getKey)
+				.orElse(null);
+	}
+
+	/**
+	 * Removes the work from the queue and records its completion time.
+	 *
+	 * @param work the completed work
+	 */
+	public synchronized void complete(PollingWork work) {
+		pendingWork.remove(work);
+		completedSteps.remove(work);
+		completionTimes.put(work, System.currentTimeMillis());
+	}
+
+	/**
+	 * Moves the failed work to the back of the queue, the steps it already completed are kept.
+	 *
+	 * @param work the failed work
+	 */
+	public synchronized void defer(PollingWork work) {
+		if (pendingWork.containsKey(work)) {
+			pendingWork.put(work, System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * Records a completed step of the work
+	 *
+	 * @param work the work the step belongs to
+	 * @param step the completed step
+	 */
+	public synchronized void completeStep(PollingWork work, String step) {
+		completedSteps.computeIfAbsent(work, key -> new HashSet<>()).add(step);
+	}
+
+	/**
+	 * Checks if the step of the work was completed in the current pass
+	 *
+	 * @param work the work the step belongs to
+	 * @param step the step to check
+	 * @return true if the step is done since the work was last completed
+	 */
+	public synchronized boolean isStepCompleted(PollingWork work, String step) {
+		Set<String> steps = completedSteps.get(work);
+		return steps != null && steps.contains(step);
+	}
+
+	/**
+	 * Removes all the pending work
+	 */
+	public synchronized void clear() {
+		pendingWork.clear();
+		completedSteps.clear();
+	}
+
+	/**
+	 * Retrieves the pending work in the order it will run
+	 *
+	 * @return the pending work
+	 */
+	public synchronized Set<PollingWork> getPendingWork() {
+		return pendingWork.entrySet().stream()
+				.sorted(Map.Entry.<PollingWork, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Retrieves the staleness of the work: the time elapsed since it was last completed
+	 *
+	 * @param work the work to check
+	 * @return the staleness in milliseconds, or -1 if the work never completed
+	 */
+	public synchronized long getStaleness(PollingWork work) {
+		Long completionTime = completionTimes.get(work);
+		return completionTime == null ? -1 : System.currentTimeMillis() - completionTime;
+	}
+
+	/**
+	 * Retrieves the age of the oldest pending work
+	 *
+	 * @return the age in milliseconds, or 0 if the queue is empty
+	 */
+	public synchronized long getOldestPendingAge() {
+		return pendingWork.values().stream().min(Comparator.naturalOrder()).map(time -> System.currentTimeMillis() - time).orElse(0L);
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PriorityCommandGate guards the device session and the device state shared by the monitoring cycle and the controls.
+ * The gate is reentrant and is granted to the waiters of the highest priority first. A low priority holder, the monitoring cycle,
+ * yields the gate at each command boundary while high priority waiters are queued, so a control waits for one device round trip
+ * instead of the whole cycle. The time spent waiting for the gate is recorded per priority.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PriorityCommandGate {
+
+	private final Map<CommandPriority, Integer> waiters = new EnumMap<>(CommandPriority.class);
+	private final Map<CommandPriority, long[]> waitStatistics = new EnumMap<>(CommandPriority.class);
+	private Thread owner;
+	private CommandPriority ownerPriority;
+	private int holdCount;
+	private long yieldCount;
+
+	/**
+	 * PriorityCommandGate constructor
+	 */
+	public PriorityCommandGate() {
+		for (CommandPriority priority : CommandPriority.values()) {
+			waiters.put(priority, 0);
+			waitStatistics.put(priority, new long[3]);
+		}
+	}
+
+	/**
+	 * Acquires the gate, waiting until it is free and no waiter of a higher priority is queued.
+	 *
+	 * @param priority the priority of the caller
+	 */
+	public synchronized void acquire(CommandPriority priority) {
+		Thread currentThread = Thread.currentThread();
+		if (owner == currentThread) {
+			holdCount++;
+			return;
+		}
+		long startTime = System.nanoTime();
+		boolean interrupted = false;
+		waiters.merge(priority, 1, Integer::sum);
+		try {
+			while (owner != null || hasHigherPriorityWaiter(priority)) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} finally {
+			waiters.merge(priority, -1, Integer::sum);
+		}
+		owner = currentThread;
+		ownerPriority = priority;
+		holdCount = 1;
+		recordWait(priority, System.nanoTime() - startTime);
+		if (interrupted) {
+			currentThread.interrupt();
+		}
+	}
+
+	/**
+	 * Releases the gate once per call to {@link #acquire(CommandPriority)}.
+	 */
+	public synchronized void release() {
+		if (owner != Thread.currentThread()) {
+			throw new IllegalMonitorStateException("The command gate is not held by the current thread");
+		}
+		if (--holdCount == 0) {
+			owner = null;
+			ownerPriority = null;
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Hands the gate over to the queued high priority waiters, if the current thread holds it at low priority.
+	 * The gate is acquired again at the same priority and hold count once the high priority waiters are served.
+	 *
+	 * @return true if the gate was handed over
+	 */
+	public synchronized boolean yieldToHigherPriority() {
+		if (owner != Thread.currentThread() || !hasHigherPriorityWaiter(ownerPriority)) {
+			return false;
+		}
+		CommandPriority priority = ownerPriority;
+		int heldCount = holdCount;
+		holdCount = 1;
+		release();
+		yieldCount++;
+		acquire(priority);
+		holdCount = heldCount;
+		return true;
+	}
+
+	/**
+	 * Retrieves the number of threads waiting for the gate
+	 *
+	 * @return the number of waiters of all priorities
+	 */
+	public synchronized int getQueueLength() {
+		return waiters.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	/**
+	 * Retrieves {@link #yieldCount}
+	 *
+	 * @return value of {@link #yieldCount}
+	 */
+	public synchronized long getYieldCount() {
+		return yieldCount;
+	}
+
+	/**
+	 * Retrieves the average time spent waiting for the gate
+	 *
+	 * @param priority the priority of the waiters
+	 * @return the average wait in milliseconds
+	 */
+	public synchronized long getAverageWaitMillis(CommandPriority priority) {
+		long[] statistics = waitStatistics.get(priority);
+		return statistics[0] == 0 ? 0 : statistics[1] / statistics[0] / 1000000;
+	}
+
+	/**
+	 * Retrieves the longest time spent waiting for the gate
+	 *
+	 * @param priority the priority of the waiters
+	 * @return the maximum wait in milliseconds
+	 */
+	public synchronized long getMaxWaitMillis(CommandPriority priority) {
+		return waitStatistics.get(priority)[2] / 1000000;
+	}
+
+	/**
+	 * Checks if a waiter of a higher priority than the given one is queued
+	 *
+	 * @param priority the priority to compare with
+	 * @return true if a higher priority waiter is queued
+	 */
+	private boolean hasHigherPriorityWaiter(CommandPriority priority) {
+		for (CommandPriority higherPriority : CommandPriority.values()) {
+			if (higherPriority.compareTo(priority) >= 0) {
+				return false;
+			}
+			if (waiters.get(higherPriority) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Records the time spent waiting for the gate: number of acquisitions, total and maximum wait in nanoseconds.
+	 *
+	 * @param priority the priority of the waiter
+	 * @param waitTime the wait in nanoseconds
+	 */
+	private void recordWait(CommandPriority priority, long waitTime) {
+		long[] statistics = waitStatistics.get(priority);
+		statistics[0]++;
+		statistics[1] += waitTime;
+		statistics[2] = Math.max(statistics[2], waitTime);
+	}
+}
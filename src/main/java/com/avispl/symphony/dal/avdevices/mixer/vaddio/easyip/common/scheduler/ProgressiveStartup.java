@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * ProgressiveStartup is the polling plan of the first cycles after the adapter starts. The essential state is polled and published first,
+ * the detail of the device is then filled in over the following cycles, one stage per cycle. A stage is done once all of its work completed,
+ * the work that didn't fit in the time budget of a cycle keeps the stage open.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ProgressiveStartup {
+
+	private final List<Set<PollingWork>> stages = new ArrayList<>();
+	private final Set<PollingWork> completedWork = EnumSet.noneOf(PollingWork.class);
+	private int currentStage;
+
+	/**
+	 * Starts the plan over with the given stages
+	 *
+	 * @param stages the work of each stage, in the order the stages run
+	 */
+	public synchronized void start(List<Set<PollingWork>> stages) {
+		this.stages.clear();
+		this.stages.addAll(stages);
+		completedWork.clear();
+		currentStage = 0;
+	}
+
+	/**
+	 * Ends the plan, e.g. when a full refresh polls every group at once
+	 */
+	public synchronized void finish() {
+		currentStage = stages.size();
+	}
+
+	/**
+	 * Checks if the plan is in progress
+	 *
+	 * @return true if a stage is still open
+	 */
+	public synchronized boolean isActive() {
+		return currentStage < stages.size();
+	}
+
+	/**
+	 * Retrieves the work of the open stage that isn't completed yet
+	 *
+	 * @return the pending work of the open stage, or an empty set if the plan is done
+	 */
+	public synchronized Set<PollingWork> getStageWork() {
+		if (!isActive()) {
+			return Collections.emptySet();
+		}
+		Set<PollingWork> work = EnumSet.noneOf(PollingWork.class);
+		work.addAll(stages.get(currentStage));
+		work.removeAll(completedWork);
+		return work;
+	}
+
+	/**
+	 * Records the completed work, and moves on to the next stage once the open stage is done
+	 *
+	 * @param work the completed work
+	 */
+	public synchronized void complete(PollingWork work) {
+		completedWork.add(work);
+		while (isActive() && completedWork.containsAll(stages.get(currentStage))) {
+			currentStage++;
+		}
+	}
+
+	/**
+	 * Checks if the work is planned and not completed yet
+	 *
+	 * @param work the work to check
+	 * @return true if the plan is in progress and the work is still due
+	 */
+	public synchronized boolean isPending(PollingWork work) {
+		return isActive() && !completedWork.contains(work) && stages.stream().anyMatch(stage -> stage.contains(work));
+	}
+
+	/**
+	 * Checks if the work of a group is planned
+	 *
+	 * @param work the work to check
+	 * @return true if a stage of the plan contains the work
+	 */
+	public synchronized boolean isPlanned(PollingWork work) {
+		return stages.stream().anyMatch(stage -> stage.contains(work));
+	}
+}
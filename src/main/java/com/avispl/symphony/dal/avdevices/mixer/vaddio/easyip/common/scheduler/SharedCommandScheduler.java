@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SharedCommandScheduler runs the asynchronous work of every adapter instance of the JVM on a single bounded executor.
+ * Each device gets its own {@link DeviceLane}: the tasks of a lane run one at a time in submission order,
+ * the ready lanes are served round-robin one task at a time so a busy device can't starve the others,
+ * and at most {@link #maxConcurrency} tasks run at the same time whatever the number of devices.
+ * The cap defaults to twice the number of cores on platform threads, and to 256 when the tasks run on virtual threads.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SharedCommandScheduler implements Executor {
+	public static final String MAX_CONCURRENCY_PROPERTY = "easyip.scheduler.maxConcurrency";
+
+	private static final int DEFAULT_MAX_CONCURRENCY = Integer.getInteger(MAX_CONCURRENCY_PROPERTY,
+			ThreadSupport.isVirtual() ? 256 : Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+	private static final SharedCommandScheduler INSTANCE = new SharedCommandScheduler(DEFAULT_MAX_CONCURRENCY, ThreadSupport.newExecutor(DEFAULT_MAX_CONCURRENCY, "easyip-scheduler"));
+
+	private final int maxConcurrency;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final Queue<DeviceLane> readyLanes = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger laneCount = new AtomicInteger();
+	private final LongAdder completedTasks = new LongAdder();
+
+	/**
+	 * SharedCommandScheduler constructor
+	 *
+	 * @param maxConcurrency of {@link #maxConcurrency}
+	 * @param executor of {@link #executor}
+	 */
+	public SharedCommandScheduler(int maxConcurrency, ExecutorService executor) {
+		this.maxConcurrency = maxConcurrency;
+		this.executor = executor;
+		this.permits = new Semaphore(maxConcurrency);
+	}
+
+	/**
+	 * Retrieves the scheduler shared by every adapter instance of the JVM
+	 *
+	 * @return the shared scheduler
+	 */
+	public static SharedCommandScheduler getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Creates the serial lane of a device
+	 *
+	 * @param name the name of the lane, usually the host of the device
+	 * @return the lane
+	 */
+	public DeviceLane newLane(String name) {
+		laneCount.incrementAndGet();
+		return new DeviceLane(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Runs a task that doesn't need to be ordered with the other tasks of a device, under the same concurrency cap.
+	 */
+	@Override
+	public void execute(Runnable task) {
+		new DeviceLane("task").execute(task);
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrency}
+	 *
+	 * @return value of {@link #maxConcurrency}
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * Retrieves the number of running tasks
+	 *
+	 * @return number of running tasks
+	 */
+	public int getActiveTasks() {
+		return maxConcurrency - permits.availablePermits();
+	}
+
+	/**
+	 * Retrieves the number of lanes waiting for a free slot
+	 *
+	 * @return number of ready lanes
+	 */
+	public int getReadyLanes() {
+		return readyLanes.size();
+	}
+
+	/**
+	 * Retrieves the number of open lanes
+	 *
+	 * @return number of lanes
+	 */
+	public int getLaneCount() {
+		return laneCount.get();
+	}
+
+	/**
+	 * Retrieves the number of completed tasks
+	 *
+	 * @return number of completed tasks
+	 */
+	public long getCompletedTasks() {
+		return completedTasks.sum();
+	}
+
+	/**
+	 * Starts the next task of the ready lanes while a slot is free
+	 */
+	private void dispatch() {
+		while (!readyLanes.isEmpty() && permits.tryAcquire()) {
+			DeviceLane lane = readyLanes.poll();
+			if (lane == null) {
+				permits.release();
+				continue;
+			}
+			try {
+				executor.execute(() -> runNext(lane));
+			} catch (RuntimeException e) {
+				permits.release();
+				readyLanes.add(lane);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Runs the next task of the lane, then puts the lane back at the end of the ready queue if it has more tasks
+	 *
+	 * @param lane the lane to run
+	 */
+	private void runNext(DeviceLane lane) {
+		try {
+			Runnable task = lane.tasks.poll();
+			if (task != null) {
+				task.run();
+				completedTasks.increment();
+			}
+		} finally {
+			if (!lane.tasks.isEmpty()) {
+				readyLanes.add(lane);
+			} else {
+				lane.scheduled.set(false);
+				if (!lane.tasks.isEmpty() && lane.scheduled.compareAndSet(false, true)) {
+					readyLanes.add(lane);
+				}
+			}
+			permits.release();
+			dispatch();
+		}
+	}
+
+	/**
+	 * DeviceLane runs the tasks of a single device one at a time, in submission order.
+	 */
+	public class DeviceLane implements Executor {
+		private final String name;
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		/**
+		 * DeviceLane constructor
+		 *
+		 * @param name of {@link #name}
+		 */
+		DeviceLane(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Retrieves the number of tasks waiting in the lane
+		 *
+		 * @return depth of the lane
+		 */
+		public int getQueueDepth() {
+			return tasks.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void execute(Runnable task) {
+			if (closed.get()) {
+				throw new IllegalStateException(String.format("Lane %s is closed", name));
+			}
+			tasks.add(task);
+			if (scheduled.compareAndSet(false, true)) {
+				readyLanes.add(this);
+			}
+			dispatch();
+		}
+
+		/**
+		 * Discards the pending tasks and rejects the new ones, the running task completes.
+		 */
+		public void close() {
+			if (closed.compareAndSet(false, true)) {
+				tasks.clear();
+				laneCount.decrementAndGet();
+			}
+		}
+	}
+}
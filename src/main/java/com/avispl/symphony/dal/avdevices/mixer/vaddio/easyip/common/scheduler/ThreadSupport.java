@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ThreadSupport creates the threads running the tasks of the shared scheduler.
+ * The runtime is probed for virtual threads, so the adapter built for Java 8 runs every task on its own virtual thread on Java 21+,
+ * and falls back to a pool of daemon platform threads otherwise. The probe creates a virtual thread factory, so a runtime that
+ * declares virtual threads without enabling them, like Java 19 and 20 without preview, falls back as well.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class ThreadSupport {
+
+	private static final Method NEW_VIRTUAL_EXECUTOR = findVirtualExecutor();
+	private static volatile boolean virtual = NEW_VIRTUAL_EXECUTOR != null;
+
+	private ThreadSupport() {
+	}
+
+	/**
+	 * Creates the executor running the tasks of the shared scheduler
+	 *
+	 * @param maxConcurrency maximum number of tasks running at the same time
+	 * @param name prefix of the thread names
+	 * @return the executor
+	 */
+	public static ExecutorService newExecutor(int maxConcurrency, String name) {
+		if (virtual) {
+			try {
+				return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null, newVirtualThreadFactory(name));
+			} catch (Exception e) {
+				virtual = false;
+			}
+		}
+		return newPlatformExecutor(maxConcurrency, name);
+	}
+
+	/**
+	 * Checks if the executors run their tasks on virtual threads
+	 *
+	 * @return true if the virtual thread executor can be built on this runtime
+	 */
+	public static boolean isVirtual() {
+		return virtual;
+	}
+
+	/**
+	 * Creates a pool of daemon platform threads, the idle threads are released after a minute
+	 *
+	 * @param maxConcurrency number of threads of the pool
+	 * @param name prefix of the thread names
+	 * @return the executor
+	 */
+	static ExecutorService newPlatformExecutor(int maxConcurrency, String name) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Creates a factory of named virtual threads through reflection
+	 *
+	 * @param name prefix of the thread names
+	 * @return the thread factory
+	 * @throws Exception if the runtime doesn't support virtual threads
+	 */
+	private static ThreadFactory newVirtualThreadFactory(String name) throws Exception {
+		Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+		Object builder = builderClass.getMethod("name", String.class, long.class).invoke(Thread.class.getMethod("ofVirtual").invoke(null), name + "-", 1L);
+		return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+	}
+
+	/**
+	 * Probes the runtime for virtual threads
+	 *
+	 * @return the method creating a thread-per-task executor, or null if virtual threads can't be created on this runtime
+	 */
+	private static Method findVirtualExecutor() {
+		try {
+			newVirtualThreadFactory("probe");
+			return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.trace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * PollCycleTracer records the spans of the monitoring cycles in a bounded ring buffer, the oldest spans are overwritten.
+ * The buffer can be exported on demand in the Chrome trace event format, readable by chrome://tracing or Perfetto.
+ * While the tracer is disabled every record method returns after a single volatile read.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollCycleTracer {
+	public static final String PHASE_CATEGORY = "phase";
+	public static final String COMMAND_CATEGORY = "command";
+
+	private final TraceSpan[] spans;
+	private final long originNanos;
+	private final long originMillis;
+	private volatile boolean enabled;
+	private long cycle;
+	private long recordedSpans;
+
+	/**
+	 * PollCycleTracer constructor
+	 *
+	 * @param capacity maximum number of spans kept in the buffer
+	 */
+	public PollCycleTracer(int capacity) {
+		this.spans = new TraceSpan[capacity];
+		this.originNanos = System.nanoTime();
+		this.originMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Retrieves {@link #enabled}
+	 *
+	 * @return value of {@link #enabled}
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets {@link #enabled} value, the buffer is cleared when the tracing is turned off
+	 *
+	 * @param enabled new value of {@link #enabled}
+	 */
+	public void setEnabled(boolean enabled) {
+		if (this.enabled && !enabled) {
+			clear();
+		}
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Starts a new monitoring cycle, the following spans are tagged with its number.
+	 */
+	public synchronized void beginCycle() {
+		if (enabled) {
+			cycle++;
+		}
+	}
+
+	/**
+	 * Records the span of a polling phase
+	 *
+	 * @param phase the name of the phase
+	 * @param startNanos the start of the phase, from {@link System#nanoTime()}
+	 * @param durationNanos the duration of the phase
+	 */
+	public void recordPhase(String phase, long startNanos, long durationNanos) {
+		if (enabled) {
+			add(phase, PHASE_CATEGORY, startNanos, durationNanos, null, 0, 0, 0);
+		}
+	}
+
+	/**
+	 * Records the span of a command sent to the device
+	 *
+	 * @param command the command
+	 * @param startNanos the time the command was sent, from {@link System#nanoTime()}
+	 * @param waitNanos the time spent waiting for the response
+	 * @param parseNanos the time spent parsing the response
+	 * @param responseSize the length of the response
+	 */
+	public void recordCommand(String command, long startNanos, long waitNanos, long parseNanos, int responseSize) {
+		if (enabled) {
+			add(command.trim(), COMMAND_CATEGORY, startNanos, waitNanos + parseNanos, command.trim(), responseSize, waitNanos, parseNanos);
+		}
+	}
+
+	/**
+	 * Retrieves the spans kept in the buffer, oldest first
+	 *
+	 * @return list of spans
+	 */
+	public synchronized List<TraceSpan> getSpans() {
+		int size = (int) Math.min(recordedSpans, spans.length);
+		List<TraceSpan> result = new ArrayList<>(size);
+		for (long i = recordedSpans - size; i < recordedSpans; i++) {
+			result.add(spans[(int) (i % spans.length)]);
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the buffer
+	 */
+	public synchronized void clear() {
+		for (int i = 0; i < spans.length; i++) {
+			spans[i] = null;
+		}
+		recordedSpans = 0;
+	}
+
+	/**
+	 * Exports the buffer to the file in the Chrome trace event format, the file is replaced atomically.
+	 *
+	 * @param file the trace file
+	 * @param host the host of the device, used as the process name
+	 * @return number of exported spans
+	 * @throws IOException if the file can't be written
+	 */
+	public int export(Path file, String host) throws IOException {
+		List<TraceSpan> snapshot = getSpans();
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+				JsonGenerator generator = new JsonFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("traceEvents");
+			generator.writeStartObject();
+			generator.writeStringField("name", "process_name");
+			generator.writeStringField("ph", "M");
+			generator.writeNumberField("pid", 1);
+			generator.writeObjectFieldStart("args");
+			generator.writeStringField("name", host);
+			generator.writeEndObject();
+			generator.writeEndObject();
+			Map<Long, String> threads = new LinkedHashMap<>();
+			for (TraceSpan span : snapshot) {
+				threads.putIfAbsent(span.getThreadId(), span.getThread());
+			}
+			for (Map.Entry<Long, String> thread : threads.entrySet()) {
+				generator.writeStartObject();
+				generator.writeStringField("name", "thread_name");
+				generator.writeStringField("ph", "M");
+				generator.writeNumberField("pid", 1);
+				generator.writeNumberField("tid", thread.getKey());
+				generator.writeObjectFieldStart("args");
+				generator.writeStringField("name", thread.getValue());
+				generator.writeEndObject();
+				generator.writeEndObject();
+			}
+			for (TraceSpan span : snapshot) {
+				generator.writeStartObject();
+				generator.writeStringField("name", span.getName());
+				generator.writeStringField("cat", span.getCategory());
+				generator.writeStringField("ph", "X");
+				generator.writeNumberField("ts", originMillis * 1000 + (span.getStartNanos() - originNanos) / 1000);
+				generator.writeNumberField("dur", span.getDurationNanos() / 1000);
+				generator.writeNumberField("pid", 1);
+				generator.writeNumberField("tid", span.getThreadId());
+				generator.writeObjectFieldStart("args");
+				generator.writeNumberField("cycle", span.getCycle());
+				if (span.getCommand() != null) {
+					generator.writeStringField("command", span.getCommand());
+					generator.writeNumberField("responseSize", span.getResponseSize());
+					generator.writeNumberField("waitMs", span.getWaitNanos() / 1000000.0);
+					generator.writeNumberField("parseMs", span.getParseNanos() / 1000000.0);
+				}
+				generator.writeEndObject();
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+			generator.writeStringField("displayTimeUnit", "ms");
+			generator.writeEndObject();
+		}
+		Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return snapshot.size();
+	}
+
+	/**
+	 * Adds a span to the buffer, overwriting the oldest one once the buffer is full
+	 */
+	private synchronized void add(String name, String category, long startNanos, long durationNanos, String command, int responseSize, long waitNanos, long parseNanos) {
+		spans[(int) (recordedSpans % spans.length)] = new TraceSpan(cycle, name, category, startNanos, durationNanos, command, responseSize, waitNanos, parseNanos);
+		recordedSpans++;
+	}
+}
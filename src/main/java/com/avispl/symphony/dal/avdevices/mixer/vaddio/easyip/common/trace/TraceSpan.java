@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.trace;
+
+/**
+ * TraceSpan is a timed section of a monitoring cycle: a polling phase or a single command sent to the device.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TraceSpan {
+	private final long cycle;
+	private final String name;
+	private final String category;
+	private final long threadId;
+	private final String thread;
+	private final long startNanos;
+	private final long durationNanos;
+	private final String command;
+	private final int responseSize;
+	private final long waitNanos;
+	private final long parseNanos;
+
+	/**
+	 * TraceSpan constructor
+	 *
+	 * @param cycle of {@link #cycle}
+	 * @param name of {@link #name}
+	 * @param category of {@link #category}
+	 * @param startNanos of {@link #startNanos}
+	 * @param durationNanos of {@link #durationNanos}
+	 * @param command of {@link #command}, null for a polling phase
+	 * @param responseSize of {@link #responseSize}
+	 * @param waitNanos of {@link #waitNanos}
+	 * @param parseNanos of {@link #parseNanos}
+	 */
+	public TraceSpan(long cycle, String name, String category, long startNanos, long durationNanos, String command, int responseSize, long waitNanos, long parseNanos) {
+		this.cycle = cycle;
+		this.name = name;
+		this.category = category;
+		this.threadId = Thread.currentThread().getId();
+		this.thread = Thread.currentThread().getName();
+		this.startNanos = startNanos;
+		this.durationNanos = durationNanos;
+		this.command = command;
+		this.responseSize = responseSize;
+		this.waitNanos = waitNanos;
+		this.parseNanos = parseNanos;
+	}
+
+	/**
+	 * Retrieves {@link #cycle}
+	 *
+	 * @return value of {@link #cycle}
+	 */
+	public long getCycle() {
+		return cycle;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #category}
+	 *
+	 * @return value of {@link #category}
+	 */
+	public String getCategory() {
+		return category;
+	}
+
+	/**
+	 * Retrieves {@link #threadId}
+	 *
+	 * @return value of {@link #threadId}
+	 */
+	public long getThreadId() {
+		return threadId;
+	}
+
+	/**
+	 * Retrieves {@link #thread}
+	 *
+	 * @return value of {@link #thread}
+	 */
+	public String getThread() {
+		return thread;
+	}
+
+	/**
+	 * Retrieves {@link #startNanos}
+	 *
+	 * @return value of {@link #startNanos}
+	 */
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	/**
+	 * Retrieves {@link #durationNanos}
+	 *
+	 * @return value of {@link #durationNanos}
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #responseSize}
+	 *
+	 * @return value of {@link #responseSize}
+	 */
+	public int getResponseSize() {
+		return responseSize;
+	}
+
+	/**
+	 * Retrieves {@link #waitNanos}
+	 *
+	 * @return value of {@link #waitNanos}
+	 */
+	public long getWaitNanos() {
+		return waitNanos;
+	}
+
+	/**
+	 * Retrieves {@link #parseNanos}
+	 *
+	 * @return value of {@link #parseNanos}
+	 */
+	public long getParseNanos() {
+		return parseNanos;
+	}
+}
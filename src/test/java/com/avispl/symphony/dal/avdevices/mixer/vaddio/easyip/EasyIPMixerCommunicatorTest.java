@@ -48,7 +48,7 @@ public class EasyIPMixerCommunicatorTest {
 		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(142, statistics.size());
+		Assert.assertEquals(144, statistics.size());
 		Assert.assertEquals(26, advancedControllablePropertyList.size());
 	}
 
@@ -59,7 +59,7 @@ public class EasyIPMixerCommunicatorTest {
 		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(484, statistics.size());
+		Assert.assertEquals(486, statistics.size());
 		Assert.assertEquals(42, advancedControllablePropertyList.size());
 	}
 
@@ -72,7 +72,7 @@ public class EasyIPMixerCommunicatorTest {
 		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(484, statistics.size());
+		Assert.assertEquals(486, statistics.size());
 		Assert.assertEquals(42, advancedControllablePropertyList.size());
 	}
 
@@ -278,4 +278,22 @@ public class EasyIPMixerCommunicatorTest {
 		statistics = extendedStatistic.getStatistics();
 		Assertions.assertEquals(value, statistics.get(property));
 	}
+
+	@Test
+	void testStandbyPollingProfile() throws Exception {
+		easyIPMixerCommunicator.setConfigManagement("true");
+		easyIPMixerCommunicator.setStandbyPollingCommands("AudioMute,VideoMute");
+		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("SystemStandby");
+		controllableProperty.setValue("1");
+		easyIPMixerCommunicator.controlProperty(controllableProperty);
+
+		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
+		extendedStatistic = (ExtendedStatistics) easyIPMixerCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assertions.assertEquals("1", statistics.get("SystemStandby"));
+		Assertions.assertNotNull(statistics.get("AudioMute"));
+	}
 }
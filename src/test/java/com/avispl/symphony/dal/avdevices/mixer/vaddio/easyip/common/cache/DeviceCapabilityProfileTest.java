@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceCapabilityProfileTest covers the save and load round trip of the capability profile, the rejection of foreign files
+ * and the discard of a profile learned from another firmware version
+ */
+@Tag("Mock")
+public class DeviceCapabilityProfileTest {
+	private static final String HOST = "10.0.0.10";
+
+	private Path directory;
+	private Path file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("profile");
+		file = directory.resolve("state").resolve(HOST + ".profile");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(file.getParent());
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	void testRoundTrip() throws IOException {
+		DeviceCapabilityProfile profile = new DeviceCapabilityProfile(HOST);
+		profile.setFirmwareVersion("3.1.0");
+		profile.setCameras(Arrays.asList("2", "1"));
+		profile.setUnsupportedCommands(Arrays.asList("camera 3 iris get", "audio dante_in_1 volume get"));
+		profile.recordLatency("version", 120);
+		Assertions.assertTrue(profile.isChanged());
+		profile.save(file);
+		Assertions.assertFalse(profile.isChanged());
+
+		DeviceCapabilityProfile loaded = DeviceCapabilityProfile.load(file, HOST);
+		Assertions.assertNotNull(loaded);
+		Assertions.assertEquals(HOST, loaded.getHost());
+		Assertions.assertEquals("3.1.0", loaded.getFirmwareVersion());
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList("1", "2")), loaded.getCameras());
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList("audio dante_in_1 volume get", "camera 3 iris get")), loaded.getUnsupportedCommands());
+		Assertions.assertEquals(120, loaded.getLatency("version"));
+		Assertions.assertFalse(loaded.isChanged());
+		Assertions.assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+	}
+
+	@Test
+	void testOtherHostIsRejected() throws IOException {
+		DeviceCapabilityProfile profile = new DeviceCapabilityProfile(HOST);
+		profile.setCameras(Collections.singletonList("1"));
+		profile.save(file);
+		Assertions.assertNull(DeviceCapabilityProfile.load(file, "10.0.0.11"));
+	}
+
+	@Test
+	void testMissingFile() throws IOException {
+		Assertions.assertNull(DeviceCapabilityProfile.load(file, HOST));
+	}
+
+	@Test
+	void testProfileOfOtherFirmwareIsInvalid() throws IOException {
+		DeviceCapabilityProfile profile = new DeviceCapabilityProfile(HOST);
+		Assertions.assertTrue(profile.isValidFor("3.1.0"));
+		profile.setFirmwareVersion("3.1.0");
+		profile.save(file);
+
+		DeviceCapabilityProfile loaded = DeviceCapabilityProfile.load(file, HOST);
+		Assertions.assertNotNull(loaded);
+		Assertions.assertTrue(loaded.isValidFor("3.1.0"));
+		Assertions.assertFalse(loaded.isValidFor("3.2.0"));
+	}
+
+	@Test
+	void testUnchangedValuesDoNotMarkProfileChanged() throws IOException {
+		DeviceCapabilityProfile profile = new DeviceCapabilityProfile(HOST);
+		profile.setFirmwareVersion("3.1.0");
+		profile.setCameras(Arrays.asList("1", "2"));
+		profile.save(file);
+		profile.setFirmwareVersion("3.1.0");
+		profile.setFirmwareVersion(null);
+		profile.setCameras(Arrays.asList("2", "1"));
+		profile.recordLatency("version", 80);
+		Assertions.assertFalse(profile.isChanged());
+		profile.setUnsupportedCommands(Collections.singletonList("camera 3 iris get"));
+		Assertions.assertTrue(profile.isChanged());
+	}
+
+	@Test
+	void testInvalidLatencyIsIgnored() throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("host", HOST);
+		properties.setProperty("cameras", "1, ,2");
+		properties.setProperty("latency.version", "fast");
+		properties.setProperty("latency.camera 1 pan get", "45");
+		Files.createDirectories(file.getParent());
+		try (OutputStream outputStream = Files.newOutputStream(file)) {
+			properties.store(outputStream, null);
+		}
+
+		DeviceCapabilityProfile loaded = DeviceCapabilityProfile.load(file, HOST);
+		Assertions.assertNotNull(loaded);
+		Assertions.assertNull(loaded.getFirmwareVersion());
+		Assertions.assertEquals(new TreeSet<>(Arrays.asList("1", "2")), loaded.getCameras());
+		Assertions.assertEquals(-1, loaded.getLatency("version"));
+		Assertions.assertEquals(45, loaded.getLatency("camera 1 pan get"));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceStateCacheTest covers the freshness of the entries by property group TTL, the removal of a property group and the source of the entries
+ */
+@Tag("Mock")
+public class DeviceStateCacheTest {
+	private static final long DEFAULT_TTL = 10000;
+
+	@Test
+	void testEntryIsFreshWithinDefaultTtl() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		long now = System.currentTimeMillis();
+		cache.put("Audio#Volume", "10", CacheSource.POLL, now - 1000);
+		cache.put("Audio#Mute", "On", CacheSource.POLL, now - 60000);
+		cache.put("SystemStandby", "Off", CacheSource.POLL, now - 60000);
+		Assertions.assertTrue(cache.isFresh("Audio#Volume"));
+		Assertions.assertFalse(cache.isFresh("Audio#Mute"));
+		Assertions.assertFalse(cache.isFresh("SystemStandby"));
+		Assertions.assertFalse(cache.isFresh("Audio#Unknown"));
+		Assertions.assertEquals(2, cache.getStaleCount());
+	}
+
+	@Test
+	void testGroupTtlOverridesDefaultTtl() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		cache.setGroupTtl("Route#", 1000);
+		cache.setGroupTtl("Network#", 120000);
+		long now = System.currentTimeMillis();
+		cache.put("Route#Output1", "Input1", CacheSource.POLL, now - 5000);
+		cache.put("Network#IPAddress", "10.0.0.10", CacheSource.POLL, now - 60000);
+		cache.put("Audio#Volume", "10", CacheSource.POLL, now - 5000);
+		Assertions.assertFalse(cache.isFresh("Route#Output1"));
+		Assertions.assertTrue(cache.isFresh("Network#IPAddress"));
+		Assertions.assertTrue(cache.isFresh("Audio#Volume"));
+		Assertions.assertEquals(1, cache.getStaleCount());
+	}
+
+	@Test
+	void testRemoveGroup() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		cache.put("Camera1#Pan", "0");
+		cache.put("Camera1#Tilt", "0");
+		cache.put("Camera2#Pan", "10");
+		Assertions.assertTrue(cache.removeGroup("Camera1#"));
+		Assertions.assertFalse(cache.removeGroup("Camera1#"));
+		Assertions.assertNull(cache.get("Camera1#Pan"));
+		Assertions.assertNull(cache.get("Camera1#Tilt"));
+		Assertions.assertEquals("10", cache.get("Camera2#Pan"));
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	void testSourceTracking() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		cache.put("Audio#Volume", "10");
+		Assertions.assertEquals(CacheSource.POLL, cache.getSource("Audio#Volume"));
+		Assertions.assertEquals("10", cache.put("Audio#Volume", "20", CacheSource.OPTIMISTIC));
+		Assertions.assertEquals(CacheSource.OPTIMISTIC, cache.getSource("Audio#Volume"));
+		cache.put("Audio#Volume", "20", CacheSource.CONTROL);
+		Assertions.assertEquals(CacheSource.CONTROL, cache.getSource("Audio#Volume"));
+		Assertions.assertEquals("20", cache.get("Audio#Volume"));
+		Assertions.assertNull(cache.getSource("Audio#Mute"));
+	}
+
+	@Test
+	void testNullValueRemovesEntry() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		cache.put("Audio#Volume", "10");
+		Assertions.assertEquals("10", cache.put("Audio#Volume", null, CacheSource.POLL));
+		Assertions.assertFalse(cache.containsKey("Audio#Volume"));
+		Assertions.assertEquals(-1, cache.getAge("Audio#Volume"));
+	}
+
+	@Test
+	void testAgesAreSortedByKey() {
+		DeviceStateCache cache = new DeviceStateCache(DEFAULT_TTL);
+		long now = System.currentTimeMillis();
+		cache.put("Route#Output1", "Input1", CacheSource.POLL, now - 3000);
+		cache.put("Audio#Volume", "10", CacheSource.POLL, now - 1000);
+		Assertions.assertEquals("Audio#Volume", cache.getAges().keySet().iterator().next());
+		Assertions.assertTrue(cache.getAges().get("Route#Output1") >= 3000);
+		Assertions.assertTrue(cache.getAge("Audio#Volume") >= 1000);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceStateSnapshotTest covers the write and read round trip of the state snapshot and the rejection of foreign files
+ */
+@Tag("Mock")
+public class DeviceStateSnapshotTest {
+	private static final String HOST = "10.0.0.10";
+
+	private Path directory;
+	private Path file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("snapshot");
+		file = directory.resolve("state").resolve(HOST + ".snapshot");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(file.getParent());
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	void testRoundTrip() throws IOException {
+		Map<String, String> values = new HashMap<>();
+		values.put("AudioControl#LineOut1Volume(dB)", "-12");
+		values.put("Camera1#Iris", "On");
+		values.put("VideoRoute#Program", "");
+		new DeviceStateSnapshot(1234L, Arrays.asList("1", "2"), values).write(file, HOST);
+
+		DeviceStateSnapshot snapshot = DeviceStateSnapshot.read(file, HOST);
+		Assertions.assertNotNull(snapshot);
+		Assertions.assertEquals(1234L, snapshot.getTimestamp());
+		Assertions.assertEquals(Arrays.asList("1", "2"), Arrays.asList(snapshot.getCameras().toArray()));
+		Assertions.assertEquals(values, snapshot.getValues());
+		Assertions.assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+	}
+
+	@Test
+	void testOtherHostIsRejected() throws IOException {
+		new DeviceStateSnapshot(1234L, Arrays.asList("1"), new HashMap<>()).write(file, HOST);
+		Assertions.assertNull(DeviceStateSnapshot.read(file, "10.0.0.11"));
+	}
+
+	@Test
+	void testMissingFile() throws IOException {
+		Assertions.assertNull(DeviceStateSnapshot.read(file, HOST));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.camera;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CameraMotionTrackerTest covers when the position of a camera is due while it moves and while it is idle
+ */
+@Tag("Mock")
+public class CameraMotionTrackerTest {
+	private static final long IDLE_INTERVAL = 60000;
+
+	@Test
+	void testUnknownCameraIsDue() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 0, 120000, IDLE_INTERVAL);
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testIdleCameraIsNotDueUntilIdleInterval() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 0, 120000, IDLE_INTERVAL);
+		tracker.recordPosition("1", "0:0:1");
+		Assertions.assertFalse(tracker.isPositionDue("1"));
+		tracker.setIdleInterval(0);
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testStalePositionAfterControlDoesNotEndMotion() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 0, 120000, IDLE_INTERVAL);
+		tracker.recordPosition("1", "0:0:1");
+		tracker.startMotion("1");
+		tracker.recordPosition("1", "0:0:1");
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+		tracker.recordPosition("1", "0:0:1");
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+		tracker.recordPosition("1", "0:0:1");
+		Assertions.assertFalse(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testChangedPositionRestartsStableCount() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 0, 120000, IDLE_INTERVAL);
+		tracker.startMotion("1");
+		tracker.recordPosition("1", "10:0:1");
+		tracker.recordPosition("1", "10:0:1");
+		tracker.recordPosition("1", "20:0:1");
+		tracker.recordPosition("1", "20:0:1");
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+		tracker.recordPosition("1", "20:0:1");
+		Assertions.assertFalse(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testMinimumMotionWindowKeepsTracking() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 60000, 120000, IDLE_INTERVAL);
+		tracker.startMotion("1");
+		for (int i = 0; i < 5; i++) {
+			tracker.recordPosition("1", "0:0:1");
+		}
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testMotionTimeoutEndsTracking() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 60000, 0, IDLE_INTERVAL);
+		tracker.startMotion("1");
+		tracker.recordPosition("1", "10:0:1");
+		Assertions.assertFalse(tracker.isPositionDue("1"));
+	}
+
+	@Test
+	void testRetainCamerasForgetsDisconnectedCameras() {
+		CameraMotionTracker tracker = new CameraMotionTracker(2, 0, 120000, IDLE_INTERVAL);
+		tracker.recordPosition("1", "0:0:1");
+		tracker.recordPosition("2", "0:0:1");
+		tracker.retainCameras(Collections.singleton("2"));
+		Assertions.assertTrue(tracker.isPositionDue("1"));
+		Assertions.assertFalse(tracker.isPositionDue("2"));
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CommandCircuitBreakerTest covers the failure threshold and the single probe of a half-open circuit
+ */
+@Tag("Mock")
+public class CommandCircuitBreakerTest {
+	private static final String COMMAND = "camera 1 iris get";
+	private static final String ERROR = "Syntax error";
+	private static final long RETRY_INTERVAL = 100;
+
+	@Test
+	void testCircuitOpensAtThreshold() {
+		CommandCircuitBreaker breaker = new CommandCircuitBreaker(2, RETRY_INTERVAL);
+		breaker.recordFailure(COMMAND, ERROR);
+		Assertions.assertEquals(CircuitState.CLOSED, breaker.getState(COMMAND));
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+		breaker.recordFailure(COMMAND, ERROR);
+		Assertions.assertEquals(CircuitState.OPEN, breaker.getState(COMMAND));
+		Assertions.assertFalse(breaker.allowRequest(COMMAND));
+		Assertions.assertEquals(1, breaker.getSkippedRequests());
+		Assertions.assertEquals(ERROR, breaker.getLastError(COMMAND));
+		Assertions.assertTrue(breaker.getCommands(CircuitState.OPEN).contains(COMMAND));
+		Assertions.assertTrue(breaker.getCommands(CircuitState.OPEN, ERROR).contains(COMMAND));
+		Assertions.assertTrue(breaker.getCommands(CircuitState.OPEN, "Timeout").isEmpty());
+	}
+
+	@Test
+	void testHalfOpenAllowsSingleProbe() throws InterruptedException {
+		CommandCircuitBreaker breaker = new CommandCircuitBreaker(1, RETRY_INTERVAL);
+		breaker.recordFailure(COMMAND, ERROR);
+		Thread.sleep(RETRY_INTERVAL + 50);
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+		Assertions.assertEquals(CircuitState.HALF_OPEN, breaker.getState(COMMAND));
+		Assertions.assertFalse(breaker.allowRequest(COMMAND));
+		Assertions.assertFalse(breaker.allowRequest(COMMAND));
+		breaker.recordSuccess(COMMAND);
+		Assertions.assertEquals(CircuitState.CLOSED, breaker.getState(COMMAND));
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+	}
+
+	@Test
+	void testFailedProbeReopensCircuit() throws InterruptedException {
+		CommandCircuitBreaker breaker = new CommandCircuitBreaker(3, RETRY_INTERVAL);
+		breaker.open(COMMAND, ERROR);
+		Thread.sleep(RETRY_INTERVAL + 50);
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+		breaker.recordFailure(COMMAND, ERROR);
+		Assertions.assertEquals(CircuitState.OPEN, breaker.getState(COMMAND));
+		Assertions.assertFalse(breaker.allowRequest(COMMAND));
+	}
+
+	@Test
+	void testLostProbeIsReplaced() throws InterruptedException {
+		CommandCircuitBreaker breaker = new CommandCircuitBreaker(1, RETRY_INTERVAL);
+		breaker.recordFailure(COMMAND, ERROR);
+		Thread.sleep(RETRY_INTERVAL + 50);
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+		Thread.sleep(RETRY_INTERVAL + 50);
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+		Assertions.assertEquals(CircuitState.HALF_OPEN, breaker.getState(COMMAND));
+	}
+
+	@Test
+	void testOtherCommandsAreNotAffected() {
+		CommandCircuitBreaker breaker = new CommandCircuitBreaker(1, RETRY_INTERVAL);
+		breaker.recordFailure(COMMAND, ERROR);
+		Assertions.assertTrue(breaker.allowRequest("camera 1 gain get"));
+		breaker.clear();
+		Assertions.assertTrue(breaker.allowRequest(COMMAND));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.connection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConnectionHealthMonitorTest covers the offline threshold and the backoff of the recovery probes
+ */
+@Tag("Mock")
+public class ConnectionHealthMonitorTest {
+
+	@Test
+	void testOfflineAfterThreshold() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(3, 1000, 8000);
+		Assertions.assertFalse(monitor.recordFailure());
+		Assertions.assertFalse(monitor.recordFailure());
+		Assertions.assertTrue(monitor.recordFailure());
+		Assertions.assertTrue(monitor.isOffline());
+		Assertions.assertEquals(3, monitor.getConsecutiveFailures());
+		Assertions.assertTrue(monitor.getOfflineSince() > 0);
+	}
+
+	@Test
+	void testSuccessResetsFailures() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(3, 1000, 8000);
+		monitor.recordFailure();
+		monitor.recordFailure();
+		monitor.recordSuccess();
+		Assertions.assertFalse(monitor.recordFailure());
+		Assertions.assertEquals(1, monitor.getConsecutiveFailures());
+		Assertions.assertTrue(monitor.getLastSuccessTime() > 0);
+	}
+
+	@Test
+	void testSuccessBringsDeviceOnline() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(1, 1000, 8000);
+		Assertions.assertTrue(monitor.recordFailure());
+		monitor.recordSuccess();
+		Assertions.assertFalse(monitor.isOffline());
+		Assertions.assertFalse(monitor.isProbeDue());
+	}
+
+	@Test
+	void testProbeBackoffDoublesUpToMaximum() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(1, 1000, 3000);
+		monitor.recordFailure();
+		Assertions.assertFalse(monitor.isProbeDue());
+		long start = System.currentTimeMillis();
+		monitor.recordProbeFailure();
+		long firstDelay = monitor.getNextProbeTime() - start;
+		Assertions.assertTrue(firstDelay >= 2000 && firstDelay <= 2100, "delay " + firstDelay);
+		monitor.recordProbeFailure();
+		long secondDelay = monitor.getNextProbeTime() - System.currentTimeMillis();
+		Assertions.assertTrue(secondDelay > 2900 && secondDelay <= 3000, "delay " + secondDelay);
+	}
+
+	@Test
+	void testProbeDueOnceBackoffElapsed() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(1, 0, 0);
+		Assertions.assertFalse(monitor.isProbeDue());
+		monitor.recordFailure();
+		Assertions.assertTrue(monitor.isProbeDue());
+	}
+
+	@Test
+	void testThresholdCanBeLowered() {
+		ConnectionHealthMonitor monitor = new ConnectionHealthMonitor(5, 1000, 8000);
+		monitor.setFailureThreshold(1);
+		Assertions.assertTrue(monitor.recordFailure());
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PropertyFilterTest covers the include and exclude prefixes of the property filter
+ */
+@Tag("Mock")
+public class PropertyFilterTest {
+
+	@Test
+	void testEmptyFilterIncludesEverything() {
+		PropertyFilter filter = new PropertyFilter(null, " ");
+		Assertions.assertTrue(filter.isEmpty());
+		Assertions.assertTrue(filter.isIncluded("Camera1#Iris"));
+		Assertions.assertFalse(filter.isExcluded("Camera1#Iris"));
+	}
+
+	@Test
+	void testIncludePrefixes() {
+		PropertyFilter filter = new PropertyFilter("Network#, AudioControl", null);
+		Assertions.assertFalse(filter.isEmpty());
+		Assertions.assertTrue(filter.isIncluded("Network#"));
+		Assertions.assertTrue(filter.isIncluded("AudioControl#LineOut1Volume(dB)"));
+		Assertions.assertFalse(filter.isIncluded("Camera1#Iris"));
+	}
+
+	@Test
+	void testExcludeWinsOverInclude() {
+		PropertyFilter filter = new PropertyFilter("Camera", "Camera2,,CameraColor");
+		Assertions.assertTrue(filter.isIncluded("Camera1#Iris"));
+		Assertions.assertFalse(filter.isIncluded("Camera2#Iris"));
+		Assertions.assertTrue(filter.isExcluded("CameraColor"));
+	}
+
+	@Test
+	void testMatchIsCaseInsensitive() {
+		PropertyFilter filter = new PropertyFilter(null, "network");
+		Assertions.assertFalse(filter.isIncluded("Network#"));
+		Assertions.assertTrue(filter.isIncluded("SystemInformation#"));
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogramTest covers the bucket percentiles, the average and the maximum of the recorded latencies
+ */
+@Tag("Mock")
+public class LatencyHistogramTest {
+	private static final long MILLIS = 1000000;
+
+	@Test
+	void testEmptyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assertions.assertEquals(0, histogram.getCount());
+		Assertions.assertEquals(0, histogram.getPercentile(50));
+		Assertions.assertEquals(0, histogram.getAverage());
+		Assertions.assertEquals(0, histogram.getMax());
+	}
+
+	@Test
+	void testPercentilesUseBucketBounds() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 90; i++) {
+			histogram.record(8 * MILLIS);
+		}
+		for (int i = 0; i < 10; i++) {
+			histogram.record(150 * MILLIS);
+		}
+		Assertions.assertEquals(100, histogram.getCount());
+		Assertions.assertEquals(10, histogram.getPercentile(50));
+		Assertions.assertEquals(10, histogram.getPercentile(90));
+		Assertions.assertEquals(150, histogram.getPercentile(99));
+		Assertions.assertEquals(22, histogram.getAverage());
+		Assertions.assertEquals(150, histogram.getMax());
+		Assertions.assertEquals(150, histogram.getLast());
+	}
+
+	@Test
+	void testPercentileAboveLastBucketIsMax() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(90000 * MILLIS);
+		Assertions.assertEquals(90000, histogram.getPercentile(99));
+	}
+
+	@Test
+	void testReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(5 * MILLIS);
+		histogram.recordError();
+		Assertions.assertEquals(1, histogram.getErrors());
+		histogram.reset();
+		Assertions.assertEquals(0, histogram.getCount());
+		Assertions.assertEquals(0, histogram.getErrors());
+		Assertions.assertEquals(0, histogram.getMax());
+		Assertions.assertEquals(0, histogram.getPercentile(99));
+	}
+}
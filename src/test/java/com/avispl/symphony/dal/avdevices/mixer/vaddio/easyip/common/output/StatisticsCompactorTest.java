@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.output;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * StatisticsCompactorTest covers the compact property names and the statistics left out of the compact output
+ */
+@Tag("Mock")
+public class StatisticsCompactorTest {
+
+	@Test
+	void testCompactNameRoundTrip() {
+		String[] names = { "Crosspoint1#Mic1GainCurrentValue(dB)", "VideoInput1#Iris", "AdapterDiagnostics#PayloadSize(bytes)", "AudioControl#LineOut1Volume(dB)",
+				"Network#", "SystemStandby" };
+		for (String name : names) {
+			Assertions.assertEquals(name, StatisticsCompactor.expandName(StatisticsCompactor.compactName(name)));
+		}
+		Assertions.assertEquals("XP1#Mic1Gain(dB)", StatisticsCompactor.compactName("Crosspoint1#Mic1Gain(dB)"));
+		Assertions.assertEquals("VI1#Iris", StatisticsCompactor.compactName("VideoInput1#Iris"));
+		Assertions.assertEquals("Diag#OpenCircuits", StatisticsCompactor.compactName("AdapterDiagnostics#OpenCircuits"));
+		Assertions.assertEquals("AudioControl#LineOut1Volume(dB)", StatisticsCompactor.compactName("AudioControl#LineOut1Volume(dB)"));
+	}
+
+	@Test
+	void testSliderDuplicates() {
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("Crosspoint1#Mic1GainCurrentValue(dB)"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("AudioControl#LineOut1VolumeCurrentValue(dB)"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#IrisCurrentValue"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#RedGainCurrentValue"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#BlueGainCurrentValue"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#GammaCurrentValue"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#ChromaCurrentValue"));
+		Assertions.assertTrue(StatisticsCompactor.isDuplicate("VideoInput1#DetailCurrentValue"));
+		Assertions.assertFalse(StatisticsCompactor.isDuplicate("VideoInput1#Iris"));
+		Assertions.assertFalse(StatisticsCompactor.isDuplicate("AdapterDiagnostics#CurrentValueCount"));
+		Assertions.assertFalse(StatisticsCompactor.isDuplicate("GainCurrentValue(dB)"));
+	}
+
+	@Test
+	void testUnchangedStatisticsAreSuppressed() {
+		StatisticsCompactor compactor = new StatisticsCompactor(60000);
+		Map<String, String> stats = new HashMap<>();
+		stats.put("VideoInput1#Iris", "On");
+		stats.put("VideoInput1#IrisCurrentValue", "8");
+		stats.put("Crosspoint1#Mic1Gain(dB)", "-3");
+		ExtendedStatistics statistics = newStatistics(stats, "Crosspoint1#Mic1Gain(dB)");
+
+		Map<String, String> first = compactor.compact(statistics, true).getStatistics();
+		Assertions.assertEquals("On", first.get("VI1#Iris"));
+		Assertions.assertEquals("-3", first.get("XP1#Mic1Gain(dB)"));
+		Assertions.assertFalse(first.containsKey("VI1#IrisCurrentValue"));
+
+		Map<String, String> second = compactor.compact(statistics, true).getStatistics();
+		Assertions.assertFalse(second.containsKey("VI1#Iris"));
+		Assertions.assertEquals("-3", second.get("XP1#Mic1Gain(dB)"));
+
+		Assertions.assertEquals("On", compactor.compact(statistics, false).getStatistics().get("VI1#Iris"));
+
+		stats.put("VideoInput1#Iris", "Off");
+		Assertions.assertEquals("Off", compactor.compact(newStatistics(stats, "Crosspoint1#Mic1Gain(dB)"), true).getStatistics().get("VI1#Iris"));
+		Assertions.assertTrue(compactor.getLastPayloadSize() < compactor.getLastFullPayloadSize());
+	}
+
+	@Test
+	void testRepublishIntervalAndReset() {
+		StatisticsCompactor compactor = new StatisticsCompactor(0);
+		ExtendedStatistics statistics = newStatistics(Collections.singletonMap("VideoInput1#Iris", "On"), null);
+		compactor.compact(statistics, true);
+		Assertions.assertEquals("On", compactor.compact(statistics, true).getStatistics().get("VI1#Iris"));
+
+		compactor.setRepublishInterval(60000);
+		compactor.compact(statistics, true);
+		Assertions.assertTrue(compactor.compact(statistics, true).getStatistics().isEmpty());
+		compactor.reset();
+		Assertions.assertEquals("On", compactor.compact(statistics, true).getStatistics().get("VI1#Iris"));
+	}
+
+	/**
+	 * Creates the statistics, with a slider backing the given property
+	 */
+	private static ExtendedStatistics newStatistics(Map<String, String> stats, String controlName) {
+		ExtendedStatistics statistics = new ExtendedStatistics();
+		statistics.setStatistics(new HashMap<>(stats));
+		statistics.setControllableProperties(controlName == null ? Collections.emptyList()
+				: Collections.singletonList(new AdvancedControllableProperty(controlName, null, new AdvancedControllableProperty.Slider(), stats.get(controlName))));
+		return statistics;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SceneCompilerTest covers the merge of the route settings per audio output, the order of the steps and the rollback of the applied steps
+ */
+@Tag("Mock")
+public class SceneCompilerTest {
+
+	private final Map<String, String> controlValues = new HashMap<>();
+	private final Map<String, String> routes = new HashMap<>();
+	private final List<String> routeReads = new ArrayList<>();
+	private final List<String> revertedSteps = new ArrayList<>();
+	private String failingRevert;
+
+	private final SceneCompiler compiler = new SceneCompiler(new SceneCompiler.SceneTarget() {
+		@Override
+		public SceneStepOrder getStepOrder(String group, String propertyKey, String value) {
+			if ("SystemStandby".equals(propertyKey)) {
+				return "1".equals(value) ? SceneStepOrder.SYSTEM_STANDBY : SceneStepOrder.SYSTEM_WAKE;
+			}
+			if (group.contains("Crosspoint")) {
+				return SceneStepOrder.CROSSPOINT_GAIN;
+			}
+			return group.startsWith("VideoInput") ? SceneStepOrder.CAMERA_SETTINGS : SceneStepOrder.AUDIO_CHANNEL;
+		}
+
+		@Override
+		public String getControlValue(String property) {
+			return controlValues.get(property);
+		}
+
+		@Override
+		public String getRoutes(String localName) {
+			routeReads.add(localName);
+			return routes.get(localName);
+		}
+
+		@Override
+		public void revertStep(SceneStep step) {
+			if (step.getProperty().equals(failingRevert)) {
+				throw new IllegalStateException("No acknowledgment");
+			}
+			revertedSteps.add(step.getProperty());
+		}
+	});
+
+	@Test
+	void testRouteSettingsAreMergedPerOutput() throws Exception {
+		routes.put("CrosspointOutput1#Output1", "line_in_2 hdmi_in_left");
+		routes.put("CrosspointOutput2#Output2", "");
+		Map<String, String> settings = new LinkedHashMap<>();
+		settings.put("CrosspointOutput1#LineMic1Route", "1");
+		settings.put("CrosspointOutput2#DanteIn1Route", "1");
+		settings.put("CrosspointOutput1#LineMic2Route", "0");
+		settings.put("CrosspointOutput1#HDMIInLeftRoute", "1");
+		List<SceneStep> steps = compiler.compile(new SceneDefinition("Meeting", settings));
+
+		Assertions.assertEquals(2, steps.size());
+		Assertions.assertEquals(Arrays.asList("CrosspointOutput1#Output1", "CrosspointOutput2#Output2"), routeReads);
+		SceneStep output1 = steps.get(0);
+		Assertions.assertEquals(SceneStepOrder.CROSSPOINT_ROUTE, output1.getOrder());
+		Assertions.assertEquals("CrosspointOutput1#Output1", output1.getProperty());
+		Assertions.assertEquals("hdmi_in_left line_in_1", output1.getValue());
+		Assertions.assertEquals("line_in_2 hdmi_in_left", output1.getPriorValue());
+		Assertions.assertEquals(Arrays.asList("CrosspointOutput1#LineMic1Route", "CrosspointOutput1#LineMic2Route", "CrosspointOutput1#HDMIInLeftRoute"),
+				new ArrayList<>(output1.getMergedSettings().keySet()));
+		SceneStep output2 = steps.get(1);
+		Assertions.assertEquals("dante_in_1", output2.getValue());
+		Assertions.assertEquals("", output2.getPriorValue());
+	}
+
+	@Test
+	void testStepsAreSortedByOrder() throws Exception {
+		routes.put("CrosspointOutput1#Output1", "");
+		controlValues.put("System#SystemStandby", "0");
+		controlValues.put("Audio#Volume", "5");
+		Map<String, String> settings = new LinkedHashMap<>();
+		settings.put("System#SystemStandby", "1");
+		settings.put("VideoInput1#Focus", "10");
+		settings.put("CrosspointOutput1#LineMic1Route", "1");
+		settings.put("CrosspointOutput1#LineMic1GainDb", "-3");
+		settings.put("Audio#Volume", "10");
+		List<SceneStep> steps = compiler.compile(new SceneDefinition("Shutdown", settings));
+
+		Assertions.assertEquals(Arrays.asList(SceneStepOrder.AUDIO_CHANNEL, SceneStepOrder.CROSSPOINT_GAIN, SceneStepOrder.CROSSPOINT_ROUTE,
+				SceneStepOrder.CAMERA_SETTINGS, SceneStepOrder.SYSTEM_STANDBY), steps.stream().map(SceneStep::getOrder).collect(Collectors.toList()));
+		Assertions.assertEquals("5", steps.get(0).getPriorValue());
+		Assertions.assertEquals("0", steps.get(4).getPriorValue());
+		Assertions.assertNull(steps.get(3).getPriorValue());
+		steps.forEach(step -> Assertions.assertEquals(SceneStepStatus.SKIPPED, step.getStatus()));
+	}
+
+	@Test
+	void testSceneCannotApplyAnotherScene() {
+		Map<String, String> settings = new LinkedHashMap<>();
+		settings.put("Audio#Volume", "10");
+		settings.put("Scene#ApplyScene", "Meeting");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> compiler.compile(new SceneDefinition("Loop", settings)));
+	}
+
+	@Test
+	void testUnreadableRoutesFailTheScene() {
+		Map<String, String> settings = Collections.singletonMap("CrosspointOutput1#LineMic1Route", "1");
+		Assertions.assertThrows(IllegalStateException.class, () -> compiler.compile(new SceneDefinition("Meeting", settings)));
+	}
+
+	@Test
+	void testRollbackRevertsOnlyAppliedStepsInReverseOrder() {
+		SceneStep volume = newStep(SceneStepOrder.AUDIO_CHANNEL, "Audio#Volume", "5", SceneStepStatus.APPLIED);
+		SceneStep gain = newStep(SceneStepOrder.CROSSPOINT_GAIN, "CrosspointOutput1#LineMic1GainDb", "0", SceneStepStatus.UNCHANGED);
+		SceneStep route = newStep(SceneStepOrder.CROSSPOINT_ROUTE, "CrosspointOutput1#Output1", "line_in_1", SceneStepStatus.APPLIED);
+		SceneStep preset = newStep(SceneStepOrder.CAMERA_POSITION, "VideoInput1#Preset", null, SceneStepStatus.APPLIED);
+		SceneStep standby = newStep(SceneStepOrder.SYSTEM_STANDBY, "System#SystemStandby", "0", SceneStepStatus.FAILED);
+		SceneStep reboot = newStep(SceneStepOrder.SYSTEM_REBOOT, "System#Reboot", "0", SceneStepStatus.SKIPPED);
+		List<SceneStep> steps = Arrays.asList(volume, gain, route, preset, standby, reboot);
+		compiler.rollback(steps);
+
+		Assertions.assertEquals(Arrays.asList("CrosspointOutput1#Output1", "Audio#Volume"), revertedSteps);
+		Assertions.assertEquals(SceneStepStatus.ROLLED_BACK, volume.getStatus());
+		Assertions.assertEquals(SceneStepStatus.ROLLED_BACK, route.getStatus());
+		Assertions.assertEquals(SceneStepStatus.UNCHANGED, gain.getStatus());
+		Assertions.assertEquals(SceneStepStatus.APPLIED, preset.getStatus());
+		Assertions.assertEquals(SceneStepStatus.FAILED, standby.getStatus());
+		Assertions.assertEquals(SceneStepStatus.SKIPPED, reboot.getStatus());
+	}
+
+	@Test
+	void testFailedRevertKeepsStepApplied() {
+		failingRevert = "Audio#Volume";
+		SceneStep volume = newStep(SceneStepOrder.AUDIO_CHANNEL, "Audio#Volume", "5", SceneStepStatus.APPLIED);
+		SceneStep route = newStep(SceneStepOrder.CROSSPOINT_ROUTE, "CrosspointOutput1#Output1", "line_in_1", SceneStepStatus.APPLIED);
+		compiler.rollback(Arrays.asList(volume, route));
+
+		Assertions.assertEquals(Collections.singletonList("CrosspointOutput1#Output1"), revertedSteps);
+		Assertions.assertEquals(SceneStepStatus.APPLIED, volume.getStatus());
+		Assertions.assertNotNull(volume.getMessage());
+		Assertions.assertEquals(SceneStepStatus.ROLLED_BACK, route.getStatus());
+	}
+
+	private SceneStep newStep(SceneStepOrder order, String property, String priorValue, SceneStepStatus status) {
+		SceneStep step = new SceneStep(order, property, "1", Collections.singletonMap(property, "1"));
+		step.setPriorValue(priorValue);
+		step.setResult(status, null);
+		return step;
+	}
+}
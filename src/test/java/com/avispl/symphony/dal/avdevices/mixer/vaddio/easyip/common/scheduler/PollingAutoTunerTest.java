@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * PollingAutoTunerTest covers the measurement of the monitoring interval and the packing of the work into sub-cycles
+ */
+@Tag("Mock")
+public class PollingAutoTunerTest {
+	private static final List<PollingWork> WORK = Arrays.asList(PollingWork.MONITORING, PollingWork.ROUTE, PollingWork.AUDIO_VOLUME);
+
+	@Test
+	void testDefaultIntervalUntilMeasured() {
+		PollingAutoTuner tuner = new PollingAutoTuner(60000);
+		Assertions.assertEquals(60000, tuner.getMonitoringInterval());
+		tuner.recordCycleStart(1000);
+		Assertions.assertEquals(60000, tuner.getMonitoringInterval());
+		tuner.recordCycleStart(31000);
+		Assertions.assertEquals(30000, tuner.getMonitoringInterval());
+	}
+
+	@Test
+	void testOverrunCycleIsExcluded() {
+		PollingAutoTuner tuner = new PollingAutoTuner(60000);
+		tuner.recordCycleStart(1000);
+		tuner.recordCycleEnd(11000);
+		tuner.recordCycleStart(61000);
+		Assertions.assertEquals(60000, tuner.getMonitoringInterval());
+		tuner.recordCycleEnd(151000);
+		tuner.recordCycleStart(151000);
+		Assertions.assertEquals(60000, tuner.getMonitoringInterval());
+	}
+
+	@Test
+	void testFastLinkPollsEverythingInOneCycle() {
+		PollingAutoTuner tuner = newMeasuredTuner(1000, 1000, 1000);
+		Assertions.assertTrue(tuner.isMeasured(WORK));
+		List<Set<PollingWork>> plan = tuner.plan(WORK, Collections.emptySet(), 50);
+		Assertions.assertEquals(Collections.singletonList(EnumSet.copyOf(WORK)), plan);
+	}
+
+	@Test
+	void testSlowLinkSpreadsWork() {
+		PollingAutoTuner tuner = newMeasuredTuner(20000, 8000, 40000);
+		List<Set<PollingWork>> plan = tuner.plan(WORK, Collections.emptySet(), 50);
+		Assertions.assertEquals(Arrays.asList(EnumSet.of(PollingWork.MONITORING, PollingWork.ROUTE), EnumSet.of(PollingWork.AUDIO_VOLUME)), plan);
+	}
+
+	@Test
+	void testExtraWorkIsReservedFromBudget() {
+		PollingAutoTuner tuner = newMeasuredTuner(10000, 10000, 5000);
+		tuner.recordCost(PollingWork.CAMERA_POSITION, 6000);
+		Assertions.assertEquals(1, tuner.plan(WORK, Collections.emptySet(), 50).size());
+		List<Set<PollingWork>> plan = tuner.plan(WORK, EnumSet.of(PollingWork.CAMERA_POSITION), 50);
+		Assertions.assertEquals(Arrays.asList(EnumSet.of(PollingWork.MONITORING, PollingWork.ROUTE), EnumSet.of(PollingWork.AUDIO_VOLUME)), plan);
+	}
+
+	@Test
+	void testCostIsMovingAverage() {
+		PollingAutoTuner tuner = new PollingAutoTuner(60000);
+		tuner.recordCost(PollingWork.ROUTE, 1000);
+		tuner.recordCost(PollingWork.ROUTE, 2000);
+		Assertions.assertEquals(1300, tuner.getWorkCosts().get(PollingWork.ROUTE));
+		Assertions.assertFalse(tuner.isMeasured(WORK));
+	}
+
+	/**
+	 * Creates a tuner with a measured monitoring interval of 60 seconds and the given cost of {@link #WORK}
+	 */
+	private static PollingAutoTuner newMeasuredTuner(long monitoringCost, long routeCost, long audioCost) {
+		PollingAutoTuner tuner = new PollingAutoTuner(60000);
+		tuner.recordCost(PollingWork.MONITORING, monitoringCost);
+		tuner.recordCost(PollingWork.ROUTE, routeCost);
+		tuner.recordCost(PollingWork.AUDIO_VOLUME, audioCost);
+		return tuner;
+	}
+}
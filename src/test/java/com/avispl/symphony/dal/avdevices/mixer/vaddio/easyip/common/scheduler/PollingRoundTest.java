@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PollingRoundTest covers the polling of every device once per round within the concurrency budget and the completion of the round
+ */
+@Tag("Mock")
+public class PollingRoundTest {
+
+	@Test
+	void testEveryDeviceIsPolledOnceWithinBudget() throws InterruptedException {
+		List<String> deviceIds = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			deviceIds.add("10.8.0." + i);
+		}
+		Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		PollingRound round = new PollingRound(deviceId -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			polls.computeIfAbsent(deviceId, key -> new AtomicInteger()).incrementAndGet();
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			Assertions.assertTrue(round.start(deviceIds, 3, executor));
+			awaitRound(round);
+			Assertions.assertEquals(deviceIds.size(), polls.size());
+			polls.values().forEach(count -> Assertions.assertEquals(1, count.get()));
+			Assertions.assertTrue(maxRunning.get() <= 3);
+			Assertions.assertEquals(0, round.getPollingCount());
+			Assertions.assertTrue(round.getLastDuration() > 0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testRoundDoesNotStartBeforePreviousOneCompleted() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger polls = new AtomicInteger();
+		PollingRound round = new PollingRound(deviceId -> {
+			polls.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Assertions.assertTrue(round.start(Collections.singletonList("10.8.0.1"), 2, executor));
+			Assertions.assertFalse(round.start(Collections.singletonList("10.8.0.2"), 2, executor));
+			Assertions.assertTrue(round.isRunning());
+			release.countDown();
+			awaitRound(round);
+			Assertions.assertEquals(1, polls.get());
+			Assertions.assertTrue(round.start(Collections.singletonList("10.8.0.2"), 2, executor));
+			awaitRound(round);
+			Assertions.assertEquals(2, polls.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testEmptyRoundCompletesImmediately() {
+		PollingRound round = new PollingRound(deviceId -> Assertions.fail("No device to poll"));
+		Assertions.assertTrue(round.start(Collections.emptyList(), 4, Runnable::run));
+		Assertions.assertFalse(round.isRunning());
+		Assertions.assertEquals(0, round.getPollingCount());
+	}
+
+	@Test
+	void testRejectedPollsCompleteTheRound() {
+		AtomicInteger polls = new AtomicInteger();
+		PollingRound round = new PollingRound(deviceId -> polls.incrementAndGet());
+		Assertions.assertTrue(round.start(Arrays.asList("10.8.0.1", "10.8.0.2"), 2, command -> {
+			throw new RejectedExecutionException();
+		}));
+		Assertions.assertFalse(round.isRunning());
+		Assertions.assertEquals(0, polls.get());
+		Assertions.assertEquals(0, round.getPollingCount());
+	}
+
+	private void awaitRound(PollingRound round) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (round.isRunning() && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		Assertions.assertFalse(round.isRunning());
+	}
+}
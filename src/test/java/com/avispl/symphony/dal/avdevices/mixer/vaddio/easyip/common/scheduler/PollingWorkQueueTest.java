@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * PollingWorkQueueTest covers the oldest-first order of the pending work, the resumable steps and the staleness of the work
+ */
+@Tag("Mock")
+public class PollingWorkQueueTest {
+
+	@Test
+	void testEmptyQueue() {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		Assertions.assertNull(queue.peek());
+		Assertions.assertEquals(0, queue.getOldestPendingAge());
+		Assertions.assertEquals(-1, queue.getStaleness(PollingWork.MONITORING));
+	}
+
+	@Test
+	void testOlderWorkRunsFirst() throws InterruptedException {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.offer(PollingWork.CROSSPOINT_GAIN_SECOND_HALF);
+		Thread.sleep(5);
+		queue.offer(PollingWork.MONITORING);
+		queue.offer(PollingWork.CROSSPOINT_GAIN_SECOND_HALF);
+		Assertions.assertEquals(PollingWork.CROSSPOINT_GAIN_SECOND_HALF, queue.peek());
+		Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList(PollingWork.CROSSPOINT_GAIN_SECOND_HALF, PollingWork.MONITORING)), queue.getPendingWork());
+	}
+
+	@Test
+	void testDeferredWorkMovesBehindOtherWork() throws InterruptedException {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.offer(PollingWork.MONITORING);
+		Thread.sleep(5);
+		queue.offer(PollingWork.ROUTE);
+		Thread.sleep(5);
+		queue.defer(PollingWork.MONITORING);
+		Assertions.assertEquals(PollingWork.ROUTE, queue.peek());
+	}
+
+	@Test
+	void testDeferIgnoresWorkThatIsNotPending() {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.defer(PollingWork.MONITORING);
+		Assertions.assertNull(queue.peek());
+	}
+
+	@Test
+	void testCompleteRecordsStalenessAndClearsSteps() {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.offer(PollingWork.AUDIO_VOLUME);
+		queue.completeStep(PollingWork.AUDIO_VOLUME, "line_out_1");
+		Assertions.assertTrue(queue.isStepCompleted(PollingWork.AUDIO_VOLUME, "line_out_1"));
+		Assertions.assertFalse(queue.isStepCompleted(PollingWork.ROUTE, "line_out_1"));
+		queue.complete(PollingWork.AUDIO_VOLUME);
+		Assertions.assertNull(queue.peek());
+		Assertions.assertFalse(queue.isStepCompleted(PollingWork.AUDIO_VOLUME, "line_out_1"));
+		long staleness = queue.getStaleness(PollingWork.AUDIO_VOLUME);
+		Assertions.assertTrue(staleness >= 0 && staleness < 1000);
+	}
+
+	@Test
+	void testDeferKeepsCompletedSteps() {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.offer(PollingWork.ROUTE);
+		queue.completeStep(PollingWork.ROUTE, "audio route get line_out_1");
+		queue.defer(PollingWork.ROUTE);
+		Assertions.assertTrue(queue.isStepCompleted(PollingWork.ROUTE, "audio route get line_out_1"));
+	}
+
+	@Test
+	void testClearRemovesPendingWork() {
+		PollingWorkQueue queue = new PollingWorkQueue();
+		queue.offer(PollingWork.ROUTE);
+		queue.completeStep(PollingWork.ROUTE, "step");
+		queue.clear();
+		Assertions.assertNull(queue.peek());
+		Assertions.assertFalse(queue.isStepCompleted(PollingWork.ROUTE, "step"));
+	}
+}
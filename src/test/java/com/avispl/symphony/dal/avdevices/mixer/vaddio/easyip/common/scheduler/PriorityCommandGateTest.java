@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PriorityCommandGateTest covers the reentrancy of the gate, the hand-over to the high priority waiters and the yield of the monitoring cycle
+ */
+@Tag("Mock")
+public class PriorityCommandGateTest {
+
+	@Test
+	void testReentrantAcquire() {
+		PriorityCommandGate gate = new PriorityCommandGate();
+		gate.acquire(CommandPriority.LOW);
+		gate.acquire(CommandPriority.HIGH);
+		gate.release();
+		gate.release();
+		Assertions.assertThrows(IllegalMonitorStateException.class, gate::release);
+	}
+
+	@Test
+	void testReleaseByOtherThreadIsRejected() throws InterruptedException {
+		PriorityCommandGate gate = new PriorityCommandGate();
+		gate.acquire(CommandPriority.LOW);
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		Thread thread = new Thread(() -> {
+			try {
+				gate.release();
+			} catch (IllegalMonitorStateException e) {
+				errors.add(e);
+			}
+		});
+		thread.start();
+		thread.join(5000);
+		Assertions.assertEquals(1, errors.size());
+		gate.release();
+	}
+
+	@Test
+	void testHighPriorityWaiterGoesFirst() throws InterruptedException {
+		PriorityCommandGate gate = new PriorityCommandGate();
+		List<CommandPriority> order = Collections.synchronizedList(new ArrayList<>());
+		gate.acquire(CommandPriority.LOW);
+		Thread low = startWaiter(gate, CommandPriority.LOW, order);
+		waitForQueueLength(gate, 1);
+		Thread high = startWaiter(gate, CommandPriority.HIGH, order);
+		waitForQueueLength(gate, 2);
+		gate.release();
+		low.join(5000);
+		high.join(5000);
+		Assertions.assertEquals(2, order.size());
+		Assertions.assertEquals(CommandPriority.HIGH, order.get(0));
+		Assertions.assertEquals(CommandPriority.LOW, order.get(1));
+	}
+
+	@Test
+	void testYieldToHigherPriority() throws InterruptedException {
+		PriorityCommandGate gate = new PriorityCommandGate();
+		List<CommandPriority> order = Collections.synchronizedList(new ArrayList<>());
+		gate.acquire(CommandPriority.LOW);
+		gate.acquire(CommandPriority.LOW);
+		Assertions.assertFalse(gate.yieldToHigherPriority());
+		Thread high = startWaiter(gate, CommandPriority.HIGH, order);
+		waitForQueueLength(gate, 1);
+		Assertions.assertTrue(gate.yieldToHigherPriority());
+		high.join(5000);
+		Assertions.assertEquals(Collections.singletonList(CommandPriority.HIGH), order);
+		Assertions.assertEquals(1, gate.getYieldCount());
+		gate.release();
+		gate.release();
+		Assertions.assertThrows(IllegalMonitorStateException.class, gate::release);
+	}
+
+	/**
+	 * Starts a thread acquiring the gate, recording its priority once it holds the gate
+	 */
+	private static Thread startWaiter(PriorityCommandGate gate, CommandPriority priority, List<CommandPriority> order) {
+		Thread thread = new Thread(() -> {
+			gate.acquire(priority);
+			order.add(priority);
+			gate.release();
+		});
+		thread.start();
+		return thread;
+	}
+
+	private static void waitForQueueLength(PriorityCommandGate gate, int length) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (gate.getQueueLength() < length && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		Assertions.assertEquals(length, gate.getQueueLength());
+	}
+}
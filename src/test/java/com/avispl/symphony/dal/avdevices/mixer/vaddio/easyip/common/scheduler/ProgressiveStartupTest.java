@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.PollingWork;
+
+/**
+ * ProgressiveStartupTest covers the stage order of the startup plan and its early end
+ */
+@Tag("Mock")
+public class ProgressiveStartupTest {
+
+	@Test
+	void testStagesAdvanceWhenCompleted() {
+		ProgressiveStartup startup = newStartup();
+		Assertions.assertTrue(startup.isActive());
+		Assertions.assertEquals(EnumSet.of(PollingWork.ESSENTIAL, PollingWork.CAMERA_DISCOVERY), startup.getStageWork());
+
+		startup.complete(PollingWork.ESSENTIAL);
+		Assertions.assertEquals(EnumSet.of(PollingWork.CAMERA_DISCOVERY), startup.getStageWork());
+		startup.complete(PollingWork.CAMERA_DISCOVERY);
+		Assertions.assertEquals(EnumSet.of(PollingWork.MONITORING), startup.getStageWork());
+
+		startup.complete(PollingWork.MONITORING);
+		Assertions.assertFalse(startup.isActive());
+		Assertions.assertTrue(startup.getStageWork().isEmpty());
+	}
+
+	@Test
+	void testWorkCompletedAheadOfItsStage() {
+		ProgressiveStartup startup = newStartup();
+		startup.complete(PollingWork.MONITORING);
+		Assertions.assertFalse(startup.isPending(PollingWork.MONITORING));
+		startup.complete(PollingWork.ESSENTIAL);
+		startup.complete(PollingWork.CAMERA_DISCOVERY);
+		Assertions.assertFalse(startup.isActive());
+	}
+
+	@Test
+	void testPendingAndPlannedWork() {
+		ProgressiveStartup startup = newStartup();
+		Assertions.assertTrue(startup.isPending(PollingWork.MONITORING));
+		Assertions.assertFalse(startup.isPending(PollingWork.ROUTE));
+		Assertions.assertTrue(startup.isPlanned(PollingWork.MONITORING));
+		Assertions.assertFalse(startup.isPlanned(PollingWork.ROUTE));
+	}
+
+	@Test
+	void testFinishEndsPlan() {
+		ProgressiveStartup startup = newStartup();
+		startup.finish();
+		Assertions.assertFalse(startup.isActive());
+		Assertions.assertFalse(startup.isPending(PollingWork.ESSENTIAL));
+		Assertions.assertTrue(startup.getStageWork().isEmpty());
+	}
+
+	@Test
+	void testEmptyPlanIsInactive() {
+		ProgressiveStartup startup = new ProgressiveStartup();
+		Assertions.assertFalse(startup.isActive());
+		startup.start(Collections.emptyList());
+		Assertions.assertFalse(startup.isActive());
+	}
+
+	private static ProgressiveStartup newStartup() {
+		ProgressiveStartup startup = new ProgressiveStartup();
+		startup.start(Arrays.asList(EnumSet.of(PollingWork.ESSENTIAL, PollingWork.CAMERA_DISCOVERY), EnumSet.of(PollingWork.MONITORING)));
+		return startup;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * SharedCommandSchedulerBenchmarkTest compares the thread count and the throughput of 500 simulated mixers
+ * running on one executor per device and on the shared scheduler.
+ * A simulated mixer blocks for {@link #COMMAND_LATENCY} per command, like a command sent over the SSH session.
+ * The benchmark is not tagged, so it doesn't run with the Mock tests. Run it on Java 8 and on Java 21 to compare platform
+ * and virtual threads, the measurements are published as report entries of the test.
+ */
+public class SharedCommandSchedulerBenchmarkTest {
+	private static final int MIXERS = 500;
+	private static final int COMMANDS_PER_MIXER = 20;
+	private static final long COMMAND_LATENCY = 5;
+	private static final int MAX_CONCURRENCY = ThreadSupport.isVirtual() ? 256 : 32;
+
+	@Test
+	void testThreadCountAndThroughputWith500Mixers(TestReporter testReporter) throws Exception {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		int baseThreads = threadMXBean.getThreadCount();
+
+		List<ExecutorService> executors = new ArrayList<>();
+		List<Executor> dedicatedLanes = new ArrayList<>();
+		for (int i = 0; i < MIXERS; i++) {
+			ExecutorService executor = Executors.newFixedThreadPool(1);
+			executors.add(executor);
+			dedicatedLanes.add(executor);
+		}
+		threadMXBean.resetPeakThreadCount();
+		long dedicatedTime = runMixers(dedicatedLanes);
+		int dedicatedThreads = threadMXBean.getPeakThreadCount();
+		executors.forEach(ExecutorService::shutdownNow);
+		for (ExecutorService executor : executors) {
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		ExecutorService sharedExecutor = ThreadSupport.newExecutor(MAX_CONCURRENCY, "benchmark");
+		SharedCommandScheduler scheduler = new SharedCommandScheduler(MAX_CONCURRENCY, sharedExecutor);
+		List<Executor> sharedLanes = new ArrayList<>();
+		for (int i = 0; i < MIXERS; i++) {
+			sharedLanes.add(scheduler.newLane("mixer-" + i));
+		}
+		threadMXBean.resetPeakThreadCount();
+		long sharedTime = runMixers(sharedLanes);
+		int sharedThreads = threadMXBean.getPeakThreadCount();
+		sharedExecutor.shutdownNow();
+
+		long commands = (long) MIXERS * COMMANDS_PER_MIXER;
+		testReporter.publishEntry("java", System.getProperty("java.version"));
+		testReporter.publishEntry("virtualThreads", String.valueOf(ThreadSupport.isVirtual()));
+		testReporter.publishEntry("dedicatedPeakThreads", String.valueOf(dedicatedThreads));
+		testReporter.publishEntry("dedicatedCommandsPerSecond", String.valueOf(commands * 1000 / Math.max(1, dedicatedTime)));
+		testReporter.publishEntry("sharedPeakThreads", String.valueOf(sharedThreads));
+		testReporter.publishEntry("sharedCommandsPerSecond", String.valueOf(commands * 1000 / Math.max(1, sharedTime)));
+		Assertions.assertTrue(dedicatedThreads >= baseThreads + MIXERS);
+		if (!ThreadSupport.isVirtual()) {
+			Assertions.assertTrue(sharedThreads <= baseThreads + MAX_CONCURRENCY);
+		}
+		Assertions.assertTrue(sharedThreads < dedicatedThreads);
+	}
+
+	/**
+	 * Runs the polling cycle of every simulated mixer on its lane and waits for all of them
+	 *
+	 * @param lanes the lane of every mixer
+	 * @return elapsed time in milliseconds
+	 */
+	private long runMixers(List<Executor> lanes) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(MIXERS * COMMANDS_PER_MIXER);
+		long startTime = System.nanoTime();
+		for (Executor lane : lanes) {
+			for (int i = 0; i < COMMANDS_PER_MIXER; i++) {
+				lane.execute(() -> {
+					try {
+						Thread.sleep(COMMAND_LATENCY);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					done.countDown();
+				});
+			}
+		}
+		Assertions.assertTrue(done.await(2, TimeUnit.MINUTES));
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.mixer.vaddio.easyip.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SharedCommandSchedulerTest covers the ordering of the device lanes and the concurrency cap of the shared scheduler,
+ * with many simulated mixers blocking on every command like a command sent over the SSH session.
+ */
+@Tag("Mock")
+public class SharedCommandSchedulerTest {
+	private static final int MIXERS = 200;
+	private static final int COMMANDS_PER_MIXER = 10;
+	private static final int MAX_CONCURRENCY = 8;
+
+	private ExecutorService executor;
+	private SharedCommandScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		executor = ThreadSupport.newExecutor(MAX_CONCURRENCY, "scheduler-test");
+		scheduler = new SharedCommandScheduler(MAX_CONCURRENCY, executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Every task of every lane completes and the running tasks never exceed the cap
+	 */
+	@Test
+	void testConcurrencyCapWithManyMixers() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(MIXERS * COMMANDS_PER_MIXER);
+		for (int i = 0; i < MIXERS; i++) {
+			SharedCommandScheduler.DeviceLane lane = scheduler.newLane("mixer-" + i);
+			for (int j = 0; j < COMMANDS_PER_MIXER; j++) {
+				lane.execute(() -> {
+					peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(1);
+					running.decrementAndGet();
+					done.countDown();
+				});
+			}
+		}
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+		Assertions.assertTrue(peak.get() <= MAX_CONCURRENCY);
+		Assertions.assertEquals(MIXERS, scheduler.getLaneCount());
+		waitForIdle();
+		Assertions.assertEquals((long) MIXERS * COMMANDS_PER_MIXER, scheduler.getCompletedTasks());
+		Assertions.assertEquals(0, scheduler.getActiveTasks());
+	}
+
+	/**
+	 * The tasks of a lane run one at a time, in submission order
+	 */
+	@Test
+	void testLaneRunsTasksSeriallyInOrder() throws Exception {
+		SharedCommandScheduler.DeviceLane lane = scheduler.newLane("mixer");
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(50);
+		for (int i = 0; i < 50; i++) {
+			int index = i;
+			lane.execute(() -> {
+				peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+				order.add(index);
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+		Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+		Assertions.assertEquals(1, peak.get());
+		for (int i = 0; i < 50; i++) {
+			Assertions.assertEquals(i, order.get(i));
+		}
+	}
+
+	/**
+	 * A closed lane rejects new tasks and releases its slot in the lane count
+	 */
+	@Test
+	void testClosedLaneRejectsTasks() {
+		SharedCommandScheduler.DeviceLane lane = scheduler.newLane("mixer");
+		lane.close();
+		Assertions.assertEquals(0, scheduler.getLaneCount());
+		Assertions.assertThrows(IllegalStateException.class, () -> lane.execute(() -> {
+		}));
+	}
+
+	/**
+	 * Waits for the last tasks to release their slot after counting down the latch
+	 */
+	private void waitForIdle() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while ((scheduler.getActiveTasks() > 0 || scheduler.getCompletedTasks() < (long) MIXERS * COMMANDS_PER_MIXER) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}